@@ -2,6 +2,9 @@ create table IF NOT EXISTS kruize_experiments (experiment_id varchar(255) not nu
 create table IF NOT EXISTS kruize_performance_profiles (name varchar(255) not null, k8s_type varchar(255), profile_version float(53) not null, slo jsonb, primary key (name));
 create table IF NOT EXISTS kruize_recommendations (interval_end_time timestamp(6) not null, experiment_name varchar(255) not null, cluster_name varchar(255), extended_data jsonb, version varchar(255), primary key (experiment_name, interval_end_time)) PARTITION BY RANGE (interval_end_time);
 create table IF NOT EXISTS kruize_results (interval_start_time timestamp(6) not null, interval_end_time timestamp(6) not null, experiment_name varchar(255) not null, cluster_name varchar(255) , duration_minutes float(53) not null, extended_data jsonb, meta_data jsonb, version varchar(255), primary key (experiment_name, interval_end_time, interval_start_time)) PARTITION BY RANGE (interval_end_time);
+create table IF NOT EXISTS kruize_results_metrics (interval_start_time timestamp(6), interval_end_time timestamp(6) not null, experiment_name varchar(255) not null, k8s_object_name varchar(255) not null, k8s_object_type varchar(255), namespace varchar(255) not null, container_name varchar(255) not null, container_image_name varchar(255), metric_name varchar(255) not null, avg float(53), min float(53), max float(53), sum float(53), count integer, median float(53), mode float(53), range float(53), format varchar(255), value float(53), primary key (experiment_name, interval_end_time, k8s_object_name, namespace, container_name, metric_name)) PARTITION BY RANGE (interval_end_time);
+create table IF NOT EXISTS kruize_results_rollup_hourly (experiment_name varchar(255) not null, k8s_object_name varchar(255) not null, namespace varchar(255) not null, container_name varchar(255) not null, bucket_start timestamp(6) not null, interval_count integer not null, pods_max integer not null, cpu_request_max float(53) not null, cpu_request_sketch bytea, memory_usage_sketch bytea, memory_spike_sketch bytea, cpu_format varchar(255), memory_format varchar(255), primary key (experiment_name, k8s_object_name, namespace, container_name, bucket_start));
+create table IF NOT EXISTS kruize_results_rollup_daily (experiment_name varchar(255) not null, k8s_object_name varchar(255) not null, namespace varchar(255) not null, container_name varchar(255) not null, bucket_start timestamp(6) not null, interval_count integer not null, pods_max integer not null, cpu_request_max float(53) not null, cpu_request_sketch bytea, memory_usage_sketch bytea, memory_spike_sketch bytea, cpu_format varchar(255), memory_format varchar(255), primary key (experiment_name, k8s_object_name, namespace, container_name, bucket_start));
 alter table if exists kruize_experiments add constraint UK_experiment_name unique (experiment_name);
 create index IF NOT EXISTS idx_recommendation_experiment_name on kruize_recommendations (experiment_name);
 create index IF NOT EXISTS idx_recommendation_interval_end_time on kruize_recommendations (interval_end_time);
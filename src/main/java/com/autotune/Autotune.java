@@ -24,6 +24,7 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.datasource.DataSourceCollection;
 import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.database.helper.DBConstants;
+import com.autotune.database.helper.PartitionRegistry;
 import com.autotune.database.init.KruizeHibernateUtil;
 import com.autotune.experimentManager.core.ExperimentManager;
 import com.autotune.operator.InitializeDeployment;
@@ -131,6 +132,8 @@ public class Autotune {
             try {
                 session = KruizeHibernateUtil.getSessionFactory().openSession();
                 session.close();
+                // load the existing partitions, so that inserts can create the missing ones upfront
+                PartitionRegistry.getInstance().load();
             } catch (Exception e) {
                 LOGGER.error("DB connection failed! : " + e.getMessage());
                 System.exit(1);
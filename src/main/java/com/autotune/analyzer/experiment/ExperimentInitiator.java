@@ -48,6 +48,11 @@ import static com.autotune.analyzer.utils.AnalyzerErrorConstants.AutotuneObjectE
 public class ExperimentInitiator {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(ExperimentInitiator.class);
+    // Validator instances are thread safe; building the factory once keeps the bootstrap and the constraint
+    // metadata of UpdateResultsAPIObject out of the per request path
+    private static final Validator VALIDATOR = buildValidator();
+    // field name to @SerializedName value, computed once per class
+    private static final Map<Class<?>, Map<String, String>> SERIALIZED_NAMES_MAP = new ConcurrentHashMap<>();
     List<UpdateResultsAPIObject> successUpdateResultsAPIObjects = new ArrayList<>();
     List<UpdateResultsAPIObject> failedUpdateResultsAPIObjects = new ArrayList<>();
     private ValidationOutputData validationOutputData;
@@ -121,13 +126,20 @@ public class ExperimentInitiator {
     }
 
     public void validateAndAddExperimentResults(List<UpdateResultsAPIObject> updateResultsAPIObjects) {
-        List<UpdateResultsAPIObject> failedDBObjects;
-        Validator validator = Validation.byProvider(HibernateValidator.class)
-                .configure()
-                .messageInterpolator(new ParameterMessageInterpolator())
-                .failFast(true)
-                .buildValidatorFactory()
-                .getValidator();
+        List<ExperimentResultData> resultDataList = validateExperimentResults(updateResultsAPIObjects);
+        if (resultDataList.size() > 0) {
+            List<UpdateResultsAPIObject> failedDBObjects = new ExperimentDBService().addResultsToDB(resultDataList);
+            failedUpdateResultsAPIObjects.addAll(failedDBObjects);
+        }
+    }
+
+    /**
+     * Validates the results without saving them, the failed ones are available through getFailedUpdateResultsAPIObjects()
+     *
+     * @param updateResultsAPIObjects results received by updateResults
+     * @return results which passed the validation, ready to be saved
+     */
+    public List<ExperimentResultData> validateExperimentResults(List<UpdateResultsAPIObject> updateResultsAPIObjects) {
         Map<String, KruizeObject> mainKruizeExperimentMAP = new ConcurrentHashMap<>();
         List<String> errorReasons = new ArrayList<>();
         for (UpdateResultsAPIObject object : updateResultsAPIObjects) {
@@ -158,7 +170,7 @@ public class ExperimentInitiator {
                 object.setKruizeObject(mainKruizeExperimentMAP.get(object.getExperimentName()));
                 Set<ConstraintViolation<UpdateResultsAPIObject>> violations = new HashSet<>();
                 try {
-                    violations = validator.validate(object, UpdateResultsAPIObject.FullValidationSequence.class);
+                    violations = VALIDATOR.validate(object, UpdateResultsAPIObject.FullValidationSequence.class);
                     if (violations.isEmpty()) {
                         successUpdateResultsAPIObjects.add(object);
                     } else {
@@ -192,11 +204,7 @@ public class ExperimentInitiator {
                     resultDataList.add(Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(successObj));
                 }
         );
-
-        if (successUpdateResultsAPIObjects.size() > 0) {
-            failedDBObjects = new ExperimentDBService().addResultsToDB(resultDataList);
-            failedUpdateResultsAPIObjects.addAll(failedDBObjects);
-        }
+        return resultDataList;
     }
 
     private String checkVersion(UpdateResultsAPIObject object, Map<String, KruizeObject> mainKruizeExperimentMAP) {
@@ -213,22 +221,37 @@ public class ExperimentInitiator {
         return null;
     }
 
-    public String getSerializedName(String fieldName, Class<?> targetClass) {
+    private static Validator buildValidator() {
+        Validator validator = Validation.byProvider(HibernateValidator.class)
+                .configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .failFast(true)
+                .buildValidatorFactory()
+                .getValidator();
+        // resolve the constraint metadata upfront instead of on the first request
+        validator.getConstraintsForClass(UpdateResultsAPIObject.class);
+        return validator;
+    }
+
+    private static Map<String, String> buildSerializedNames(Class<?> targetClass) {
+        Map<String, String> serializedNames = new HashMap<>();
         Class<?> currentClass = targetClass;
         while (currentClass != null) {
-            try {
-                Field field = currentClass.getDeclaredField(fieldName);
+            for (Field field : currentClass.getDeclaredFields()) {
                 SerializedName annotation = field.getAnnotation(SerializedName.class);
-                if (annotation != null) {
-                    fieldName = annotation.value();
+                // fields of the subclass take precedence over the hidden ones of the superclass
+                if (annotation != null && !serializedNames.containsKey(field.getName())) {
+                    serializedNames.put(field.getName(), annotation.value());
                 }
-            } catch (NoSuchFieldException e) {
-                // Field not found in the current class
-                // Move up to the superclass
-                currentClass = currentClass.getSuperclass();
             }
+            currentClass = currentClass.getSuperclass();
         }
-        return fieldName;
+        return serializedNames;
+    }
+
+    public String getSerializedName(String fieldName, Class<?> targetClass) {
+        return SERIALIZED_NAMES_MAP.computeIfAbsent(targetClass, ExperimentInitiator::buildSerializedNames)
+                .getOrDefault(fieldName, fieldName);
     }
 
     public List<UpdateResultsAPIObject> getSuccessUpdateResultsAPIObjects() {
@@ -4,91 +4,114 @@ import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.IntervalResults;
-import com.autotune.common.utils.CommonUtils;
+import com.autotune.common.utils.Percentiles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
-
-import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.*;
 
 public class PlotManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlotManager.class);
-    private HashMap<Timestamp, IntervalResults> containerResultsMap;
+    private NavigableMap<Timestamp, IntervalResults> containerResultsMap;
     private Terms recommendationTerm;
     private Timestamp monitoringStartTime;
     private Timestamp monitoringEndTime;
 
-    public PlotManager(HashMap<Timestamp, IntervalResults> containerResultsMap, Terms recommendationTerm, Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
+    public PlotManager(NavigableMap<Timestamp, IntervalResults> containerResultsMap, Terms recommendationTerm, Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
         this.containerResultsMap = containerResultsMap;
         this.recommendationTerm = recommendationTerm;
         this.monitoringStartTime = monitoringStartTime;
         this.monitoringEndTime = monitoringEndTime;
     }
 
+    /**
+     * Walks the results of the term once. Each interval is assigned to its datapoint by its offset from the start of
+     * the term, datapoint i covering [start + i * delta, start + (i + 1) * delta] so that an interval ending exactly on
+     * a boundary counts in both datapoints next to it.
+     */
     public PlotData.PlotsData generatePlots() {
-
-        // Convert the HashMap to a TreeMap to maintain sorted order based on IntervalEndTime
-        TreeMap<Timestamp, IntervalResults> sortedResultsHashMap = new TreeMap<>(Collections.reverseOrder());
-        sortedResultsHashMap.putAll(containerResultsMap);
-
-        // Retrieve entries within the specified range
-        Map<Timestamp, IntervalResults> resultInRange = sortedResultsHashMap.subMap(monitoringEndTime, true, monitoringStartTime, true);
-
-        int delimiterNumber = (int) (resultInRange.size() / recommendationTerm.getPlots_datapoints());
-
-        // Convert set to list
-        List<Timestamp> timestampList = new LinkedList<>(resultInRange.keySet());
-        // Sort the LinkedList
-        Collections.sort(timestampList);
+        int datapoints = recommendationTerm.getPlots_datapoints();
+        double daysToAdd = recommendationTerm.getPlots_datapoints_delta_in_days();
+        long millisecondsToAdd = Math.max(1, (long) (daysToAdd * 24 * 60 * 60 * 1000)); // Convert days to milliseconds
+        long startInMillis = monitoringStartTime.getTime();
+
+        // Results of the datapoints, already sorted by IntervalEndTime
+        NavigableMap<Timestamp, IntervalResults> resultInRange = containerResultsMap.subMap(monitoringStartTime, true,
+                new Timestamp(startInMillis + datapoints * millisecondsToAdd), true);
+        int size = resultInRange.size();
+        double[] cpuValues = new double[size];
+        double[] memoryValues = new double[size];
+        boolean[] cpuAvailable = new boolean[size];
+        boolean[] memoryAvailable = new boolean[size];
+        // range [from, to) of the intervals of each datapoint
+        int[] from = new int[datapoints];
+        int[] to = new int[datapoints];
+        Arrays.fill(from, -1);
+
+        int index = 0;
+        for (Map.Entry<Timestamp, IntervalResults> entry : resultInRange.entrySet()) {
+            IntervalResults intervalResults = entry.getValue();
+            cpuAvailable[index] = getUsage(intervalResults, AnalyzerConstants.MetricName.cpuUsage, cpuValues, index);
+            memoryAvailable[index] = getUsage(intervalResults, AnalyzerConstants.MetricName.memoryUsage, memoryValues, index);
+            long offset = entry.getKey().getTime() - startInMillis;
+            int datapoint = (int) (offset / millisecondsToAdd);
+            if (datapoint < datapoints) {
+                addToDatapoint(from, to, datapoint, index);
+            }
+            if (0 == offset % millisecondsToAdd && 0 < datapoint) {
+                addToDatapoint(from, to, datapoint - 1, index);
+            }
+            index++;
+        }
 
         Map<Timestamp, PlotData.PlotPoint> plotsDataMap = new HashMap<>();
-        Timestamp incrementStartTime = monitoringStartTime;
+        double[] values = new double[size];
+        for (int i = 0; i < datapoints; i++) {
+            Timestamp newTimestamp = new Timestamp(startInMillis + (i + 1) * millisecondsToAdd);
+            PlotData.UsageData cpuUsage = null;
+            PlotData.UsageData memoryUsage = null;
+            if (-1 != from[i]) {
+                cpuUsage = getUsageData(cpuValues, cpuAvailable, from[i], to[i], values, "cores");
+                memoryUsage = getUsageData(memoryValues, memoryAvailable, from[i], to[i], values, "MiB");
+            }
+            plotsDataMap.put(newTimestamp, new PlotData.PlotPoint(cpuUsage, memoryUsage));
+        }
 
-        // Convert the Timestamp to a Calendar
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeInMillis(incrementStartTime.getTime());
+        return new PlotData.PlotsData(datapoints, plotsDataMap);
+    }
 
-        for (int i = 0; i < recommendationTerm.getPlots_datapoints(); i++) {
-            // Add days to the Calendar
-            double daysToAdd = recommendationTerm.getPlots_datapoints_delta_in_days();
-            long millisecondsToAdd = (long) (daysToAdd * 24 * 60 * 60 * 1000); // Convert days to milliseconds
-            calendar.add(Calendar.MILLISECOND, (int) millisecondsToAdd);
-            // Convert the modified Calendar back to a Timestamp
-            Timestamp newTimestamp = new Timestamp(calendar.getTimeInMillis());
-            PlotData.UsageData cpuUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true, incrementStartTime, true), AnalyzerConstants.MetricName.cpuUsage, "cores");
-            PlotData.UsageData memoryUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true, incrementStartTime, true), AnalyzerConstants.MetricName.memoryUsage, "MiB");
-            plotsDataMap.put(newTimestamp, new PlotData.PlotPoint(cpuUsage, memoryUsage));
-            incrementStartTime = newTimestamp;
+    private static void addToDatapoint(int[] from, int[] to, int datapoint, int index) {
+        if (-1 == from[datapoint]) {
+            from[datapoint] = index;
         }
+        to[datapoint] = index + 1;
+    }
 
-        return new PlotData.PlotsData(recommendationTerm.getPlots_datapoints(), plotsDataMap);
+    // Sum of the metric of the interval, 0 when it has no aggregation, false when the interval does not have the metric
+    private static boolean getUsage(IntervalResults intervalResults, AnalyzerConstants.MetricName metricName, double[] values, int index) {
+        if (!intervalResults.getMetricResultsMap().containsKey(metricName)) {
+            return false;
+        }
+        MetricResults metricResults = intervalResults.getMetricResultsMap().get(metricName);
+        values[index] = (metricResults != null && metricResults.getAggregationInfoResult() != null) ? metricResults.getAggregationInfoResult().getSum() : 0.0;
+        return true;
     }
 
-    PlotData.UsageData getUsageData(Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName, String format) {
-        // Extract CPU values
-        List<Double> cpuValues = resultInRange.values().stream()
-                .filter(intervalResults -> intervalResults.getMetricResultsMap().containsKey(metricName))
-                .mapToDouble(intervalResults -> {
-                    MetricResults metricResults = intervalResults.getMetricResultsMap().get(metricName);
-                    return (metricResults != null && metricResults.getAggregationInfoResult() != null) ? metricResults.getAggregationInfoResult().getSum() : 0.0;
-                })
-                .boxed() // Convert double to Double
-                .collect(Collectors.toList());
-        if (cpuValues.size() > 0) {
-            double q1 = CommonUtils.percentile(TWENTYFIVE_PERCENTILE, cpuValues);
-            double q3 = CommonUtils.percentile(SEVENTYFIVE_PERCENTILE, cpuValues);
-            double median = CommonUtils.percentile(FIFTY_PERCENTILE, cpuValues);
-            // Find max and min
-            double max = Collections.max(cpuValues);
-            double min = Collections.min(cpuValues);
-            return new PlotData.UsageData(min, q1, median, q3, max, format);
+    PlotData.UsageData getUsageData(double[] usageValues, boolean[] available, int from, int to, double[] values, String format) {
+        // copy the values of the datapoint, the kernel reorders them
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            if (available[i]) {
+                values[size++] = usageValues[i];
+            }
+        }
+        if (size > 0) {
+            // min, quartiles and max in one pass and three selections
+            Percentiles.FiveNumberSummary summary = Percentiles.getFiveNumberSummary(values, 0, size);
+            return new PlotData.UsageData(summary.getMin(), summary.getQ1(), summary.getMedian(), summary.getQ3(), summary.getMax(), format);
         } else {
             return null;
         }
-
-
     }
 }
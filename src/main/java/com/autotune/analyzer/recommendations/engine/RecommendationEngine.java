@@ -7,12 +7,14 @@ import com.autotune.analyzer.recommendations.ContainerRecommendations;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
-import com.autotune.analyzer.recommendations.model.CostBasedRecommendationModel;
-import com.autotune.analyzer.recommendations.model.PerformanceBasedRecommendationModel;
 import com.autotune.analyzer.recommendations.model.RecommendationModel;
+import com.autotune.analyzer.recommendations.model.RecommendationModels;
+import com.autotune.analyzer.recommendations.model.TermRecommendationModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForTimestamp;
 import com.autotune.analyzer.recommendations.objects.TermRecommendations;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.objects.TermResultsView;
 import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
@@ -22,11 +24,16 @@ import com.autotune.common.data.dataSourceQueries.PromQLDataSourceQueries;
 import com.autotune.common.data.metrics.MetricAggregationInfoResults;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.ContainerResultsSeries;
 import com.autotune.common.data.result.IntervalResults;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.datasource.DataSourceQueryExecutors;
+import com.autotune.common.datasource.RangeQueryCache;
+import com.autotune.common.datasource.prometheus.PrometheusRangeResponseParser;
 import com.autotune.common.exceptions.DataSourceNotExist;
 import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.common.utils.CommonUtils;
+import com.autotune.database.helper.RecommendationCache;
 import com.autotune.database.service.ExperimentDBService;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.GenericRestApiClient;
@@ -34,7 +41,6 @@ import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.Utils;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -46,9 +52,13 @@ import java.net.URLEncoder;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.*;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.*;
 import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHARACTER_ENCODING;
 import static com.autotune.analyzer.utils.AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_EXPERIMENT_NAME;
@@ -63,6 +73,16 @@ public class RecommendationEngine {
     private Map<String, Terms> terms;
     private KruizeObject kruizeObject;
     private Timestamp interval_end_time;
+    // set when the results were loaded for recommendationpushdown, the models then use the term aggregates of the DB
+    private boolean resultsPushedDown;
+    // set when the results were loaded for recommendationrollups, the models then use the term aggregates of the rollups
+    private boolean resultsRolledUp;
+    // interval times of each container when only its latest interval is loaded, for the min data and duration checks
+    private Map<List<String>, NavigableMap<Timestamp, Timestamp>> windowIntervalTimes;
+    // bounded pool shared by the engines of all the requests, created when recommendationparallelism is set
+    private static volatile ForkJoinPool recommendationPool;
+    // containers of a namespace fetched by one datasource query, bounds the length of the query URL
+    private static final int MAX_CONTAINERS_PER_QUERY = 50;
 
 
     public RecommendationEngine(String experimentName, String intervalEndTimeStr, String intervalStartTimeStr) {
@@ -72,25 +92,6 @@ public class RecommendationEngine {
         this.init();
     }
 
-    private static int getNumPods(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        Double max_pods_cpu = filteredResultsMap.values()
-                .stream()
-                .map(e -> {
-                    Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-                    double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-                    double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-                    double numPods = 0;
-
-                    if (0 != cpuUsageAvg) {
-                        numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
-                    }
-                    return numPods;
-                })
-                .max(Double::compareTo).get();
-
-        return (int) Math.ceil(max_pods_cpu);
-    }
-
     /**
      * Populates the given map with Prometheus Query Language (PromQL) queries for various metrics.
      *
@@ -108,28 +109,8 @@ public class RecommendationEngine {
     }
 
     private void init() {
-        // Add new models
-        recommendationModels = new ArrayList<>();
-        // Create Cost based model
-        CostBasedRecommendationModel costBasedRecommendationModel = new CostBasedRecommendationModel();
-        // TODO: Create profile based model
-        registerModel(costBasedRecommendationModel);
-        // Create Performance based model
-        PerformanceBasedRecommendationModel performanceBasedRecommendationModel = new PerformanceBasedRecommendationModel();
-        registerModel(performanceBasedRecommendationModel);
-        // TODO: Add profile based once recommendation algos are available
-    }
-
-    private void registerModel(RecommendationModel recommendationModel) {
-        if (null == recommendationModel) {
-            return;
-        }
-        for (RecommendationModel model : getModels()) {
-            if (model.getModelName().equalsIgnoreCase(recommendationModel.getModelName()))
-                return;
-        }
-        // Add models
-        getModels().add(recommendationModel);
+        // the models are registered once per process
+        recommendationModels = RecommendationModels.getModels();
     }
 
     public List<RecommendationModel> getModels() {
@@ -244,8 +225,26 @@ public class RecommendationEngine {
      * @return The KruizeObject containing the prepared recommendations.
      */
     public KruizeObject prepareRecommendations(int calCount) {
+        KruizeObject kruizeObject = createKruizeObject();
+        if (!kruizeObject.getValidation_data().isSuccess())
+            return kruizeObject;
+        return prepareRecommendations(kruizeObject, calCount, false, true);
+    }
+
+    /**
+     * Prepares the recommendations of an experiment loaded by the caller. The bulk API loads the experiments and the
+     * results of their window in batches and saves the recommendations of many experiments at once, so it passes
+     * resultsLoaded and saves the returned KruizeObject itself when saveToDB is false. The recommendation cache is
+     * only used when the results are loaded and the recommendations saved here.
+     *
+     * @param kruizeObject  The experiment, with its results of the window when resultsLoaded is true.
+     * @param calCount      The count of incoming requests.
+     * @param resultsLoaded Whether the results of the window are already in the KruizeObject.
+     * @param saveToDB      Whether to store the recommendations in the DB.
+     * @return The KruizeObject containing the prepared recommendations.
+     */
+    public KruizeObject prepareRecommendations(KruizeObject kruizeObject, int calCount, boolean resultsLoaded, boolean saveToDB) {
         Map<String, KruizeObject> mainKruizeExperimentMAP = new ConcurrentHashMap<>();
-        Map<String, Terms> terms = new HashMap<>();
         ValidationOutputData validationOutputData;
         Timestamp interval_start_time = null;
         if (intervalEndTimeStr != null) {       //TODO remove this check and avoid same if across this flow
@@ -253,16 +252,11 @@ public class RecommendationEngine {
                     intervalEndTimeStr);
             setInterval_end_time(interval_end_time);
         }
-        KruizeObject kruizeObject = createKruizeObject();
-        if (!kruizeObject.getValidation_data().isSuccess())
-            return kruizeObject;
+        kruizeObject.setValidation_data(new ValidationOutputData(true, null, null));
         setKruizeObject(kruizeObject);
         mainKruizeExperimentMAP.put(kruizeObject.getExperimentName(), kruizeObject);
         // continue to generate recommendation when kruizeObject is successfully created
         try {
-            // set the default terms if the terms aren't provided by the user
-            if (kruizeObject.getTerms() == null)
-                KruizeObject.setDefaultTerms(terms, kruizeObject);
             // set the performance profile
             setPerformanceProfile(kruizeObject.getPerformanceProfile());
             // get the datasource
@@ -270,26 +264,41 @@ public class RecommendationEngine {
             String dataSource = kruizeObject.getDataSource();
             LOGGER.debug("Experiment: {},  Datasource: {}", kruizeObject.getExperimentName(), dataSource);
 
-            int maxDay = Terms.getMaxDays(terms);
-            if (intervalEndTimeStr != null) {  //TODO remove this check and avoid same if across this flow
-                interval_start_time = Timestamp.valueOf(Objects.requireNonNull(getInterval_end_time()).toLocalDateTime().minusDays(maxDay));
+            // set the default terms if the terms aren't provided by the user
+            interval_start_time = getIntervalStartTime(kruizeObject, intervalEndTimeStr != null ? getInterval_end_time() : null);
+            // serve a repeated request for the same window from the cache when no results were added to it since
+            RecommendationCache recommendationCache = RecommendationCache.getInstance();
+            long cacheVersion = recommendationCache.getVersion();
+            Long dataVersion = (resultsLoaded || !saveToDB) ? null : getResultsDataVersion(kruizeObject, interval_start_time);
+            if (null != dataVersion) {
+                KruizeObject cachedKruizeObject = recommendationCache.get(experimentName, interval_end_time, dataVersion);
+                if (null != cachedKruizeObject) {
+                    LOGGER.debug("UpdateRecommendations API request count: {} served from cache", calCount);
+                    return cachedKruizeObject;
+                }
             }
             // update the KruizeObject to have the results data from the available datasource
-            try {
-                String errorMsg = getResults(mainKruizeExperimentMAP, kruizeObject, experimentName, interval_start_time, dataSource);
-                if (!errorMsg.isEmpty()) {
-                    throw new Exception(errorMsg);
+            if (!resultsLoaded) {
+                try {
+                    String errorMsg = getResults(mainKruizeExperimentMAP, kruizeObject, experimentName, interval_start_time, dataSource);
+                    if (!errorMsg.isEmpty()) {
+                        throw new Exception(errorMsg);
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("UpdateRecommendations API request count: {} failed", calCount);
+                    kruizeObject = new KruizeObject();
+                    kruizeObject.setValidation_data(new ValidationOutputData(false, e.getMessage(), HttpServletResponse.SC_BAD_REQUEST));
+                    return kruizeObject;
                 }
-            } catch (Exception e) {
-                LOGGER.error("UpdateRecommendations API request count: {} failed", calCount);
-                kruizeObject = new KruizeObject();
-                kruizeObject.setValidation_data(new ValidationOutputData(false, e.getMessage(), HttpServletResponse.SC_BAD_REQUEST));
-                return kruizeObject;
             }
 
             // generate recommendation
             try {
                 generateRecommendations(kruizeObject);
+                if (!saveToDB) {
+                    kruizeObject.setValidation_data(new ValidationOutputData(true, null, null));
+                    return kruizeObject;
+                }
                 // store the recommendations in the DB
                 validationOutputData = addRecommendationsToDB(mainKruizeExperimentMAP, kruizeObject);
                 if (!validationOutputData.isSuccess()) {
@@ -299,6 +308,9 @@ public class RecommendationEngine {
                     LOGGER.debug("UpdateRecommendations API request count: {} success", calCount);
                 }
                 kruizeObject.setValidation_data(validationOutputData);
+                if (validationOutputData.isSuccess() && null != dataVersion) {
+                    recommendationCache.put(experimentName, interval_end_time, dataVersion, kruizeObject, cacheVersion);
+                }
             } catch (Exception e) {
                 LOGGER.error("UpdateRecommendations API request count: {} failed", calCount);
                 LOGGER.error("Failed to create recommendation for experiment: {} and interval_start_time: {} and interval_end_time: {}",
@@ -314,8 +326,39 @@ public class RecommendationEngine {
         return kruizeObject;
     }
 
+    /**
+     * Sets the default terms if the terms aren't provided by the user and returns the start of the window of results
+     * the recommendations are generated from, the longest term before the interval end time.
+     *
+     * @return null when there is no interval end time
+     */
+    public static Timestamp getIntervalStartTime(KruizeObject kruizeObject, Timestamp intervalEndTime) {
+        if (kruizeObject.getTerms() == null)
+            KruizeObject.setDefaultTerms(new HashMap<>(), kruizeObject);
+        if (null == intervalEndTime)
+            return null;
+        return Timestamp.valueOf(intervalEndTime.toLocalDateTime().minusDays(Terms.getMaxDays(kruizeObject.getTerms())));
+    }
+
+    /**
+     * @return number of results of the window, null when the cache is disabled or the results are not in the DB
+     */
+    private Long getResultsDataVersion(KruizeObject kruizeObject, Timestamp intervalStartTime) {
+        if (!RecommendationCache.getInstance().isEnabled() || null == intervalStartTime || null == interval_end_time
+                || !kruizeObject.getExperiment_usecase_type().isRemote_monitoring())
+            return null;
+        try {
+            return new ExperimentDBService().loadResultsCountFromDBByName(kruizeObject, intervalStartTime, interval_end_time);
+        } catch (Exception e) {
+            LOGGER.error("Failed to count the results of experiment {}: {}", experimentName, e.getMessage());
+            return null;
+        }
+    }
+
     public void generateRecommendations(KruizeObject kruizeObject) {
 
+        // every container only updates its own ContainerData, so the containers can be generated concurrently
+        List<ForkJoinTask<?>> containerTasks = new ArrayList<>();
         for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
             for (String containerName : k8sObject.getContainerDataMap().keySet()) {
                 ContainerData containerData = k8sObject.getContainerDataMap().get(containerName);
@@ -325,16 +368,44 @@ public class RecommendationEngine {
                 }
 
                 // generate recommendations based on each container
-                generateRecommendationsBasedOnContainer(containerData, kruizeObject);
+                containerTasks.add(ForkJoinTask.adapt(() -> generateRecommendationsBasedOnContainer(k8sObject, containerData, kruizeObject)));
                 // TODO: generate recommendations based on namespace, kubernetes_object name and type
             }
         }
+        if (KruizeDeploymentInfo.recommendation_parallelism > 1) {
+            getRecommendationPool().invoke(ForkJoinTask.adapt(() -> invokeTasks(containerTasks)));
+        } else {
+            invokeTasks(containerTasks);
+        }
     }
 
-    private void generateRecommendationsBasedOnContainer(ContainerData containerData, KruizeObject kruizeObject) {
+    private static ForkJoinPool getRecommendationPool() {
+        if (null == recommendationPool) {
+            synchronized (RecommendationEngine.class) {
+                if (null == recommendationPool) {
+                    recommendationPool = new ForkJoinPool(KruizeDeploymentInfo.recommendation_parallelism);
+                }
+            }
+        }
+        return recommendationPool;
+    }
+
+    /**
+     * Runs the tasks concurrently when called from the recommendation pool, else one after the other on the calling
+     * thread. The results are read with join in the order of the tasks.
+     */
+    private static void invokeTasks(List<? extends ForkJoinTask<?>> tasks) {
+        if (null != recommendationPool && ForkJoinTask.getPool() == recommendationPool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            tasks.forEach(ForkJoinTask::invoke);
+        }
+    }
+
+    private void generateRecommendationsBasedOnContainer(K8sObject k8sObject, ContainerData containerData, KruizeObject kruizeObject) {
 
         // Get the monitoringEndTime from ResultData's ContainerData. Should have only one element
-        Timestamp monitoringEndTime = containerData.getResults().keySet().stream().max(Timestamp::compareTo).get();
+        Timestamp monitoringEndTime = containerData.getResultsIndex().lastKey();
 
         ContainerRecommendations containerRecommendations = containerData.getContainerRecommendations();
         // Just to make sure the container recommendations object is not empty
@@ -370,8 +441,10 @@ public class RecommendationEngine {
                 timestampRecommendation);
         timestampRecommendation.setCurrentConfig(currentConfig);
 
+        // build the columnar results once for all the terms
+        containerData.getResultsSeries();
         // get recommendations based on terms
-        boolean recommendationAvailable = generateRecommendationsBasedOnTerms(containerData, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
+        boolean recommendationAvailable = generateRecommendationsBasedOnTerms(k8sObject, containerData, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
 
         RecommendationNotification recommendationsLevelNotifications;
         if (recommendationAvailable) {
@@ -409,7 +482,7 @@ public class RecommendationEngine {
 
         for (AnalyzerConstants.ResourceSetting resourceSetting : AnalyzerConstants.ResourceSetting.values()) {
             for (AnalyzerConstants.RecommendationItem recommendationItem : AnalyzerConstants.RecommendationItem.values()) {
-                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValue(containerData.getResults(),
+                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValue(containerData.getResultsIndex(),
                         monitoringEndTime,
                         resourceSetting,
                         recommendationItem,
@@ -498,7 +571,7 @@ public class RecommendationEngine {
         return currentConfig;
     }
 
-    private boolean generateRecommendationsBasedOnTerms(ContainerData containerData, KruizeObject kruizeObject,
+    private boolean generateRecommendationsBasedOnTerms(K8sObject k8sObject, ContainerData containerData, KruizeObject kruizeObject,
                                                         Timestamp monitoringEndTime,
                                                         HashMap<AnalyzerConstants.ResourceSetting,
                                                                 HashMap<AnalyzerConstants.RecommendationItem,
@@ -507,106 +580,259 @@ public class RecommendationEngine {
 
         boolean recommendationAvailable = false;
         double measurementDuration = kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble();
-        for (Map.Entry<String, Terms> termsEntry : kruizeObject.getTerms().entrySet()) {
-            String recommendationTerm = termsEntry.getKey();
-            Terms terms = termsEntry.getValue();
-            LOGGER.debug("recommendationTerm = {}", recommendationTerm);
-            int duration = termsEntry.getValue().getDays();
-            Timestamp monitoringStartTime = Terms.getMonitoringStartTime(monitoringEndTime, duration);
-            LOGGER.debug("monitoringStartTime = {}", monitoringStartTime);
-
+        Map<String, TermResultsSummary> rolledUpTermResultsSummaries = resultsRolledUp
+                ? getTermResultsSummariesFromRollups(kruizeObject, k8sObject, containerData, monitoringEndTime, measurementDuration)
+                : null;
+        // the terms are generated independently and merged in the order of the terms whichever thread generated them
+        List<Map.Entry<String, Terms>> termsEntries = new ArrayList<>(kruizeObject.getTerms().entrySet());
+        List<TermRecommendations> termRecommendationsList = new ArrayList<>();
+        List<ArrayList<RecommendationNotification>> timestampNotificationsList = new ArrayList<>();
+        List<ForkJoinTask<Boolean>> termTasks = new ArrayList<>();
+        for (Map.Entry<String, Terms> termsEntry : termsEntries) {
             TermRecommendations mappedRecommendationForTerm = new TermRecommendations();
-            // Check if there is min data available for the term
-            if (!Terms.checkIfMinDataAvailableForTerm(containerData, terms, monitoringEndTime, measurementDuration)) {
-                RecommendationNotification recommendationNotification = new RecommendationNotification(
-                        RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA);
-                mappedRecommendationForTerm.addNotification(recommendationNotification);
-            } else {
-                ArrayList<RecommendationNotification> termLevelNotifications = new ArrayList<>();
-                for (RecommendationModel model : getModels()) {
-                    boolean isCostModel = false;
-                    boolean isPerfModel = false;
+            ArrayList<RecommendationNotification> timestampNotifications = new ArrayList<>();
+            termRecommendationsList.add(mappedRecommendationForTerm);
+            timestampNotificationsList.add(timestampNotifications);
+            termTasks.add(ForkJoinTask.adapt(() -> generateRecommendationsBasedOnTerm(k8sObject, containerData, kruizeObject,
+                    termsEntry, monitoringEndTime, measurementDuration, currentConfig, rolledUpTermResultsSummaries,
+                    mappedRecommendationForTerm, timestampNotifications)));
+        }
+        invokeTasks(termTasks);
+        for (int i = 0; i < termsEntries.size(); i++) {
+            recommendationAvailable |= termTasks.get(i).join();
+            for (RecommendationNotification recommendationNotification : timestampNotificationsList.get(i)) {
+                timestampRecommendation.addNotification(recommendationNotification);
+            }
+            timestampRecommendation.setRecommendationForTermHashMap(termsEntries.get(i).getKey(), termRecommendationsList.get(i));
+        }
+        return recommendationAvailable;
 
-                    if (model.getModelName().equalsIgnoreCase(RecommendationConstants.RecommendationEngine.ModelNames.COST)) {
-                        isCostModel = true;
-                    }
-                    if (model.getModelName().equalsIgnoreCase(RecommendationConstants.RecommendationEngine.ModelNames.PERFORMANCE)) {
-                        isPerfModel = true;
-                    }
+    }
 
-                    // Now generate a new recommendation for the new data corresponding to the monitoringEndTime
-                    MappedRecommendationForModel mappedRecommendationForModel = generateRecommendationBasedOnModel(
-                            monitoringStartTime,
-                            model,
-                            containerData,
-                            monitoringEndTime,
-                            kruizeObject.getRecommendation_settings(),
-                            currentConfig,
-                            termsEntry);
-
-                    if (null == mappedRecommendationForModel) {
-                        continue;
-                    }
+    /**
+     * Generates the recommendations of the models for a term into mappedRecommendationForTerm, the notifications to
+     * add to the timestamp level are collected into timestampNotifications.
+     *
+     * @return true if a recommendation is available for the term
+     */
+    private boolean generateRecommendationsBasedOnTerm(K8sObject k8sObject, ContainerData containerData, KruizeObject kruizeObject,
+                                                       Map.Entry<String, Terms> termsEntry, Timestamp monitoringEndTime,
+                                                       double measurementDuration,
+                                                       HashMap<AnalyzerConstants.ResourceSetting,
+                                                               HashMap<AnalyzerConstants.RecommendationItem,
+                                                                       RecommendationConfigItem>> currentConfig,
+                                                       Map<String, TermResultsSummary> rolledUpTermResultsSummaries,
+                                                       TermRecommendations mappedRecommendationForTerm,
+                                                       ArrayList<RecommendationNotification> timestampNotifications) {
+        boolean recommendationAvailable = false;
+        String recommendationTerm = termsEntry.getKey();
+        Terms terms = termsEntry.getValue();
+        LOGGER.debug("recommendationTerm = {}", recommendationTerm);
+        int duration = termsEntry.getValue().getDays();
+        Timestamp monitoringStartTime = Terms.getMonitoringStartTime(monitoringEndTime, duration);
+        LOGGER.debug("monitoringStartTime = {}", monitoringStartTime);
+
+        TermResultsSummary termResultsSummary = null;
+        TermResultsView termResultsView = null;
+        NavigableMap<Timestamp, Timestamp> intervalTimes = getWindowIntervalTimes(k8sObject, containerData);
+        boolean minDataAvailable = null == intervalTimes
+                ? Terms.checkIfMinDataAvailableForTerm(containerData, terms, monitoringEndTime, measurementDuration)
+                : Terms.checkIfMinDataAvailableForTerm(intervalTimes.navigableKeySet(), terms, monitoringEndTime, measurementDuration);
+        if (minDataAvailable && resultsPushedDown) {
+            termResultsSummary = getTermResultsSummary(k8sObject, containerData, monitoringStartTime, monitoringEndTime);
+            minDataAvailable = null != termResultsSummary;
+        } else if (minDataAvailable && resultsRolledUp) {
+            termResultsSummary = rolledUpTermResultsSummaries.get(recommendationTerm);
+            minDataAvailable = null != termResultsSummary;
+        } else if (minDataAvailable) {
+            // the per-interval values are extracted once and shared by all the models
+            ContainerResultsSeries resultsSeries = containerData.getResultsSeries();
+            termResultsView = RecommendationUtils.getTermResultsView(resultsSeries,
+                    resultsSeries.fromIndex(monitoringStartTime), resultsSeries.toIndex(monitoringEndTime));
+            termResultsSummary = RecommendationUtils.getTermResultsSummary(termResultsView,
+                    new int[]{COST_CPU_PERCENTILE, PERFORMANCE_CPU_PERCENTILE},
+                    new int[]{COST_MEMORY_PERCENTILE, PERFORMANCE_MEMORY_PERCENTILE});
+            minDataAvailable = null != termResultsSummary;
+        }
+        // Check if there is min data available for the term
+        if (!minDataAvailable) {
+            RecommendationNotification recommendationNotification = new RecommendationNotification(
+                    RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA);
+            mappedRecommendationForTerm.addNotification(recommendationNotification);
+        } else {
+            ArrayList<RecommendationNotification> termLevelNotifications = new ArrayList<>();
+            // Now generate a new recommendation for the new data corresponding to the monitoringEndTime
+            List<RecommendationModel> models = getModels();
+            // the discovered models need the per-interval values, which are not loaded for the pushed down or rolled up terms
+            List<TermRecommendationModel> termModels = null == termResultsView ? List.of() : RecommendationModels.getTermModels();
+            List<String> modelNames = new ArrayList<>();
+            List<ForkJoinTask<MappedRecommendationForModel>> modelTasks = new ArrayList<>();
+            for (RecommendationModel model : models) {
+                TermResultsSummary finalTermResultsSummary = termResultsSummary;
+                modelNames.add(model.getModelName());
+                modelTasks.add(ForkJoinTask.adapt(() -> generateRecommendationBasedOnModel(
+                        monitoringStartTime,
+                        model,
+                        null,
+                        containerData,
+                        monitoringEndTime,
+                        kruizeObject.getRecommendation_settings(),
+                        currentConfig,
+                        termsEntry,
+                        finalTermResultsSummary,
+                        null)));
+            }
+            for (TermRecommendationModel termModel : termModels) {
+                TermResultsView finalTermResultsView = termResultsView;
+                modelNames.add(termModel.getModelName());
+                modelTasks.add(ForkJoinTask.adapt(() -> generateRecommendationBasedOnModel(
+                        monitoringStartTime,
+                        null,
+                        termModel,
+                        containerData,
+                        monitoringEndTime,
+                        kruizeObject.getRecommendation_settings(),
+                        currentConfig,
+                        termsEntry,
+                        null,
+                        finalTermResultsView)));
+            }
+            invokeTasks(modelTasks);
+            for (int i = 0; i < modelNames.size(); i++) {
+                String modelName = modelNames.get(i);
+                boolean isCostModel = false;
+                boolean isPerfModel = false;
+
+                if (modelName.equalsIgnoreCase(RecommendationConstants.RecommendationEngine.ModelNames.COST)) {
+                    isCostModel = true;
+                }
+                if (modelName.equalsIgnoreCase(RecommendationConstants.RecommendationEngine.ModelNames.PERFORMANCE)) {
+                    isPerfModel = true;
+                }
 
-                    // Adding the term level recommendation availability after confirming the recommendation exists
-                    RecommendationNotification rn = RecommendationNotification.getNotificationForTermAvailability(recommendationTerm);
-                    if (null != rn) {
-                        timestampRecommendation.addNotification(rn);
-                    }
+                MappedRecommendationForModel mappedRecommendationForModel = modelTasks.get(i).join();
 
-                    RecommendationNotification recommendationNotification = null;
-                    if (isCostModel) {
-                        // Setting it as at least one recommendation available
-                        recommendationAvailable = true;
-                        recommendationNotification = new RecommendationNotification(
-                                RecommendationConstants.RecommendationNotification.INFO_COST_RECOMMENDATIONS_AVAILABLE
-                        );
-                    }
+                if (null == mappedRecommendationForModel) {
+                    continue;
+                }
 
-                    if (isPerfModel) {
-                        // Setting it as at least one recommendation available
-                        recommendationAvailable = true;
-                        recommendationNotification = new RecommendationNotification(
-                                RecommendationConstants.RecommendationNotification.INFO_PERFORMANCE_RECOMMENDATIONS_AVAILABLE
-                        );
-                    }
+                // Adding the term level recommendation availability after confirming the recommendation exists
+                RecommendationNotification rn = RecommendationNotification.getNotificationForTermAvailability(recommendationTerm);
+                if (null != rn) {
+                    timestampNotifications.add(rn);
+                }
 
-                    if (null != recommendationNotification) {
-                        termLevelNotifications.add(recommendationNotification);
-                    } else {
-                        recommendationNotification = new RecommendationNotification(
-                                RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA
-                        );
-                        termLevelNotifications.add(recommendationNotification);
-                    }
-                    mappedRecommendationForTerm.setRecommendationForEngineHashMap(model.getModelName(), mappedRecommendationForModel);
+                RecommendationNotification recommendationNotification = null;
+                if (isCostModel) {
+                    // Setting it as at least one recommendation available
+                    recommendationAvailable = true;
+                    recommendationNotification = new RecommendationNotification(
+                            RecommendationConstants.RecommendationNotification.INFO_COST_RECOMMENDATIONS_AVAILABLE
+                    );
                 }
 
-                for (RecommendationNotification recommendationNotification : termLevelNotifications) {
-                    mappedRecommendationForTerm.addNotification(recommendationNotification);
+                if (isPerfModel) {
+                    // Setting it as at least one recommendation available
+                    recommendationAvailable = true;
+                    recommendationNotification = new RecommendationNotification(
+                            RecommendationConstants.RecommendationNotification.INFO_PERFORMANCE_RECOMMENDATIONS_AVAILABLE
+                    );
                 }
-                mappedRecommendationForTerm.setMonitoringStartTime(monitoringStartTime);
-            }
-            Terms.setDurationBasedOnTerm(containerData, mappedRecommendationForTerm, recommendationTerm);
-            if (KruizeDeploymentInfo.plots == true) {
-                if (null != monitoringStartTime) {
-                    mappedRecommendationForTerm.setPlots(new PlotManager(containerData.getResults(), terms, monitoringStartTime, monitoringEndTime).generatePlots());
+
+                if (i >= models.size()) {
+                    // the discovered models have no notification of their own
+                    recommendationAvailable = true;
+                } else if (null != recommendationNotification) {
+                    termLevelNotifications.add(recommendationNotification);
+                } else {
+                    recommendationNotification = new RecommendationNotification(
+                            RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA
+                    );
+                    termLevelNotifications.add(recommendationNotification);
                 }
+                mappedRecommendationForTerm.setRecommendationForEngineHashMap(modelName, mappedRecommendationForModel);
             }
-            timestampRecommendation.setRecommendationForTermHashMap(recommendationTerm, mappedRecommendationForTerm);
 
+            for (RecommendationNotification recommendationNotification : termLevelNotifications) {
+                mappedRecommendationForTerm.addNotification(recommendationNotification);
+            }
+            mappedRecommendationForTerm.setMonitoringStartTime(monitoringStartTime);
+        }
+        if (null == intervalTimes) {
+            Terms.setDurationBasedOnTerm(containerData, mappedRecommendationForTerm, recommendationTerm);
+        } else {
+            Terms.setDurationBasedOnTerm(Terms.getDurationSummation(intervalTimes), mappedRecommendationForTerm, recommendationTerm);
+        }
+        if (KruizeDeploymentInfo.plots == true) {
+            if (null != monitoringStartTime) {
+                mappedRecommendationForTerm.setPlots(new PlotManager(containerData.getResultsIndex(), terms, monitoringStartTime, monitoringEndTime).generatePlots());
+            }
         }
         return recommendationAvailable;
+    }
 
+    /**
+     * @return interval start times by end time of the container when only its latest interval is loaded, else null
+     */
+    private NavigableMap<Timestamp, Timestamp> getWindowIntervalTimes(K8sObject k8sObject, ContainerData containerData) {
+        if (!resultsPushedDown && !resultsRolledUp)
+            return null;
+        NavigableMap<Timestamp, Timestamp> intervalTimes = windowIntervalTimes.get(ExperimentDBService.getContainerKey(
+                k8sObject.getName(), k8sObject.getNamespace(), containerData.getContainer_name()));
+        return null == intervalTimes ? Collections.emptyNavigableMap() : intervalTimes;
     }
 
-    private MappedRecommendationForModel generateRecommendationBasedOnModel(Timestamp monitoringStartTime, RecommendationModel model, ContainerData containerData,
+    private TermResultsSummary getTermResultsSummary(K8sObject k8sObject, ContainerData containerData,
+                                                     Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
+        try {
+            return new ExperimentDBService().loadTermResultsSummary(experimentName, k8sObject, containerData.getContainer_name(),
+                    monitoringStartTime, monitoringEndTime);
+        } catch (Exception e) {
+            LOGGER.error("Failed to load the term aggregates of container {} of experiment {}: {}",
+                    containerData.getContainer_name(), experimentName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds the aggregates of the terms having the min data from the rollups, all the terms of the container at once.
+     */
+    private Map<String, TermResultsSummary> getTermResultsSummariesFromRollups(KruizeObject kruizeObject, K8sObject k8sObject, ContainerData containerData,
+                                                                              Timestamp monitoringEndTime, double measurementDuration) {
+        Map<String, Timestamp> termStartTimes = new HashMap<>();
+        Map<String, Integer> expectedIntervalCounts = new HashMap<>();
+        NavigableMap<Timestamp, Timestamp> intervalTimes = getWindowIntervalTimes(k8sObject, containerData);
+        for (Map.Entry<String, Terms> termsEntry : kruizeObject.getTerms().entrySet()) {
+            if (!Terms.checkIfMinDataAvailableForTerm(intervalTimes.navigableKeySet(), termsEntry.getValue(), monitoringEndTime, measurementDuration))
+                continue;
+            Timestamp monitoringStartTime = Terms.getMonitoringStartTime(monitoringEndTime, termsEntry.getValue().getDays());
+            termStartTimes.put(termsEntry.getKey(), monitoringStartTime);
+            expectedIntervalCounts.put(termsEntry.getKey(), intervalTimes.subMap(monitoringStartTime, true, monitoringEndTime, true).size());
+        }
+        try {
+            return new ExperimentDBService().loadTermResultsSummariesFromRollups(kruizeObject, k8sObject, containerData.getContainer_name(),
+                    monitoringEndTime, termStartTimes, expectedIntervalCounts);
+        } catch (Exception e) {
+            LOGGER.error("Failed to load the rollups of container {} of experiment {}: {}",
+                    containerData.getContainer_name(), experimentName, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Generates the recommendation of a built in model from the aggregates of the term, or of a discovered model from
+     * the per-interval values of the term. A failing discovered model is left out of the recommendations.
+     */
+    private MappedRecommendationForModel generateRecommendationBasedOnModel(Timestamp monitoringStartTime, RecommendationModel model,
+                                                                            TermRecommendationModel termModel, ContainerData containerData,
                                                                             Timestamp monitoringEndTime,
                                                                             RecommendationSettings recommendationSettings,
                                                                             HashMap<AnalyzerConstants.ResourceSetting,
                                                                                     HashMap<AnalyzerConstants.RecommendationItem,
                                                                                             RecommendationConfigItem>> currentConfigMap,
-                                                                            Map.Entry<String, Terms> termEntry) {
+                                                                            Map.Entry<String, Terms> termEntry,
+                                                                            TermResultsSummary termResultsSummary,
+                                                                            TermResultsView termResultsView) {
 
         MappedRecommendationForModel mappedRecommendationForModel = new MappedRecommendationForModel();
         // Set CPU threshold to default
@@ -651,23 +877,28 @@ public class RecommendationEngine {
             }
         }
         if (null != monitoringStartTime) {
-            Timestamp finalMonitoringStartTime = monitoringStartTime;
-            Map<Timestamp, IntervalResults> filteredResultsMap = containerData.getResults().entrySet().stream()
-                    .filter((x -> ((x.getKey().compareTo(finalMonitoringStartTime) >= 0)
-                            && (x.getKey().compareTo(monitoringEndTime) <= 0))))
-                    .collect((Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
-            // Set number of pods
-            int numPods = getNumPods(filteredResultsMap);
-
-            mappedRecommendationForModel.setPodsCount(numPods);
-
+            int numPods;
             // Pass Notification object to all callers to update the notifications required
             ArrayList<RecommendationNotification> notifications = new ArrayList<>();
-
-            // Get the Recommendation Items
-            RecommendationConfigItem recommendationCpuRequest = model.getCPURequestRecommendation(filteredResultsMap, notifications);
-            RecommendationConfigItem recommendationMemRequest = model.getMemoryRequestRecommendation(filteredResultsMap, notifications);
+            RecommendationConfigItem recommendationCpuRequest;
+            RecommendationConfigItem recommendationMemRequest;
+            if (null != termModel) {
+                numPods = termResultsView.getPodsCount();
+                try {
+                    recommendationCpuRequest = termModel.getCPURequestRecommendation(termResultsView, notifications);
+                    recommendationMemRequest = termModel.getMemoryRequestRecommendation(termResultsView, notifications);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Recommendation model {} failed for container {}: {}", termModel.getModelName(),
+                            containerData.getContainer_name(), e.getMessage());
+                    return null;
+                }
+            } else {
+                // Aggregates of the term, computed once per term from the results series, the rollups or by the DB
+                numPods = termResultsSummary.getPodsCount();
+                recommendationCpuRequest = model.getCPURequestRecommendation(termResultsSummary, notifications);
+                recommendationMemRequest = model.getMemoryRequestRecommendation(termResultsSummary, notifications);
+            }
+            mappedRecommendationForModel.setPodsCount(numPods);
 
             // Get the Recommendation Items
             // Calling requests on limits as we are maintaining limits and requests as same
@@ -1376,7 +1607,23 @@ public class RecommendationEngine {
         // get data from the DB in case of remote monitoring
         if (kruizeObject.getExperiment_usecase_type().isRemote_monitoring()) {
             try {
-                boolean resultsAvailable = new ExperimentDBService().loadResultsFromDBByName(mainKruizeExperimentMAP, experimentName, intervalStartTime, interval_end_time);
+                ExperimentDBService experimentDBService = new ExperimentDBService();
+                boolean resultsAvailable;
+                // plots are built from the results of every interval, so they are loaded in full when plots are enabled
+                if (KruizeDeploymentInfo.recommendation_push_down && KruizeDeploymentInfo.typed_results_metrics
+                        && !KruizeDeploymentInfo.plots && null != intervalStartTime && null != interval_end_time) {
+                    windowIntervalTimes = experimentDBService.loadResultsWindowFromDBByName(mainKruizeExperimentMAP, experimentName, intervalStartTime, interval_end_time, true);
+                    resultsPushedDown = null != windowIntervalTimes && !windowIntervalTimes.isEmpty();
+                } else if (KruizeDeploymentInfo.recommendation_rollups && !KruizeDeploymentInfo.plots
+                        && null != intervalStartTime && null != interval_end_time) {
+                    windowIntervalTimes = experimentDBService.loadResultsWindowFromDBByName(mainKruizeExperimentMAP, experimentName, intervalStartTime, interval_end_time, false);
+                    resultsRolledUp = null != windowIntervalTimes && !windowIntervalTimes.isEmpty();
+                }
+                if (null != windowIntervalTimes) {
+                    resultsAvailable = !windowIntervalTimes.isEmpty();
+                } else {
+                    resultsAvailable = experimentDBService.loadResultsFromDBByName(mainKruizeExperimentMAP, experimentName, intervalStartTime, interval_end_time);
+                }
                 if (!resultsAvailable) {
                     SimpleDateFormat dateFormat = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
                     errorMsg = String.format(AnalyzerErrorConstants.AutotuneObjectErrors.NO_METRICS_AVAILABLE,
@@ -1422,6 +1669,10 @@ public class RecommendationEngine {
                     KruizeConstants.JSONKeys.MAX, KruizeConstants.JSONKeys.MIN);
             Double measurementDurationMinutesInDouble = kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble();
             List<K8sObject> kubernetes_objects = kruizeObject.getKubernetes_objects();
+            // results of the containers in the order of the containers, and the queries of all the containers
+            Map<ContainerData, HashMap<Timestamp, IntervalResults>> containerDataResultsMap = new LinkedHashMap<>();
+            Map<String, ContainerGroup> containerGroups = new LinkedHashMap<>();
+            List<MetricQuery> metricQueries = new ArrayList<>();
 
             // Iterate over Kubernetes objects
             for (K8sObject k8sObject : kubernetes_objects) {
@@ -1464,11 +1715,30 @@ public class RecommendationEngine {
                         interval_start_time_epoc = interval_start_time.getTime() / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC
                                 - ((long) interval_start_time.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                     }
-                    HashMap<Timestamp, IntervalResults> containerDataResults = new HashMap<>();
-                    IntervalResults intervalResults;
-                    HashMap<AnalyzerConstants.MetricName, MetricResults> resMap;
-                    MetricResults metricResults;
-                    MetricAggregationInfoResults metricAggregationInfoResults;
+                    containerDataResultsMap.put(containerData, new HashMap<>());
+                    // the containers of a namespace sharing the same window are queried together
+                    String groupKey = namespace + "|" + interval_start_time_epoc + "|" + interval_end_time_epoc;
+                    ContainerGroup containerGroup = containerGroups.get(groupKey);
+                    if (null == containerGroup) {
+                        containerGroup = new ContainerGroup(namespace, interval_start_time_epoc, interval_end_time_epoc);
+                        containerGroups.put(groupKey, containerGroup);
+                    }
+                    containerGroup.containers.computeIfAbsent(containerName, name -> new ArrayList<>()).add(containerData);
+                }
+            }
+
+            for (ContainerGroup containerGroup : containerGroups.values()) {
+                List<String> containerNames = new ArrayList<>(containerGroup.containers.keySet());
+                for (int from = 0; from < containerNames.size(); from += MAX_CONTAINERS_PER_QUERY) {
+                    Map<String, List<ContainerData>> batchContainers = new HashMap<>();
+                    StringJoiner containerRegex = new StringJoiner("|");
+                    for (String containerName : containerNames.subList(from, Math.min(from + MAX_CONTAINERS_PER_QUERY, containerNames.size()))) {
+                        batchContainers.put(containerName, containerGroup.containers.get(containerName));
+                        containerRegex.add(escapePromQLRegex(containerName));
+                    }
+                    String namespace = containerGroup.namespace;
+                    // regex matching all the containers of the batch
+                    String containerName = containerRegex.toString();
                     // Iterate over metrics and aggregation methods
                     for (Map.Entry<AnalyzerConstants.MetricName, String> metricEntry : promQls.entrySet()) {
                         for (String methodName : aggregationMethods) {
@@ -1497,85 +1767,184 @@ public class RecommendationEngine {
                                 promQL = String.format(metricEntry.getValue(), methodName, namespace, containerName);
                                 format = KruizeConstants.JSONKeys.GIBIBYTE;
                             }
-                            // If promQL is determined, fetch metrics from the datasource
+                            // If promQL is determined, queue the query to the datasource
                             if (promQL != null) {
                                 LOGGER.info(promQL);
-                                String podMetricsUrl;
-                                try {
-                                    podMetricsUrl = String.format(KruizeConstants.DataSourceConstants.DATASOURCE_ENDPOINT_WITH_QUERY,
-                                            dataSourceInfo.getUrl(),
-                                            URLEncoder.encode(promQL, CHARACTER_ENCODING),
-                                            interval_start_time_epoc,
-                                            interval_end_time_epoc,
-                                            measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
-                                    LOGGER.info(podMetricsUrl);
-                                    JSONObject genericJsonObject = new GenericRestApiClient(podMetricsUrl).fetchMetricsJson("get", "");
-                                    JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                                    JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
-                                    // Process fetched metrics
-                                    if (null != resultArray && !resultArray.isEmpty()) {
-                                        resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(
-                                                        KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT).get(0)
-                                                .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                        .DataSourceQueryJSONKeys.VALUES);
-                                        sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-
-                                        // Iterate over fetched metrics
-                                        Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                        ;
-                                        for (JsonElement element : resultArray) {
-                                            JsonArray valueArray = element.getAsJsonArray();
-                                            long epochTime = valueArray.get(0).getAsLong();
-                                            double value = valueArray.get(1).getAsDouble();
-                                            String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                            Date date = sdf.parse(timestamp);
-                                            Timestamp eTime = new Timestamp(date.getTime());
-
-                                            // Prepare interval results
-                                            if (containerDataResults.containsKey(eTime)) {
-                                                intervalResults = containerDataResults.get(eTime);
-                                                resMap = intervalResults.getMetricResultsMap();
-                                            } else {
-                                                intervalResults = new IntervalResults();
-                                                resMap = new HashMap<>();
-                                            }
-                                            if (resMap.containsKey(metricEntry.getKey())) {
-                                                metricResults = resMap.get(metricEntry.getKey());
-                                                metricAggregationInfoResults = metricResults.getAggregationInfoResult();
-                                            } else {
-                                                metricResults = new MetricResults();
-                                                metricAggregationInfoResults = new MetricAggregationInfoResults();
-                                            }
-                                            Method method = MetricAggregationInfoResults.class.getDeclaredMethod("set" + methodName.substring(0, 1).toUpperCase() + methodName.substring(1), Double.class);
-                                            method.invoke(metricAggregationInfoResults, value);
-                                            metricAggregationInfoResults.setFormat(format);
-                                            metricResults.setAggregationInfoResult(metricAggregationInfoResults);
-                                            metricResults.setName(String.valueOf(metricEntry.getKey()));
-                                            metricResults.setFormat(format);
-                                            resMap.put(metricEntry.getKey(), metricResults);
-                                            intervalResults.setMetricResultsMap(resMap);
-                                            intervalResults.setIntervalStartTime(sTime);  //Todo this will change
-                                            intervalResults.setIntervalEndTime(eTime);
-                                            intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
-                                                    / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
-                                                    * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
-                                            containerDataResults.put(eTime, intervalResults);
-                                            sTime = eTime;
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    throw new RuntimeException(e);
-                                }
+                                metricQueries.add(new MetricQuery(batchContainers, metricEntry.getKey(), methodName, format,
+                                        dataSourceInfo, promQL, containerGroup.intervalStartTimeEpoc, containerGroup.intervalEndTimeEpoc,
+                                        measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE));
                             }
                         }
                     }
-                    containerData.setResults(containerDataResults);
-                    setInterval_end_time(Collections.max(containerDataResults.keySet()));    //TODO Temp fix invalide date is set if experiment having two container with different last seen date
                 }
             }
+
+            // Run the queries of all the containers concurrently, the results are merged as they are received
+            DataSourceQueryExecutors.invokeAll(dataSourceInfo.getName(), metricQueries, metricQuery -> {
+                try {
+                    // the series of the containers of the query are told apart by their container label
+                    for (Map.Entry<String, PrometheusRangeResponseParser.Series> containerValues : metricQuery.values.entrySet()) {
+                        List<ContainerData> containers = metricQuery.containers.get(containerValues.getKey());
+                        if (null == containers)
+                            continue;
+                        for (ContainerData containerData : containers) {
+                            addMetricQueryResults(metricQuery, containerValues.getValue(), containerDataResultsMap.get(containerData));
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            for (Map.Entry<ContainerData, HashMap<Timestamp, IntervalResults>> containerDataResults : containerDataResultsMap.entrySet()) {
+                containerDataResults.getKey().setResults(containerDataResults.getValue());
+                setInterval_end_time(Collections.max(containerDataResults.getValue().keySet()));    //TODO Temp fix invalide date is set if experiment having two container with different last seen date
+            }
         } catch (Exception e) {
             e.printStackTrace();
             throw new Exception("Exception occurred while fetching metrics from the datasource: " + e.getMessage());
         }
     }
+
+    /**
+     * Escapes the regex metacharacters of a label value, inside a double quoted PromQL string.
+     */
+    private static String escapePromQLRegex(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if ('\\' == c)
+                escaped.append("\\\\\\");
+            else if (".+*?()|[]{}^$".indexOf(c) >= 0)
+                escaped.append("\\\\");
+            else if ('"' == c)
+                escaped.append('\\');
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Merges the values of a container series of a range query into the interval results of the container, by
+     * interval end time.
+     */
+    private static void addMetricQueryResults(MetricQuery metricQuery, PrometheusRangeResponseParser.Series series,
+                                              HashMap<Timestamp, IntervalResults> containerDataResults) throws Exception {
+        IntervalResults intervalResults;
+        HashMap<AnalyzerConstants.MetricName, MetricResults> resMap;
+        MetricResults metricResults;
+        MetricAggregationInfoResults metricAggregationInfoResults;
+        Method method = MetricAggregationInfoResults.class.getDeclaredMethod("set" + metricQuery.methodName.substring(0, 1).toUpperCase()
+                + metricQuery.methodName.substring(1), Double.class);
+
+        // Iterate over fetched metrics
+        Timestamp sTime = new Timestamp(metricQuery.intervalStartTimeEpoc);
+        for (int i = 0; i < series.size(); i++) {
+            double value = series.getValue(i);
+            Timestamp eTime = new Timestamp(series.getTimeInSeconds(i) * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+
+            // Prepare interval results
+            if (containerDataResults.containsKey(eTime)) {
+                intervalResults = containerDataResults.get(eTime);
+                resMap = intervalResults.getMetricResultsMap();
+            } else {
+                intervalResults = new IntervalResults();
+                resMap = new HashMap<>();
+            }
+            if (resMap.containsKey(metricQuery.metricName)) {
+                metricResults = resMap.get(metricQuery.metricName);
+                metricAggregationInfoResults = metricResults.getAggregationInfoResult();
+            } else {
+                metricResults = new MetricResults();
+                metricAggregationInfoResults = new MetricAggregationInfoResults();
+            }
+            method.invoke(metricAggregationInfoResults, value);
+            metricAggregationInfoResults.setFormat(metricQuery.format);
+            metricResults.setAggregationInfoResult(metricAggregationInfoResults);
+            metricResults.setName(String.valueOf(metricQuery.metricName));
+            metricResults.setFormat(metricQuery.format);
+            resMap.put(metricQuery.metricName, metricResults);
+            intervalResults.setMetricResultsMap(resMap);
+            intervalResults.setIntervalStartTime(sTime);  //Todo this will change
+            intervalResults.setIntervalEndTime(eTime);
+            intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
+                    / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
+                    * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
+            containerDataResults.put(eTime, intervalResults);
+            sTime = eTime;
+        }
+    }
+
+    /**
+     * Range query of one aggregation of a metric of the containers of a namespace, run on the query threads of the
+     * datasource, which only fetch and parse the response. When rangequerycachesize is set, only the steps missing from
+     * the cache are fetched.
+     */
+    private static class MetricQuery implements Callable<MetricQuery> {
+        // containers of the experiment by container name, containers of several workloads can share a name
+        private final Map<String, List<ContainerData>> containers;
+        private final AnalyzerConstants.MetricName metricName;
+        private final String methodName;
+        private final String format;
+        private final DataSourceInfo dataSourceInfo;
+        private final String promQL;
+        private final long intervalStartTimeEpoc;
+        private final long intervalEndTimeEpoc;
+        private final long stepInSeconds;
+        // samples of the series of the response by container label
+        private Map<String, PrometheusRangeResponseParser.Series> values = Map.of();
+
+        private MetricQuery(Map<String, List<ContainerData>> containers, AnalyzerConstants.MetricName metricName, String methodName,
+                            String format, DataSourceInfo dataSourceInfo, String promQL, long intervalStartTimeEpoc,
+                            long intervalEndTimeEpoc, long stepInSeconds) {
+            this.containers = containers;
+            this.metricName = metricName;
+            this.methodName = methodName;
+            this.format = format;
+            this.dataSourceInfo = dataSourceInfo;
+            this.promQL = promQL;
+            this.intervalStartTimeEpoc = intervalStartTimeEpoc;
+            this.intervalEndTimeEpoc = intervalEndTimeEpoc;
+            this.stepInSeconds = stepInSeconds;
+        }
+
+        @Override
+        public MetricQuery call() throws Exception {
+            RangeQueryCache rangeQueryCache = RangeQueryCache.getInstance();
+            if (rangeQueryCache.isEnabled()) {
+                values = rangeQueryCache.fetch(dataSourceInfo.getName(), promQL, intervalStartTimeEpoc, intervalEndTimeEpoc,
+                        stepInSeconds, this::fetch);
+            } else {
+                values = fetch(intervalStartTimeEpoc, intervalEndTimeEpoc);
+            }
+            return this;
+        }
+
+        private Map<String, PrometheusRangeResponseParser.Series> fetch(long startInSeconds, long endInSeconds) throws Exception {
+            String podMetricsUrl = String.format(KruizeConstants.DataSourceConstants.DATASOURCE_ENDPOINT_WITH_QUERY,
+                    dataSourceInfo.getUrl(),
+                    URLEncoder.encode(promQL, CHARACTER_ENCODING),
+                    startInSeconds,
+                    endInSeconds,
+                    stepInSeconds);
+            LOGGER.info(podMetricsUrl);
+            // the samples are decoded as the response is read, without building the JSON of the response
+            return new GenericRestApiClient(podMetricsUrl).fetchMetrics(KruizeConstants.HttpConstants.MethodType.GET, "",
+                    new PrometheusRangeResponseParser(KruizeConstants.DataSourceConstants.DataSourceQueryMetricKeys.CONTAINER_NAME));
+        }
+    }
+
+    /**
+     * Containers of a namespace whose metrics are fetched over the same window.
+     */
+    private static class ContainerGroup {
+        private final String namespace;
+        private final long intervalStartTimeEpoc;
+        private final long intervalEndTimeEpoc;
+        private final Map<String, List<ContainerData>> containers = new LinkedHashMap<>();
+
+        private ContainerGroup(String namespace, long intervalStartTimeEpoc, long intervalEndTimeEpoc) {
+            this.namespace = namespace;
+            this.intervalStartTimeEpoc = intervalStartTimeEpoc;
+            this.intervalEndTimeEpoc = intervalEndTimeEpoc;
+        }
+    }
 }
@@ -3,17 +3,18 @@ package com.autotune.analyzer.recommendations.model;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.MetricAggregationInfoResults;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.IntervalResults;
-import com.autotune.common.utils.CommonUtils;
+import com.autotune.common.utils.Percentiles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.COST_CPU_PERCENTILE;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.COST_MEMORY_PERCENTILE;
@@ -40,11 +41,10 @@ public class CostBasedRecommendationModel implements RecommendationModel {
             LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
             setNotification = false;
         }
-        RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        List<Double> cpuUsageList = filteredResultsMap.values()
+        double[] cpuUsageList = filteredResultsMap.values()
                 .stream()
-                .map(e -> {
+                .mapToDouble(e -> {
                     Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
                     Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
                     double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
@@ -77,16 +77,49 @@ public class CostBasedRecommendationModel implements RecommendationModel {
                     }
                     return cpuRequestInterval;
                 })
-                .collect(Collectors.toList());
+                .toArray();
 
         Double cpuRequest = 0.0;
-        Double cpuRequestMax = Collections.max(cpuUsageList);
+        Double cpuRequestMax = Percentiles.max(cpuUsageList, 0, cpuUsageList.length);
+        if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
+            cpuRequest = cpuRequestMax;
+        } else {
+            cpuRequest = Percentiles.percentile(cpuUsageList, COST_CPU_PERCENTILE);
+        }
+
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricResults cpuUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
+            if (cpuUsageResults != null) {
+                MetricAggregationInfoResults aggregationInfoResult = cpuUsageResults.getAggregationInfoResult();
+                if (aggregationInfoResult != null) {
+                    format = aggregationInfoResult.getFormat();
+                    if (format != null && !format.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return getCPURequestRecommendation(cpuRequest, format, setNotification ? notifications : null);
+    }
+
+    @Override
+    public RecommendationConfigItem getCPURequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        if (null == notifications) {
+            LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
+        }
+        Double cpuRequest;
+        Double cpuRequestMax = termResultsSummary.getCpuRequestMax();
         if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
             cpuRequest = cpuRequestMax;
         } else {
-            cpuRequest = CommonUtils.percentile(COST_CPU_PERCENTILE, cpuUsageList);
+            cpuRequest = termResultsSummary.getCpuRequestPercentile(COST_CPU_PERCENTILE);
         }
+        return getCPURequestRecommendation(cpuRequest, Objects.requireNonNullElse(termResultsSummary.getCpuFormat(), ""), notifications);
+    }
 
+    private static RecommendationConfigItem getCPURequestRecommendation(Double cpuRequest, String format,
+                                                                        ArrayList<RecommendationNotification> notifications) {
         // TODO: This code below should be optimised with idle detection (0 cpu usage in recorded data) in recommendation ALGO
         // Make sure that the recommendation cannot be null
         // Check if the cpu request is null
@@ -95,7 +128,7 @@ public class CostBasedRecommendationModel implements RecommendationModel {
         }
 
         // Set notifications only if notification object is available
-        if (setNotification) {
+        if (null != notifications) {
             // Check for Zero CPU
             if (CPU_ZERO.equals(cpuRequest)) {
                 // Add notification for CPU_RECORDS_ARE_ZERO
@@ -116,21 +149,7 @@ public class CostBasedRecommendationModel implements RecommendationModel {
             }
         }
 
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            MetricResults cpuUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
-            if (cpuUsageResults != null) {
-                MetricAggregationInfoResults aggregationInfoResult = cpuUsageResults.getAggregationInfoResult();
-                if (aggregationInfoResult != null) {
-                    format = aggregationInfoResult.getFormat();
-                    if (format != null && !format.isEmpty()) {
-                        break;
-                    }
-                }
-            }
-        }
-
-        recommendationConfigItem = new RecommendationConfigItem(cpuRequest, format);
-        return recommendationConfigItem;
+        return new RecommendationConfigItem(cpuRequest, format);
     }
 
     @Override
@@ -141,33 +160,19 @@ public class CostBasedRecommendationModel implements RecommendationModel {
             LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
             setNotification = false;
         }
-        RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        List<Double> memUsageList = filteredResultsMap.values()
+        double[] memUsageList = filteredResultsMap.values()
                 .stream()
-                .map(CostBasedRecommendationModel::calculateMemoryUsage)
-                .collect(Collectors.toList());
+                .mapToDouble(RecommendationUtils::getMemoryUsageForInterval)
+                .toArray();
 
-        List<Double> spikeList = filteredResultsMap.values()
+        double[] spikeList = filteredResultsMap.values()
                 .stream()
-                .map(CostBasedRecommendationModel::calculateIntervalSpike)
-                .collect(Collectors.toList());
+                .mapToDouble(RecommendationUtils::getMemorySpikeForInterval)
+                .toArray();
 
         Double memRecUsage = calculatePercentile(memUsageList, COST_MEMORY_PERCENTILE);
-        Double memRecUsageBuf = memRecUsage + (memRecUsage * MEM_USAGE_BUFFER_DECIMAL);
-
         Double memRecSpike = calculatePercentile(spikeList, COST_MEMORY_PERCENTILE);
-        memRecSpike += (memRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
-        Double memRecSpikeBuf = memRecUsage + memRecSpike;
-
-        Double memRec = Math.min(memRecUsageBuf, memRecSpikeBuf);
-
-        if (setNotification && 0.0 == memRec) {
-            notifications.add(new RecommendationNotification(
-                    RecommendationConstants.RecommendationNotification.NOTICE_MEMORY_RECORDS_ARE_ZERO
-            ));
-            return null;
-        }
 
         for (IntervalResults intervalResults : filteredResultsMap.values()) {
             MetricResults memoryUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage);
@@ -182,58 +187,50 @@ public class CostBasedRecommendationModel implements RecommendationModel {
             }
         }
 
-        recommendationConfigItem = new RecommendationConfigItem(memRec, format);
-        return recommendationConfigItem;
+        return getMemoryRequestRecommendation(memRecUsage, memRecSpike, format, setNotification ? notifications : null);
     }
 
     @Override
-    public String getModelName() {
-        return this.name;
+    public RecommendationConfigItem getMemoryRequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        if (null == notifications) {
+            LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
+        }
+        return getMemoryRequestRecommendation(termResultsSummary.getMemoryUsagePercentile(COST_MEMORY_PERCENTILE),
+                termResultsSummary.getMemorySpikePercentile(COST_MEMORY_PERCENTILE),
+                Objects.requireNonNullElse(termResultsSummary.getMemoryFormat(), ""), notifications);
     }
 
-    @Override
-    public void validate() {
+    private static RecommendationConfigItem getMemoryRequestRecommendation(Double memRecUsage, Double memRecSpike, String format,
+                                                                           ArrayList<RecommendationNotification> notifications) {
+        Double memRecUsageBuf = memRecUsage + (memRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
-    }
+        memRecSpike += (memRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
+        Double memRecSpikeBuf = memRecUsage + memRecSpike;
 
-    private static double calculateMemoryUsage(IntervalResults intervalResults) {
-        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-        double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        double memUsageAvg = memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageSum = memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        double memUsage = 0;
-        int numPods = 0;
-
-        if (0 != cpuUsageAvg) {
-            numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
-        }
-        if (0 == numPods && 0 != memUsageAvg) {
-            numPods = (int) Math.ceil(memUsageSum / memUsageAvg);
-        }
-        if (0 < numPods) {
-            memUsage = (memUsageSum / numPods);
+        Double memRec = Math.min(memRecUsageBuf, memRecSpikeBuf);
+
+        if (null != notifications && 0.0 == memRec) {
+            notifications.add(new RecommendationNotification(
+                    RecommendationConstants.RecommendationNotification.NOTICE_MEMORY_RECORDS_ARE_ZERO
+            ));
+            return null;
         }
-        memUsage = Math.max(memUsage, memUsageMax);
 
-        return memUsage;
+        return new RecommendationConfigItem(memRec, format);
+    }
+
+    @Override
+    public String getModelName() {
+        return this.name;
     }
 
-    private static double calculateIntervalSpike(IntervalResults intervalResults) {
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        Optional<MetricResults> memoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryRSS));
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double memRSSMax = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memRSSMin = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+    @Override
+    public void validate() {
 
-        return Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
     }
 
-    private static Double calculatePercentile(List<Double> list, double percentile) {
-        return CommonUtils.percentile(percentile, list);
+    private static Double calculatePercentile(double[] values, double percentile) {
+        return Percentiles.percentile(values, percentile);
     }
     private static RecommendationConfigItem getCPURequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap,
                                                                         ArrayList<RecommendationNotification> notifications,
@@ -247,17 +244,17 @@ public class CostBasedRecommendationModel implements RecommendationModel {
         }
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        List<Double> cpuUsageList = filteredResultsMap.values()
+        double[] cpuUsageList = filteredResultsMap.values()
                 .stream()
-                .map(CostBasedRecommendationModel::calculateCPURequestInterval)
-                .collect(Collectors.toList());
+                .mapToDouble(RecommendationUtils::getCPURequestForInterval)
+                .toArray();
 
         Double cpuRequest;
-        Double cpuRequestMax = Collections.max(cpuUsageList);
+        Double cpuRequestMax = Percentiles.max(cpuUsageList, 0, cpuUsageList.length);
         if (null != cpuRequestMax && cpuOneCore > cpuRequestMax) {
             cpuRequest = cpuRequestMax;
         } else {
-            cpuRequest = CommonUtils.percentile(percentile, cpuUsageList);
+            cpuRequest = Percentiles.percentile(cpuUsageList, percentile);
         }
 
         if (null == cpuRequest) {
@@ -290,37 +287,4 @@ public class CostBasedRecommendationModel implements RecommendationModel {
         recommendationConfigItem = new RecommendationConfigItem(cpuRequest, format);
         return recommendationConfigItem;
     }
-
-    private static double calculateCPURequestInterval(IntervalResults intervalResults) {
-        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-        Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
-        double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double cpuUsageMax = cpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        double cpuThrottleAvg = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double cpuThrottleMax = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double cpuThrottleSum = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        double cpuRequestInterval = 0.0;
-        double cpuUsagePod = 0;
-        int numPods = 0;
-
-        double cpuUsage = (cpuUsageMax > 0) ? cpuUsageMax : cpuUsageAvg;
-        double cpuThrottle = (cpuThrottleMax > 0) ? cpuThrottleMax : cpuThrottleAvg;
-        double cpuUsageTotal = cpuUsage + cpuThrottle;
-
-        if (CPU_ONE_CORE > cpuUsageTotal) {
-            cpuRequestInterval = cpuUsageTotal;
-        } else {
-            if (0 != cpuUsageAvg) {
-                numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
-                if (0 < numPods) {
-                    cpuUsagePod = (cpuUsageSum + cpuThrottleSum) / numPods;
-                }
-            }
-            cpuRequestInterval = Math.max(cpuUsagePod, cpuUsageTotal);
-        }
-        return cpuRequestInterval;
-    }
-
-
 }
@@ -3,18 +3,18 @@ package com.autotune.analyzer.recommendations.model;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
 import com.autotune.analyzer.services.UpdateRecommendations;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.MetricAggregationInfoResults;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.IntervalResults;
-import com.autotune.common.utils.CommonUtils;
+import com.autotune.common.utils.Percentiles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.PERFORMANCE_CPU_PERCENTILE;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.PERFORMANCE_MEMORY_PERCENTILE;
@@ -43,11 +43,10 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
             LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
             setNotification = false;
         }
-        RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        List<Double> cpuUsageList = filteredResultsMap.values()
+        double[] cpuUsageList = filteredResultsMap.values()
                 .stream()
-                .map(e -> {
+                .mapToDouble(e -> {
                     Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
                     Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
                     double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
@@ -80,16 +79,49 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
                     }
                     return cpuRequestInterval;
                 })
-                .collect(Collectors.toList());
+                .toArray();
 
         Double cpuRequest = 0.0;
-        Double cpuRequestMax = Collections.max(cpuUsageList);
+        Double cpuRequestMax = Percentiles.max(cpuUsageList, 0, cpuUsageList.length);
         if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
             cpuRequest = cpuRequestMax;
         } else {
-            cpuRequest = CommonUtils.percentile(PERFORMANCE_CPU_PERCENTILE, cpuUsageList);
+            cpuRequest = Percentiles.percentile(cpuUsageList, PERFORMANCE_CPU_PERCENTILE);
         }
 
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricResults cpuUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
+            if (cpuUsageResults != null) {
+                MetricAggregationInfoResults aggregationInfoResult = cpuUsageResults.getAggregationInfoResult();
+                if (aggregationInfoResult != null) {
+                    format = aggregationInfoResult.getFormat();
+                    if (format != null && !format.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return getCPURequestRecommendation(cpuRequest, format, setNotification ? notifications : null);
+    }
+
+    @Override
+    public RecommendationConfigItem getCPURequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        if (null == notifications) {
+            LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
+        }
+        Double cpuRequest;
+        Double cpuRequestMax = termResultsSummary.getCpuRequestMax();
+        if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
+            cpuRequest = cpuRequestMax;
+        } else {
+            cpuRequest = termResultsSummary.getCpuRequestPercentile(PERFORMANCE_CPU_PERCENTILE);
+        }
+        return getCPURequestRecommendation(cpuRequest, Objects.requireNonNullElse(termResultsSummary.getCpuFormat(), ""), notifications);
+    }
+
+    private static RecommendationConfigItem getCPURequestRecommendation(Double cpuRequest, String format,
+                                                                        ArrayList<RecommendationNotification> notifications) {
         // TODO: This code below should be optimised with idle detection (0 cpu usage in recorded data) in recommendation ALGO
         // Make sure that the recommendation cannot be null
         // Check if the cpu request is null
@@ -98,7 +130,7 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
         }
 
         // Set notifications only if notification object is available
-        if (setNotification) {
+        if (null != notifications) {
             // Check for Zero CPU
             if (CPU_ZERO.equals(cpuRequest)) {
                 // Add notification for CPU_RECORDS_ARE_ZERO
@@ -119,21 +151,7 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
             }
         }
 
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            MetricResults cpuUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
-            if (cpuUsageResults != null) {
-                MetricAggregationInfoResults aggregationInfoResult = cpuUsageResults.getAggregationInfoResult();
-                if (aggregationInfoResult != null) {
-                    format = aggregationInfoResult.getFormat();
-                    if (format != null && !format.isEmpty()) {
-                        break;
-                    }
-                }
-            }
-        }
-
-        recommendationConfigItem = new RecommendationConfigItem(cpuRequest, format);
-        return recommendationConfigItem;
+        return new RecommendationConfigItem(cpuRequest, format);
     }
 
     @Override
@@ -145,11 +163,10 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
             LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
             setNotification = false;
         }
-        RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        List<Double> memUsageList = filteredResultsMap.values()
+        double[] memUsageList = filteredResultsMap.values()
                 .stream()
-                .map(e -> {
+                .mapToDouble(e -> {
                     Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
                     double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
                     double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
@@ -178,12 +195,12 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
 
                     return memUsage;
                 })
-                .collect(Collectors.toList());
+                .toArray();
 
         // spikeList is the max spike observed in each measurementDuration
-        List<Double> spikeList = filteredResultsMap.values()
+        double[] spikeList = filteredResultsMap.values()
                 .stream()
-                .map(e -> {
+                .mapToDouble(e -> {
                     Optional<MetricResults> memoryUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
                     Optional<MetricResults> memoryRSSResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryRSS));
                     double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
@@ -195,14 +212,43 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
 
                     return intervalSpike;
                 })
-                .collect(Collectors.toList());
+                .toArray();
+
+        Double memRecUsage = Percentiles.percentile(memUsageList, PERFORMANCE_MEMORY_PERCENTILE);
+        Double memRecSpike = Percentiles.percentile(spikeList, PERFORMANCE_MEMORY_PERCENTILE);
+
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricResults memoryUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage);
+            if (memoryUsageResults != null) {
+                MetricAggregationInfoResults aggregationInfoResult = memoryUsageResults.getAggregationInfoResult();
+                if (aggregationInfoResult != null) {
+                    format = aggregationInfoResult.getFormat();
+                    if (format != null && !format.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return getMemoryRequestRecommendation(memRecUsage, memRecSpike, format, setNotification ? notifications : null);
+    }
+
+    @Override
+    public RecommendationConfigItem getMemoryRequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        if (null == notifications) {
+            LOGGER.error("Notifications Object passed is empty. The notifications are not sent as part of recommendation.");
+        }
+        return getMemoryRequestRecommendation(termResultsSummary.getMemoryUsagePercentile(PERFORMANCE_MEMORY_PERCENTILE),
+                termResultsSummary.getMemorySpikePercentile(PERFORMANCE_MEMORY_PERCENTILE),
+                Objects.requireNonNullElse(termResultsSummary.getMemoryFormat(), ""), notifications);
+    }
 
+    private static RecommendationConfigItem getMemoryRequestRecommendation(Double memRecUsage, Double memRecSpike, String format,
+                                                                           ArrayList<RecommendationNotification> notifications) {
         // Add a buffer to the current usage max
-        Double memRecUsage = CommonUtils.percentile(PERFORMANCE_MEMORY_PERCENTILE, memUsageList);
         Double memRecUsageBuf = memRecUsage + (memRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
         // Add a small buffer to the current usage spike max and add it to the current usage max
-        Double memRecSpike = CommonUtils.percentile(PERFORMANCE_MEMORY_PERCENTILE, spikeList);
         memRecSpike += (memRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
         Double memRecSpikeBuf = memRecUsage + memRecSpike;
 
@@ -210,7 +256,7 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
         Double memRec = Math.min(memRecUsageBuf, memRecSpikeBuf);
 
         // Set notifications only if notification object is available
-        if (setNotification) {
+        if (null != notifications) {
             // Check if the memory recommendation is 0
             if (null == memRec || 0.0 == memRec) {
                 // Add appropriate Notification - MEMORY_RECORDS_ARE_ZERO
@@ -222,21 +268,7 @@ public class PerformanceBasedRecommendationModel implements RecommendationModel
             }
         }
 
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            MetricResults memoryUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage);
-            if (memoryUsageResults != null) {
-                MetricAggregationInfoResults aggregationInfoResult = memoryUsageResults.getAggregationInfoResult();
-                if (aggregationInfoResult != null) {
-                    format = aggregationInfoResult.getFormat();
-                    if (format != null && !format.isEmpty()) {
-                        break;
-                    }
-                }
-            }
-        }
-
-        recommendationConfigItem = new RecommendationConfigItem(memRec, format);
-        return recommendationConfigItem;
+        return new RecommendationConfigItem(memRec, format);
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.autotune.analyzer.recommendations.model;
 
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
 import com.autotune.common.data.result.IntervalResults;
 
 import java.sql.Timestamp;
@@ -13,6 +14,14 @@ public interface RecommendationModel {
     RecommendationConfigItem getCPURequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
     RecommendationConfigItem getMemoryRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
 
+    // Same recommendations computed from the term aggregates pushed down to the DB, only the built in models support them
+    default RecommendationConfigItem getCPURequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        throw new UnsupportedOperationException(getModelName() + " model does not support the term aggregates");
+    }
+    default RecommendationConfigItem getMemoryRequestRecommendation(TermResultsSummary termResultsSummary, ArrayList<RecommendationNotification> notifications) {
+        throw new UnsupportedOperationException(getModelName() + " model does not support the term aggregates");
+    }
+
     public String getModelName();
     void validate();
 
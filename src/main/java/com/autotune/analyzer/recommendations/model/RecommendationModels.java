@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.recommendations.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Recommendation models of the process, the built in models and the TermRecommendationModels discovered with
+ * ServiceLoader on first use. Model names are unique ignoring case, a discovered model named like a model already
+ * registered is skipped.
+ */
+public final class RecommendationModels {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecommendationModels.class);
+    private static final List<RecommendationModel> MODELS = List.of(
+            new CostBasedRecommendationModel(),
+            // TODO: Add profile based once recommendation algos are available
+            new PerformanceBasedRecommendationModel());
+    private static volatile List<TermRecommendationModel> termModels;
+
+    private RecommendationModels() {
+    }
+
+    public static List<RecommendationModel> getModels() {
+        return MODELS;
+    }
+
+    public static List<TermRecommendationModel> getTermModels() {
+        List<TermRecommendationModel> models = termModels;
+        if (null == models) {
+            synchronized (RecommendationModels.class) {
+                models = termModels;
+                if (null == models) {
+                    models = loadTermModels(ServiceLoader.load(TermRecommendationModel.class));
+                    termModels = models;
+                }
+            }
+        }
+        return models;
+    }
+
+    static List<TermRecommendationModel> loadTermModels(ServiceLoader<TermRecommendationModel> serviceLoader) {
+        Set<String> modelNames = new HashSet<>();
+        for (RecommendationModel model : MODELS) {
+            modelNames.add(model.getModelName().toLowerCase(Locale.ROOT));
+        }
+        List<TermRecommendationModel> models = new ArrayList<>();
+        Iterator<TermRecommendationModel> iterator = serviceLoader.iterator();
+        while (hasNext(iterator)) {
+            TermRecommendationModel model;
+            try {
+                model = iterator.next();
+            } catch (ServiceConfigurationError e) {
+                LOGGER.error("Failed to load a recommendation model: {}", e.getMessage());
+                continue;
+            }
+            String modelName = model.getModelName();
+            if (null == modelName || modelName.isEmpty() || !modelNames.add(modelName.toLowerCase(Locale.ROOT))) {
+                LOGGER.error("Skipping recommendation model {} of {}, its name is empty or already registered",
+                        modelName, model.getClass().getName());
+                continue;
+            }
+            LOGGER.info("Registered recommendation model {} of {}", modelName, model.getClass().getName());
+            models.add(model);
+        }
+        return Collections.unmodifiableList(models);
+    }
+
+    private static boolean hasNext(Iterator<TermRecommendationModel> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError e) {
+            LOGGER.error("Failed to look up the recommendation models: {}", e.getMessage());
+            return false;
+        }
+    }
+}
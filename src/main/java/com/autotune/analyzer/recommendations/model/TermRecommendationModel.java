@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.recommendations.model;
+
+import com.autotune.analyzer.recommendations.RecommendationConfigItem;
+import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsView;
+
+import java.util.ArrayList;
+
+/**
+ * Recommendation model computing from the per-interval values of a container over a term, which the engine extracts
+ * once per term into primitive columns shared by all the models.
+ * <p>
+ * Implementations are discovered with ServiceLoader, by listing them in
+ * META-INF/services/com.autotune.analyzer.recommendations.model.TermRecommendationModel, and instantiated once per
+ * process, so they must be stateless or thread safe. Their recommendations are added under their model name next
+ * to the cost and performance ones. They are only run when the results of the term are loaded, not when the engine
+ * reads the aggregates pushed down to the DB or the rollups.
+ */
+public interface TermRecommendationModel {
+
+    RecommendationConfigItem getCPURequestRecommendation(TermResultsView termResultsView, ArrayList<RecommendationNotification> notifications);
+
+    RecommendationConfigItem getMemoryRequestRecommendation(TermResultsView termResultsView, ArrayList<RecommendationNotification> notifications);
+
+    String getModelName();
+}
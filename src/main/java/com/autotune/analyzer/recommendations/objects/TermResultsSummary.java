@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.recommendations.objects;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregates of the results of a container over a term, computed by the DB when recommendationpushdown is enabled.
+ * <p>
+ * Holds what the recommendation models derive from the per-interval results: the max and the percentiles of the
+ * per-interval cpu request, memory usage and memory spike, the number of pods and the formats.
+ */
+public class TermResultsSummary {
+    private int intervalCount;
+    private int podsCount;
+    private Double cpuRequestMax;
+    private final Map<Integer, Double> cpuRequestPercentiles = new HashMap<>();
+    private final Map<Integer, Double> memoryUsagePercentiles = new HashMap<>();
+    private final Map<Integer, Double> memorySpikePercentiles = new HashMap<>();
+    private String cpuFormat;
+    private String memoryFormat;
+
+    public int getIntervalCount() {
+        return intervalCount;
+    }
+
+    public void setIntervalCount(int intervalCount) {
+        this.intervalCount = intervalCount;
+    }
+
+    public int getPodsCount() {
+        return podsCount;
+    }
+
+    public void setPodsCount(int podsCount) {
+        this.podsCount = podsCount;
+    }
+
+    public Double getCpuRequestMax() {
+        return cpuRequestMax;
+    }
+
+    public void setCpuRequestMax(Double cpuRequestMax) {
+        this.cpuRequestMax = cpuRequestMax;
+    }
+
+    public Double getCpuRequestPercentile(int percentile) {
+        return cpuRequestPercentiles.get(percentile);
+    }
+
+    public void setCpuRequestPercentile(int percentile, Double value) {
+        cpuRequestPercentiles.put(percentile, value);
+    }
+
+    public Double getMemoryUsagePercentile(int percentile) {
+        return memoryUsagePercentiles.get(percentile);
+    }
+
+    public void setMemoryUsagePercentile(int percentile, Double value) {
+        memoryUsagePercentiles.put(percentile, value);
+    }
+
+    public Double getMemorySpikePercentile(int percentile) {
+        return memorySpikePercentiles.get(percentile);
+    }
+
+    public void setMemorySpikePercentile(int percentile, Double value) {
+        memorySpikePercentiles.put(percentile, value);
+    }
+
+    public String getCpuFormat() {
+        return cpuFormat;
+    }
+
+    public void setCpuFormat(String cpuFormat) {
+        this.cpuFormat = cpuFormat;
+    }
+
+    public String getMemoryFormat() {
+        return memoryFormat;
+    }
+
+    public void setMemoryFormat(String memoryFormat) {
+        this.memoryFormat = memoryFormat;
+    }
+
+    @Override
+    public String toString() {
+        return "TermResultsSummary{" +
+                "intervalCount=" + intervalCount +
+                ", podsCount=" + podsCount +
+                ", cpuRequestMax=" + cpuRequestMax +
+                ", cpuRequestPercentiles=" + cpuRequestPercentiles +
+                ", memoryUsagePercentiles=" + memoryUsagePercentiles +
+                ", memorySpikePercentiles=" + memorySpikePercentiles +
+                ", cpuFormat='" + cpuFormat + '\'' +
+                ", memoryFormat='" + memoryFormat + '\'' +
+                '}';
+    }
+}
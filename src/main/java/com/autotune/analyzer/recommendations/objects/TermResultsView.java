@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.recommendations.objects;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.result.ContainerResultsSeries;
+
+import java.util.Arrays;
+
+/**
+ * Per-interval values of the results of a container over a term, in time order, extracted once per term from the
+ * results series and shared by all the TermRecommendationModels. The intervals loaded without their metrics are
+ * left out.
+ * <p>
+ * The cpu request, memory usage and memory spike of an interval are the values the built in models derive from its
+ * results. Any other metric is read from the series with get. The view is read only, the copy methods return
+ * arrays the models are free to reorder, e.g. with Percentiles.
+ */
+public class TermResultsView {
+    private final ContainerResultsSeries series;
+    // index in the series of every interval of the view
+    private final int[] seriesIndexes;
+    private final double[] cpuRequests;
+    private final double[] memoryUsages;
+    private final double[] memorySpikes;
+    private final int size;
+    private final int podsCount;
+
+    public TermResultsView(ContainerResultsSeries series, int[] seriesIndexes, double[] cpuRequests, double[] memoryUsages,
+                           double[] memorySpikes, int size, int podsCount) {
+        this.series = series;
+        this.seriesIndexes = seriesIndexes;
+        this.cpuRequests = cpuRequests;
+        this.memoryUsages = memoryUsages;
+        this.memorySpikes = memorySpikes;
+        this.size = size;
+        this.podsCount = podsCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getIntervalStartTime(int index) {
+        return series.getIntervalStartTime(seriesIndexes[checkIndex(index)]);
+    }
+
+    public long getIntervalEndTime(int index) {
+        return series.getIntervalEndTime(seriesIndexes[checkIndex(index)]);
+    }
+
+    public double getCpuRequest(int index) {
+        return cpuRequests[checkIndex(index)];
+    }
+
+    public double getMemoryUsage(int index) {
+        return memoryUsages[checkIndex(index)];
+    }
+
+    public double getMemorySpike(int index) {
+        return memorySpikes[checkIndex(index)];
+    }
+
+    public double[] copyCpuRequests() {
+        return Arrays.copyOf(cpuRequests, size);
+    }
+
+    public double[] copyMemoryUsages() {
+        return Arrays.copyOf(memoryUsages, size);
+    }
+
+    public double[] copyMemorySpikes() {
+        return Arrays.copyOf(memorySpikes, size);
+    }
+
+    /**
+     * @return the aggregation of the metric for the interval, 0 if absent from its results
+     */
+    public double get(AnalyzerConstants.MetricName metricName, ContainerResultsSeries.Aggregation aggregation, int index) {
+        return series.get(metricName, aggregation, seriesIndexes[checkIndex(index)]);
+    }
+
+    public boolean isMissing(AnalyzerConstants.MetricName metricName, ContainerResultsSeries.Aggregation aggregation, int index) {
+        return series.isMissing(metricName, aggregation, seriesIndexes[checkIndex(index)]);
+    }
+
+    /**
+     * @return max number of pods of the intervals
+     */
+    public int getPodsCount() {
+        return podsCount;
+    }
+
+    public String getCpuFormat() {
+        return series.getFormat(AnalyzerConstants.MetricName.cpuUsage);
+    }
+
+    public String getMemoryFormat() {
+        return series.getFormat(AnalyzerConstants.MetricName.memoryUsage);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        return index;
+    }
+}
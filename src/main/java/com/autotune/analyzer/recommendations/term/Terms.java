@@ -76,6 +76,17 @@ public class Terms {
         if (null == containerData || null == containerData.getResults() || containerData.getResults().isEmpty()) {
             return false;
         }
+        return checkIfMinDataAvailableForTerm(containerData.getResultsIndex().navigableKeySet(), term, monitoringEndTime, measurementDuration);
+    }
+
+    /**
+     * Same check over the end times of the intervals, for the containers whose results are not all loaded.
+     */
+    public static boolean checkIfMinDataAvailableForTerm(NavigableSet<Timestamp> timestamps, Terms term, Timestamp monitoringEndTime,
+                                                         double measurementDuration) {
+        if (null == timestamps || timestamps.isEmpty()) {
+            return false;
+        }
 
         // Initialize sum of durations
         double sum = 0;
@@ -89,12 +100,10 @@ public class Terms {
                     Timestamp currentTimestamp = Timestamp.valueOf(current);
 
                     // Check if the current timestamp exists in the resultsMap or within the tolerance range
-                    Double diffInSec = getTimestampWithinTolerance(currentTimestamp, containerData.getResults().keySet(), thresholdInMillis);
-                    if (containerData.getResults().containsKey(currentTimestamp) || diffInSec != null) {
+                    Double diffInSec = getTimestampWithinTolerance(currentTimestamp, timestamps, thresholdInMillis);
+                    if (diffInSec != null) {
                         // If there's a change in the timestamp within the threshold value, add the difference in the duration
-                        if (diffInSec != null) {
-                            durationInSeconds += diffInSec;
-                        }
+                        durationInSeconds += diffInSec;
                         sum += measurementDuration;
                     }
                 }
@@ -114,14 +123,26 @@ public class Terms {
         return false;
     }
 
-    private static Double getTimestampWithinTolerance(Timestamp currentTimestamp, Set<Timestamp> timestamps, long toleranceInMillis) {
-        for (Timestamp timestamp : timestamps) {
-            long timeDiff = currentTimestamp.getTime() - timestamp.getTime();
-            if (Math.abs(timeDiff) <= toleranceInMillis) {
-                return (double) ((timeDiff)/KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
-            }
+    /**
+     * Looks up the result timestamps on either side of the current timestamp instead of scanning all of them.
+     *
+     * @return difference in seconds to the closest timestamp within the tolerance, null if there is none
+     */
+    static Double getTimestampWithinTolerance(Timestamp currentTimestamp, NavigableSet<Timestamp> timestamps, long toleranceInMillis) {
+        Timestamp floor = timestamps.floor(currentTimestamp);
+        Timestamp ceiling = timestamps.ceiling(currentTimestamp);
+        Long timeDiff = null;
+        if (null != floor && currentTimestamp.getTime() - floor.getTime() <= toleranceInMillis) {
+            timeDiff = currentTimestamp.getTime() - floor.getTime();
         }
-        return null;
+        if (null != ceiling && ceiling.getTime() - currentTimestamp.getTime() <= toleranceInMillis
+                && (null == timeDiff || ceiling.getTime() - currentTimestamp.getTime() < timeDiff)) {
+            timeDiff = currentTimestamp.getTime() - ceiling.getTime();
+        }
+        if (null == timeDiff) {
+            return null;
+        }
+        return (double) ((timeDiff)/KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
     }
 
     public static double getDurationSummation(ContainerData containerData) {
@@ -133,10 +154,26 @@ public class Terms {
         return sum;
     }
 
+    /**
+     * @param intervalTimes interval start times by end time
+     * @return sum of the durations of the intervals in minutes
+     */
+    public static double getDurationSummation(NavigableMap<Timestamp, Timestamp> intervalTimes) {
+        double sum = 0.0;
+        for (Map.Entry<Timestamp, Timestamp> intervalTime : intervalTimes.entrySet()) {
+            sum = sum + (double) (intervalTime.getKey().getTime() - intervalTime.getValue().getTime())
+                    / (KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
+        }
+        return sum;
+    }
+
     public static void setDurationBasedOnTerm(ContainerData containerDataKruizeObject, TermRecommendations
             mappedRecommendationForTerm, String recommendationTerm) {
+        setDurationBasedOnTerm(getDurationSummation(containerDataKruizeObject), mappedRecommendationForTerm, recommendationTerm);
+    }
 
-        double durationSummation = getDurationSummation(containerDataKruizeObject);
+    public static void setDurationBasedOnTerm(double durationSummation, TermRecommendations mappedRecommendationForTerm,
+                                              String recommendationTerm) {
         durationSummation = Double.parseDouble(String.format("%.1f", durationSummation));
         // Get the maximum duration allowed for the term
         double maxDurationInHours = getMaxDuration(recommendationTerm);
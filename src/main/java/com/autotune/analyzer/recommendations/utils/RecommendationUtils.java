@@ -3,16 +3,22 @@ package com.autotune.analyzer.recommendations.utils;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.objects.TermResultsView;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.ContainerResultsSeries;
 import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.utils.Percentiles;
 import com.autotune.utils.KruizeConstants;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.CPU_ONE_CORE;
+
 public class RecommendationUtils {
     public static RecommendationConfigItem getCurrentValue(Map<Timestamp, IntervalResults> filteredResultsMap,
                                                            Timestamp timestampToExtract,
@@ -23,10 +29,9 @@ public class RecommendationUtils {
         String format = null;
         RecommendationConfigItem recommendationConfigItem = null;
         AnalyzerConstants.MetricName metricName = null;
-        for (Timestamp timestamp : filteredResultsMap.keySet()) {
-            if (!timestamp.equals(timestampToExtract))
-                continue;
-            IntervalResults intervalResults = filteredResultsMap.get(timestamp);
+        // results are keyed by interval end time, look the interval up instead of scanning the keys
+        IntervalResults intervalResults = filteredResultsMap.get(timestampToExtract);
+        if (null != intervalResults) {
             if (resourceSetting == AnalyzerConstants.ResourceSetting.requests) {
                 if (recommendationItem == AnalyzerConstants.RecommendationItem.cpu)
                     metricName = AnalyzerConstants.MetricName.cpuRequest;
@@ -93,6 +98,232 @@ public class RecommendationUtils {
         }
     }
 
+    /**
+     * Cpu request of an interval, usage plus throttle, or the per pod usage when the sum of the pods is higher,
+     * as used by the recommendation models.
+     */
+    public static double getCPURequestForInterval(IntervalResults intervalResults) {
+        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
+        Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
+        return getCPURequestForInterval(cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0),
+                cpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0),
+                cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0),
+                cpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0),
+                cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0),
+                cpuThrottleResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0));
+    }
 
-}
+    public static double getCPURequestForInterval(ContainerResultsSeries series, int index) {
+        return getCPURequestForInterval(series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.avg, index),
+                series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.max, index),
+                series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.sum, index),
+                series.get(AnalyzerConstants.MetricName.cpuThrottle, ContainerResultsSeries.Aggregation.avg, index),
+                series.get(AnalyzerConstants.MetricName.cpuThrottle, ContainerResultsSeries.Aggregation.max, index),
+                series.get(AnalyzerConstants.MetricName.cpuThrottle, ContainerResultsSeries.Aggregation.sum, index));
+    }
+
+    private static double getCPURequestForInterval(double cpuUsageAvg, double cpuUsageMax, double cpuUsageSum,
+                                                   double cpuThrottleAvg, double cpuThrottleMax, double cpuThrottleSum) {
+        double cpuRequestInterval = 0.0;
+        double cpuUsagePod = 0;
+        int numPods = 0;
+
+        // Use the Max value when available, if not use the Avg
+        double cpuUsage = (cpuUsageMax > 0) ? cpuUsageMax : cpuUsageAvg;
+        double cpuThrottle = (cpuThrottleMax > 0) ? cpuThrottleMax : cpuThrottleAvg;
+        double cpuUsageTotal = cpuUsage + cpuThrottle;
+
+        // Usage is less than 1 core, set it to the observed value.
+        if (CPU_ONE_CORE > cpuUsageTotal) {
+            cpuRequestInterval = cpuUsageTotal;
+        } else {
+            // Sum/Avg should give us the number of pods
+            if (0 != cpuUsageAvg) {
+                numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
+                if (0 < numPods) {
+                    cpuUsagePod = (cpuUsageSum + cpuThrottleSum) / numPods;
+                }
+            }
+            cpuRequestInterval = Math.max(cpuUsagePod, cpuUsageTotal);
+        }
+        return cpuRequestInterval;
+    }
+
+    /**
+     * Memory usage of an interval, the max usage or the per pod usage when higher.
+     */
+    public static double getMemoryUsageForInterval(IntervalResults intervalResults) {
+        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
+        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
+        return getMemoryUsageForInterval(cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0),
+                cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0),
+                memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0),
+                memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0),
+                memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0));
+    }
+
+    public static double getMemoryUsageForInterval(ContainerResultsSeries series, int index) {
+        return getMemoryUsageForInterval(series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.avg, index),
+                series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.sum, index),
+                series.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.avg, index),
+                series.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.max, index),
+                series.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.sum, index));
+    }
+
+    private static double getMemoryUsageForInterval(double cpuUsageAvg, double cpuUsageSum,
+                                                    double memUsageAvg, double memUsageMax, double memUsageSum) {
+        double memUsage = 0;
+        int numPods = 0;
+
+        if (0 != cpuUsageAvg) {
+            numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
+        }
+        // If numPods is still zero, could be because there is no CPU info
+        // We can use mem data to calculate pods, this is not as reliable as cpu
+        if (0 == numPods && 0 != memUsageAvg) {
+            numPods = (int) Math.ceil(memUsageSum / memUsageAvg);
+        }
+        if (0 < numPods) {
+            memUsage = (memUsageSum / numPods);
+        }
+        memUsage = Math.max(memUsage, memUsageMax);
+
+        return memUsage;
+    }
+
+    /**
+     * Max memory spike observed in an interval.
+     */
+    public static double getMemorySpikeForInterval(IntervalResults intervalResults) {
+        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
+        Optional<MetricResults> memoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryRSS));
+        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
+        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+        double memRSSMax = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
+        double memRSSMin = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+
+        return Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
+    }
+
+    public static double getMemorySpikeForInterval(ContainerResultsSeries series, int index) {
+        double memUsageMax = series.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.max, index);
+        double memUsageMin = series.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.min, index);
+        double memRSSMax = series.get(AnalyzerConstants.MetricName.memoryRSS, ContainerResultsSeries.Aggregation.max, index);
+        double memRSSMin = series.get(AnalyzerConstants.MetricName.memoryRSS, ContainerResultsSeries.Aggregation.min, index);
 
+        return Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
+    }
+
+    /**
+     * Number of pods of an interval, derived from the cpu usage sum and avg.
+     */
+    public static int getNumPodsForInterval(IntervalResults intervalResults) {
+        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
+        return getNumPodsForInterval(cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0),
+                cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0));
+    }
+
+    public static int getNumPodsForInterval(ContainerResultsSeries series, int index) {
+        return getNumPodsForInterval(series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.sum, index),
+                series.get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.avg, index));
+    }
+
+    private static int getNumPodsForInterval(double cpuUsageSum, double cpuUsageAvg) {
+        if (0 != cpuUsageAvg) {
+            return (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
+        }
+        return 0;
+    }
+
+    /**
+     * Aggregates used by the recommendation models over the intervals [fromIndex, toIndex) of the series, with the
+     * same per-interval values and nearest rank percentiles as the models compute from the results map.
+     *
+     * @return the aggregates, null if there are no intervals with metrics in the range
+     */
+    public static TermResultsSummary getTermResultsSummary(ContainerResultsSeries series, int fromIndex, int toIndex,
+                                                           int[] cpuPercentiles, int[] memoryPercentiles) {
+        return getTermResultsSummary(getTermResultsView(series, fromIndex, toIndex), cpuPercentiles, memoryPercentiles);
+    }
+
+    /**
+     * Extracts the per-interval values of the intervals [fromIndex, toIndex) of the series having metrics.
+     *
+     * @return the view, null if there are no intervals with metrics in the range
+     */
+    public static TermResultsView getTermResultsView(ContainerResultsSeries series, int fromIndex, int toIndex) {
+        int size = 0;
+        int[] seriesIndexes = new int[Math.max(0, toIndex - fromIndex)];
+        double[] cpuRequests = new double[seriesIndexes.length];
+        double[] memoryUsages = new double[seriesIndexes.length];
+        double[] memorySpikes = new double[seriesIndexes.length];
+        int podsCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!series.isMetricsAvailable(i))
+                continue;
+            seriesIndexes[size] = i;
+            cpuRequests[size] = getCPURequestForInterval(series, i);
+            memoryUsages[size] = getMemoryUsageForInterval(series, i);
+            memorySpikes[size] = getMemorySpikeForInterval(series, i);
+            podsCount = Math.max(podsCount, getNumPodsForInterval(series, i));
+            size++;
+        }
+        if (0 == size)
+            return null;
+        return new TermResultsView(series, seriesIndexes, cpuRequests, memoryUsages, memorySpikes, size, podsCount);
+    }
+
+    /**
+     * Aggregates used by the built in recommendation models, computed from the per-interval values of the view.
+     *
+     * @return the aggregates, null if the view is null
+     */
+    public static TermResultsSummary getTermResultsSummary(TermResultsView termResultsView, int[] cpuPercentiles, int[] memoryPercentiles) {
+        if (null == termResultsView)
+            return null;
+        int size = termResultsView.size();
+        double[] cpuRequests = termResultsView.copyCpuRequests();
+        double[] cpuRequestPercentiles = Percentiles.percentiles(cpuRequests, 0, size, Percentiles.Mode.EXACT, toDoubles(cpuPercentiles));
+        double[] memoryUsagePercentiles = Percentiles.percentiles(termResultsView.copyMemoryUsages(), 0, size, Percentiles.Mode.EXACT, toDoubles(memoryPercentiles));
+        double[] memorySpikePercentiles = Percentiles.percentiles(termResultsView.copyMemorySpikes(), 0, size, Percentiles.Mode.EXACT, toDoubles(memoryPercentiles));
+        TermResultsSummary termResultsSummary = new TermResultsSummary();
+        termResultsSummary.setIntervalCount(size);
+        termResultsSummary.setPodsCount(termResultsView.getPodsCount());
+        termResultsSummary.setCpuRequestMax(Percentiles.max(cpuRequests, 0, size));
+        for (int i = 0; i < cpuPercentiles.length; i++) {
+            termResultsSummary.setCpuRequestPercentile(cpuPercentiles[i], cpuRequestPercentiles[i]);
+        }
+        for (int i = 0; i < memoryPercentiles.length; i++) {
+            termResultsSummary.setMemoryUsagePercentile(memoryPercentiles[i], memoryUsagePercentiles[i]);
+            termResultsSummary.setMemorySpikePercentile(memoryPercentiles[i], memorySpikePercentiles[i]);
+        }
+        termResultsSummary.setCpuFormat(termResultsView.getCpuFormat());
+        termResultsSummary.setMemoryFormat(termResultsView.getMemoryFormat());
+        return termResultsSummary;
+    }
+
+    private static double[] toDoubles(int[] percentiles) {
+        double[] values = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            values[i] = percentiles[i];
+        }
+        return values;
+    }
+
+    /**
+     * First non empty format of the metric over the intervals, empty if none.
+     */
+    public static String getFormat(Collection<IntervalResults> intervalResultsList, AnalyzerConstants.MetricName metricName) {
+        String format = "";
+        for (IntervalResults intervalResults : intervalResultsList) {
+            MetricResults metricResults = intervalResults.getMetricResultsMap().get(metricName);
+            if (null != metricResults && null != metricResults.getAggregationInfoResult()) {
+                format = metricResults.getAggregationInfoResult().getFormat();
+                if (null != format && !format.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return format;
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.serviceObjects;
+
+import com.autotune.utils.KruizeConstants;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Request of the bulk updateRecommendations API, either the names of the experiments or the cluster and optionally
+ * the namespace of their workloads.
+ */
+public class UpdateRecommendationsBulkAPIObject {
+    @SerializedName("experiment_names")
+    private List<String> experimentNames;
+    @SerializedName(KruizeConstants.JSONKeys.CLUSTER_NAME)
+    private String clusterName;
+    @SerializedName(KruizeConstants.JSONKeys.NAMESPACE)
+    private String namespace;
+    @SerializedName(KruizeConstants.JSONKeys.INTERVAL_END_TIME)
+    private String intervalEndTime;
+
+    public List<String> getExperimentNames() {
+        return experimentNames;
+    }
+
+    public void setExperimentNames(List<String> experimentNames) {
+        this.experimentNames = experimentNames;
+    }
+
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    public void setClusterName(String clusterName) {
+        this.clusterName = clusterName;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getIntervalEndTime() {
+        return intervalEndTime;
+    }
+
+    public void setIntervalEndTime(String intervalEndTime) {
+        this.intervalEndTime = intervalEndTime;
+    }
+}
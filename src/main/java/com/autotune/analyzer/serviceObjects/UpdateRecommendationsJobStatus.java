@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.serviceObjects;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.utils.KruizeConstants;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Status of a job of the bulk updateRecommendations API.
+ * Instances are not modified once published, every state change creates a new status.
+ */
+public class UpdateRecommendationsJobStatus {
+    @SerializedName(AnalyzerConstants.ServiceConstants.JOB_ID)
+    private final String jobId;
+    private final AnalyzerConstants.ResultsBatchStatus status;
+    @SerializedName(KruizeConstants.JSONKeys.INTERVAL_END_TIME)
+    private final String intervalEndTime;
+    @SerializedName("total_experiments")
+    private final int totalExperiments;
+    @SerializedName("processed_experiments")
+    private final int processedExperiments;
+    @SerializedName("failed_experiments")
+    private final int failedExperiments;
+    private final String message;
+    private final List<FailedExperiment> data;
+
+    public UpdateRecommendationsJobStatus(String jobId, AnalyzerConstants.ResultsBatchStatus status, String intervalEndTime,
+                                          int totalExperiments, int processedExperiments, List<FailedExperiment> data,
+                                          String message) {
+        this.jobId = jobId;
+        this.status = status;
+        this.intervalEndTime = intervalEndTime;
+        this.totalExperiments = totalExperiments;
+        this.processedExperiments = processedExperiments;
+        this.failedExperiments = null == data ? 0 : data.size();
+        this.data = data;
+        this.message = message;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public AnalyzerConstants.ResultsBatchStatus getStatus() {
+        return status;
+    }
+
+    public String getIntervalEndTime() {
+        return intervalEndTime;
+    }
+
+    public int getTotalExperiments() {
+        return totalExperiments;
+    }
+
+    public int getProcessedExperiments() {
+        return processedExperiments;
+    }
+
+    public int getFailedExperiments() {
+        return failedExperiments;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<FailedExperiment> getData() {
+        return data;
+    }
+
+    public static class FailedExperiment {
+        @SerializedName(KruizeConstants.JSONKeys.EXPERIMENT_NAME)
+        private final String experimentName;
+        private final String message;
+
+        public FailedExperiment(String experimentName, String message) {
+            this.experimentName = experimentName;
+            this.message = message;
+        }
+
+        public String getExperimentName() {
+            return experimentName;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.serviceObjects;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Status of a batch of results accepted by updateResults in the asynchronous mode.
+ * Instances are not modified once published, every state change creates a new status.
+ */
+public class UpdateResultsBatchStatus {
+    @SerializedName(AnalyzerConstants.ServiceConstants.BATCH_ID)
+    private final String batchId;
+    private final AnalyzerConstants.ResultsBatchStatus status;
+    @SerializedName("total_results")
+    private final int totalResults;
+    @SerializedName("failed_results")
+    private final int failedResults;
+    private final String message;
+    private final List<FailedUpdateResultsAPIObject> data;
+
+    public UpdateResultsBatchStatus(String batchId, AnalyzerConstants.ResultsBatchStatus status, int totalResults,
+                                    List<FailedUpdateResultsAPIObject> data, String message) {
+        this.batchId = batchId;
+        this.status = status;
+        this.totalResults = totalResults;
+        this.failedResults = null == data ? 0 : data.size();
+        this.data = data;
+        this.message = message;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public AnalyzerConstants.ResultsBatchStatus getStatus() {
+        return status;
+    }
+
+    public int getTotalResults() {
+        return totalResults;
+    }
+
+    public int getFailedResults() {
+        return failedResults;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<FailedUpdateResultsAPIObject> getData() {
+        return data;
+    }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.services;
+
+import com.autotune.analyzer.serviceObjects.UpdateRecommendationsBulkAPIObject;
+import com.autotune.analyzer.serviceObjects.UpdateRecommendationsJobStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.analyzer.workerimpl.UpdateRecommendationsBulkJobs;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.Utils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHARACTER_ENCODING;
+import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.JSON_CONTENT_TYPE;
+
+/**
+ * REST API generating the recommendations of many experiments for the same interval end time. POST queues a job
+ * for the given experiment names, or for the experiments of a cluster and optionally namespace, and returns its
+ * job id. GET looks up the status of the job by its job id.
+ */
+@WebServlet(asyncSupported = true)
+public class UpdateRecommendationsBulk extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpdateRecommendationsBulk.class);
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        super.init(config);
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        request.setCharacterEncoding(CHARACTER_ENCODING);
+        String inputData = request.getReader().lines().collect(Collectors.joining());
+        if (KruizeDeploymentInfo.logAllHttpReqAndResp)
+            LOGGER.info("updateRecommendationsBulk API request payload is {}", inputData);
+        UpdateRecommendationsBulkAPIObject bulkAPIObject;
+        try {
+            bulkAPIObject = new Gson().fromJson(inputData, UpdateRecommendationsBulkAPIObject.class);
+        } catch (JsonParseException e) {
+            LOGGER.error("Invalid request payload: {}", e.getMessage());
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        String validationMessage = validate(bulkAPIObject);
+        if (!validationMessage.isEmpty()) {
+            LOGGER.error("Validation failed: {}", validationMessage);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, validationMessage);
+            return;
+        }
+        List<String> experimentNames = bulkAPIObject.getExperimentNames();
+        UpdateRecommendationsJobStatus jobStatus = UpdateRecommendationsBulkJobs.start().submit(
+                null == experimentNames || experimentNames.isEmpty() ? null : experimentNames,
+                bulkAPIObject.getClusterName(), bulkAPIObject.getNamespace(), bulkAPIObject.getIntervalEndTime());
+        if (null == jobStatus) {
+            LOGGER.error(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.JOBS_QUEUE_FULL);
+            response.sendError(SC_TOO_MANY_REQUESTS, AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.JOBS_QUEUE_FULL);
+            return;
+        }
+        sendStatus(response, HttpServletResponse.SC_ACCEPTED, jobStatus);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String jobId = request.getParameter(AnalyzerConstants.ServiceConstants.JOB_ID);
+        if (null == jobId || jobId.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.MISSING_JOB_ID);
+            return;
+        }
+        // looked up without starting the job threads, no job ran if they are not started
+        UpdateRecommendationsBulkJobs bulkJobs = UpdateRecommendationsBulkJobs.getInstance();
+        UpdateRecommendationsJobStatus jobStatus = null == bulkJobs ? null : bulkJobs.getStatus(jobId);
+        if (null == jobStatus) {
+            LOGGER.debug("Job {} not found", jobId);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.INVALID_JOB_ID, jobId));
+            return;
+        }
+        sendStatus(response, HttpServletResponse.SC_OK, jobStatus);
+    }
+
+    private String validate(UpdateRecommendationsBulkAPIObject bulkAPIObject) {
+        String validationFailureMsg = "";
+        if (null == bulkAPIObject)
+            return AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.EXPERIMENTS_OR_CLUSTER_NAME_MANDATORY;
+        List<String> experimentNames = bulkAPIObject.getExperimentNames();
+        boolean hasExperimentNames = null != experimentNames && !experimentNames.isEmpty();
+        if (!hasExperimentNames && (null == bulkAPIObject.getClusterName() || bulkAPIObject.getClusterName().isEmpty())) {
+            validationFailureMsg += AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.EXPERIMENTS_OR_CLUSTER_NAME_MANDATORY + ", ";
+        } else if (hasExperimentNames && experimentNames.stream().anyMatch(name -> null == name || name.isEmpty())) {
+            validationFailureMsg += AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.EXPERIMENT_NAME_MANDATORY + ", ";
+        }
+        String intervalEndTimeStr = bulkAPIObject.getIntervalEndTime();
+        if (null == intervalEndTimeStr || intervalEndTimeStr.isEmpty()) {
+            validationFailureMsg += AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.INTERVAL_END_TIME_MANDATORY;
+        } else if (!Utils.DateUtils.isAValidDate(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, intervalEndTimeStr)) {
+            validationFailureMsg += String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_MSG, intervalEndTimeStr);
+        }
+        return validationFailureMsg;
+    }
+
+    private void sendStatus(HttpServletResponse response, int httpStatusCode, UpdateRecommendationsJobStatus jobStatus) throws IOException {
+        Gson gson = new GsonBuilder()
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .create();
+        response.setContentType(JSON_CONTENT_TYPE);
+        response.setCharacterEncoding(CHARACTER_ENCODING);
+        response.setStatus(httpStatusCode);
+        PrintWriter out = response.getWriter();
+        out.append(gson.toJson(jobStatus));
+        out.flush();
+    }
+}
@@ -21,8 +21,11 @@ import com.autotune.analyzer.experiment.ExperimentInitiator;
 import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
 import com.autotune.analyzer.serviceObjects.FailedUpdateResultsAPIObject;
 import com.autotune.analyzer.serviceObjects.UpdateResultsAPIObject;
+import com.autotune.analyzer.serviceObjects.UpdateResultsBatchStatus;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.analyzer.workerimpl.UpdateResultsWriteBehind;
+import com.autotune.common.data.result.ExperimentResultData;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.MetricsConfig;
 import com.google.gson.*;
@@ -56,6 +59,11 @@ public class UpdateResults extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(UpdateResults.class);
     public static ConcurrentHashMap<String, PerformanceProfile> performanceProfilesMap = new ConcurrentHashMap<>();
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Double.class, new CustomNumberDeserializer())
+            .registerTypeAdapter(Integer.class, new CustomNumberDeserializer())
+            .create();
+    private static final int SC_TOO_MANY_REQUESTS = 429;
     private static int requestCount = 0;
 
     @Override
@@ -71,18 +79,27 @@ public class UpdateResults extends HttpServlet {
         Timer.Sample timerUpdateResults = Timer.start(MetricsConfig.meterRegistry());
         String inputData = "";
         try {
+            // started at start up when asyncupdateresults is enabled
+            UpdateResultsWriteBehind writeBehind = KruizeDeploymentInfo.async_update_results ? UpdateResultsWriteBehind.getInstance() : null;
+            // reject early when the write-behind queue can not take any more batches
+            if (null != writeBehind && writeBehind.isFull()) {
+                LOGGER.error(AnalyzerErrorConstants.AutotuneObjectErrors.RESULTS_QUEUE_FULL);
+                sendErrorResponse(inputData, request, response, null, SC_TOO_MANY_REQUESTS, AnalyzerErrorConstants.AutotuneObjectErrors.RESULTS_QUEUE_FULL);
+                return;
+            }
             // Set the character encoding of the request to UTF-8
             request.setCharacterEncoding(CHARACTER_ENCODING);
-            inputData = request.getReader().lines().collect(Collectors.joining());
             List<UpdateResultsAPIObject> updateResultsAPIObjects;
-            Gson gson = new GsonBuilder()
-                    .registerTypeAdapter(Double.class, new CustomNumberDeserializer())
-                    .registerTypeAdapter(Integer.class, new CustomNumberDeserializer())
-                    .create();
-            if (KruizeDeploymentInfo.logAllHttpReqAndResp)
-                LOGGER.info("updateResults API request payload for requestID {} is {}", calCount, inputData);
             try {
-                updateResultsAPIObjects = Arrays.asList(gson.fromJson(inputData, UpdateResultsAPIObject[].class));
+                if (KruizeDeploymentInfo.logAllHttpReqAndResp) {
+                    // the payload is needed as a String only when it has to be logged
+                    inputData = request.getReader().lines().collect(Collectors.joining());
+                    LOGGER.info("updateResults API request payload for requestID {} is {}", calCount, inputData);
+                    updateResultsAPIObjects = Arrays.asList(GSON.fromJson(inputData, UpdateResultsAPIObject[].class));
+                } else {
+                    // bind the entries while streaming the request body
+                    updateResultsAPIObjects = Arrays.asList(GSON.fromJson(request.getReader(), UpdateResultsAPIObject[].class));
+                }
             } catch (JsonParseException e) {
                 LOGGER.error("{} : {}", AnalyzerErrorConstants.AutotuneObjectErrors.JSON_PARSING_ERROR, e.getMessage());
                 sendErrorResponse(inputData, request, response, null, HttpServletResponse.SC_BAD_REQUEST, AnalyzerErrorConstants.AutotuneObjectErrors.JSON_PARSING_ERROR);
@@ -100,7 +117,22 @@ public class UpdateResults extends HttpServlet {
                 return;
             }
             ExperimentInitiator experimentInitiator = new ExperimentInitiator();
-            experimentInitiator.validateAndAddExperimentResults(updateResultsAPIObjects);
+            UpdateResultsBatchStatus batchStatus = null;
+            if (null != writeBehind) {
+                // validate now, save later. A request with invalid entries is rejected as a whole, nothing is queued
+                // for it, so that the client can resend it once fixed without tracking a batch of its valid entries
+                List<ExperimentResultData> resultDataList = experimentInitiator.validateExperimentResults(updateResultsAPIObjects);
+                if (!resultDataList.isEmpty() && experimentInitiator.getFailedUpdateResultsAPIObjects().isEmpty()) {
+                    batchStatus = writeBehind.submit(resultDataList);
+                    if (null == batchStatus) {
+                        LOGGER.error(AnalyzerErrorConstants.AutotuneObjectErrors.RESULTS_QUEUE_FULL);
+                        sendErrorResponse(inputData, request, response, null, SC_TOO_MANY_REQUESTS, AnalyzerErrorConstants.AutotuneObjectErrors.RESULTS_QUEUE_FULL);
+                        return;
+                    }
+                }
+            } else {
+                experimentInitiator.validateAndAddExperimentResults(updateResultsAPIObjects);
+            }
             List<UpdateResultsAPIObject> failureAPIObjs = experimentInitiator.getFailedUpdateResultsAPIObjects();
             List<FailedUpdateResultsAPIObject> jsonObjectList = new ArrayList<>();
             if (failureAPIObjs.size() > 0) {
@@ -119,9 +151,15 @@ public class UpdateResults extends HttpServlet {
                         }
                 );
                 request.setAttribute("data", jsonObjectList);
-                String errorMessage = String.format("Out of a total of %s records, %s failed to save", updateResultsAPIObjects.size(), failureAPIObjs.size());
+                String errorMessage = null != writeBehind
+                        ? String.format(AnalyzerErrorConstants.AutotuneObjectErrors.RESULTS_NOT_QUEUED, updateResultsAPIObjects.size(), failureAPIObjs.size())
+                        : String.format("Out of a total of %s records, %s failed to save", updateResultsAPIObjects.size(), failureAPIObjs.size());
                 LOGGER.error("updateResults API request payload for requestID {} failed", calCount);
                 sendErrorResponse(inputData, request, response, null, HttpServletResponse.SC_BAD_REQUEST, errorMessage);
+            } else if (null != batchStatus) {
+                LOGGER.debug("updateResults API request payload for requestID {} queued as batch {}", calCount, batchStatus.getBatchId());
+                sendAcceptedResponse(response, batchStatus);
+                statusValue = "success";
             } else {
                 LOGGER.debug("updateResults API request payload for requestID {} success", calCount);
                 sendSuccessResponse(response, AnalyzerConstants.ServiceConstants.RESULT_SAVED);
@@ -157,6 +195,18 @@ public class UpdateResults extends HttpServlet {
         out.flush();
     }
 
+    private void sendAcceptedResponse(HttpServletResponse response, UpdateResultsBatchStatus batchStatus) throws IOException {
+        response.setContentType(JSON_CONTENT_TYPE);
+        response.setCharacterEncoding(CHARACTER_ENCODING);
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        PrintWriter out = response.getWriter();
+        String acceptedOutput = new Gson().toJson(batchStatus);
+        if (KruizeDeploymentInfo.logAllHttpReqAndResp)
+            LOGGER.info("Update Results API response: {}", acceptedOutput);
+        out.append(acceptedOutput);
+        out.flush();
+    }
+
     public void sendErrorResponse(String inputPayload, HttpServletRequest request, HttpServletResponse response, Exception e, int httpStatusCode, String errorMsg) throws
             IOException {
         if (null != e) {
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.analyzer.services;
+
+import com.autotune.analyzer.serviceObjects.UpdateResultsBatchStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.analyzer.workerimpl.UpdateResultsWriteBehind;
+import com.autotune.utils.KruizeConstants;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Date;
+
+import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHARACTER_ENCODING;
+import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.JSON_CONTENT_TYPE;
+
+/**
+ * REST API used to look up the status of a batch of results queued by updateResults in the asynchronous mode.
+ */
+@WebServlet(asyncSupported = true)
+public class UpdateResultsStatus extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpdateResultsStatus.class);
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        super.init(config);
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        String batchId = request.getParameter(AnalyzerConstants.ServiceConstants.BATCH_ID);
+        if (null == batchId || batchId.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_BATCH_ID);
+            return;
+        }
+        // never starts the write-behind, no batch exists when asyncupdateresults is disabled
+        UpdateResultsWriteBehind writeBehind = UpdateResultsWriteBehind.getInstance();
+        UpdateResultsBatchStatus batchStatus = null == writeBehind ? null : writeBehind.getStatus(batchId);
+        if (null == batchStatus) {
+            LOGGER.debug("Batch {} not found", batchId);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, String.format(AnalyzerErrorConstants.AutotuneObjectErrors.INVALID_BATCH_ID, batchId));
+            return;
+        }
+        Gson gson = new GsonBuilder()
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .create();
+        response.setContentType(JSON_CONTENT_TYPE);
+        response.setCharacterEncoding(CHARACTER_ENCODING);
+        response.setStatus(HttpServletResponse.SC_OK);
+        PrintWriter out = response.getWriter();
+        out.append(gson.toJson(batchStatus));
+        out.flush();
+    }
+}
@@ -113,6 +113,16 @@ public class AnalyzerConstants {
         FAILED;
     }
 
+    /**
+     * Status of a batch of results queued by updateResults in the asynchronous mode, or of a bulk updateRecommendations job
+     */
+    public enum ResultsBatchStatus {
+        QUEUED,
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+
     public enum RecommendationItem {
         cpu,
         memory
@@ -310,6 +320,11 @@ public class AnalyzerConstants {
         public static final String LATEST = "latest";
         public static final String EXPERIMENT_REGISTERED = "Registered successfully with Kruize! View registered experiments at /listExperiments";
         public static final String RESULT_SAVED = "Results added successfully! View saved results at /listExperiments.";
+        public static final String RESULT_QUEUED = "Results queued for saving! View the batch status at /updateResultsStatus?batch_id=%s";
+        public static final String BATCH_ID = "batch_id";
+        public static final String JOB_ID = "job_id";
+        public static final String RECOMMENDATIONS_JOB_QUEUED = "Recommendations job queued! View the job status at /updateRecommendationsBulk?job_id=%s";
+        public static final String RECOMMENDATIONS_JOB_COMPLETED = "Recommendations generated successfully! View the recommendations at /listRecommendations.";
         public static final String DATASOURCE_NAME = "name";
         public static final String DATASOURCE = "datasource";
         public static final String DATASOURCE_PROVIDER = "provider";
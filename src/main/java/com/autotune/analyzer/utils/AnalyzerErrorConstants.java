@@ -93,6 +93,10 @@ public class AnalyzerErrorConstants {
         public static final String UNSUPPORTED_METRIC = "Metric variable name should be among these values: ".concat(Arrays.toString(AnalyzerConstants.MetricName.values()));
         public static final String CONTAINER_AND_EXPERIMENT = " for container : %s for experiment: %s.";
         public static final String JSON_PARSING_ERROR = "Failed to parse the JSON. Please check the input payload ";
+        public static final String RESULTS_QUEUE_FULL = "Too many results are pending to be saved, please retry later";
+        public static final String RESULTS_NOT_QUEUED = "Out of a total of %s records, %s failed validation, none of the records were queued";
+        public static final String MISSING_BATCH_ID = "Missing batch_id parameter";
+        public static final String INVALID_BATCH_ID = "Batch not found: %s";
         public static final String AGGREGATION_INFO_INVALID_VALUE = "Invalid value type for aggregation_info objects. Expected a numeric value (Double).";
         public static final String VERSION_MISMATCH = "Version number mismatch found. Expected: %s , Found: %s";
         public static final String NULL_OR_BLANK_CONTAINER_IMAGE_NAME = "container_image_name cannot be null or blank";
@@ -163,6 +167,10 @@ public class AnalyzerErrorConstants {
             public static final String INTERVAL_END_TIME_MANDATORY = KruizeConstants.JSONKeys.INTERVAL_END_TIME + " is mandatory";
             public static final String DATA_NOT_FOUND = "Data not found!";
             public static final String TIME_COMPARE = "The Start time should precede the End time!";
+            public static final String EXPERIMENTS_OR_CLUSTER_NAME_MANDATORY = "Either experiment_names or cluster_name is mandatory";
+            public static final String MISSING_JOB_ID = "Missing job_id parameter";
+            public static final String INVALID_JOB_ID = "Job not found: %s";
+            public static final String JOBS_QUEUE_FULL = "Too many recommendations jobs queued, retry later";
             public static final String TIME_GAP_LIMIT = String.format("The gap between the interval_start_time and interval_end_time must be within a maximum of %s days!", KruizeDeploymentInfo.generate_recommendations_date_range_limit_in_days);
 
             private UpdateRecommendationsAPI() {
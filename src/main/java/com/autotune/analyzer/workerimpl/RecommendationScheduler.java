@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.engine.RecommendationEngine;
+import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates the recommendations of the experiments receiving new results when recommendationscheduler is enabled,
+ * so that clients do not have to call updateRecommendations after every updateResults.
+ * <p>
+ * Saved results mark their experiment as pending with the latest interval end time received. An experiment is
+ * queued once, however many results it receives, and becomes due the configured delay after its first pending
+ * result, so that the results of a collection cycle are coalesced into a single generation. Due experiments are
+ * taken by the workers oldest first. An experiment receiving results while it is being generated is queued again
+ * once the generation is done, it is never generated by two workers at the same time.
+ */
+public class RecommendationScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecommendationScheduler.class);
+    private static final DateTimeFormatter INTERVAL_END_TIME_FORMATTER = DateTimeFormatter
+            .ofPattern(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT).withZone(ZoneOffset.UTC);
+    private static RecommendationScheduler instance;
+
+    private final long delayInMillis;
+    private final LongSupplier clock;
+    private ExecutorService workerExecutor;
+    // pending experiments by name, queued or waiting for their running generation to complete
+    private final Map<String, PendingExperiment> pendingExperiments = new HashMap<>();
+    // queued experiments, the oldest pending first
+    private final PriorityQueue<PendingExperiment> queue = new PriorityQueue<>(
+            Comparator.comparingLong((PendingExperiment pendingExperiment) -> pendingExperiment.pendingSinceMillis));
+    private final Set<String> runningExperiments = new HashSet<>();
+    private final AtomicInteger generationCount = new AtomicInteger();
+
+    RecommendationScheduler(long delayInMillis, LongSupplier clock) {
+        this.delayInMillis = delayInMillis;
+        this.clock = clock;
+    }
+
+    private void startWorkers(int workers) {
+        workerExecutor = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            workerExecutor.submit(this::workerLoop);
+        }
+    }
+
+    /**
+     * Starts the worker threads, called once at server start up when recommendationscheduler is enabled
+     */
+    public static synchronized void start() {
+        if (null == instance) {
+            instance = new RecommendationScheduler(KruizeDeploymentInfo.recommendation_scheduler_delay_in_seconds * 1000L,
+                    System::currentTimeMillis);
+            instance.startWorkers(KruizeDeploymentInfo.recommendation_scheduler_workers);
+            LOGGER.info("Started {} recommendation scheduler workers with a delay of {} seconds",
+                    KruizeDeploymentInfo.recommendation_scheduler_workers, KruizeDeploymentInfo.recommendation_scheduler_delay_in_seconds);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (null != instance) {
+            instance.workerExecutor.shutdownNow();
+            try {
+                instance.workerExecutor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (instance) {
+                if (!instance.pendingExperiments.isEmpty()) {
+                    LOGGER.info("{} experiments with new results were not generated on shutdown", instance.pendingExperiments.size());
+                }
+            }
+            instance = null;
+        }
+    }
+
+    /**
+     * Marks the experiments of the saved results as pending, does nothing when the scheduler is not started
+     *
+     * @param savedResultDataList results saved into kruize_results
+     */
+    public static void notifyResults(Collection<ExperimentResultData> savedResultDataList) {
+        RecommendationScheduler scheduler;
+        synchronized (RecommendationScheduler.class) {
+            scheduler = instance;
+        }
+        if (null == scheduler)
+            return;
+        for (ExperimentResultData resultData : savedResultDataList) {
+            scheduler.schedule(resultData.getExperiment_name(), resultData.getIntervalEndTime());
+        }
+    }
+
+    synchronized void schedule(String experimentName, Timestamp intervalEndTime) {
+        if (null == experimentName || null == intervalEndTime)
+            return;
+        PendingExperiment pendingExperiment = pendingExperiments.get(experimentName);
+        if (null != pendingExperiment) {
+            if (intervalEndTime.after(pendingExperiment.intervalEndTime))
+                pendingExperiment.intervalEndTime = intervalEndTime;
+            return;
+        }
+        pendingExperiment = new PendingExperiment(experimentName, intervalEndTime, clock.getAsLong());
+        pendingExperiments.put(experimentName, pendingExperiment);
+        if (!runningExperiments.contains(experimentName)) {
+            queue.add(pendingExperiment);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits for the oldest queued experiment to be due and marks it as running.
+     */
+    synchronized PendingExperiment take() throws InterruptedException {
+        while (true) {
+            PendingExperiment head = queue.peek();
+            if (null == head) {
+                wait();
+                continue;
+            }
+            long waitInMillis = getWaitInMillis(head);
+            if (waitInMillis > 0) {
+                wait(waitInMillis);
+                continue;
+            }
+            return markRunning(queue.poll());
+        }
+    }
+
+    /**
+     * Same as take without waiting, null if no queued experiment is due.
+     */
+    synchronized PendingExperiment poll() {
+        PendingExperiment head = queue.peek();
+        if (null == head || getWaitInMillis(head) > 0)
+            return null;
+        return markRunning(queue.poll());
+    }
+
+    private long getWaitInMillis(PendingExperiment pendingExperiment) {
+        return pendingExperiment.pendingSinceMillis + delayInMillis - clock.getAsLong();
+    }
+
+    private PendingExperiment markRunning(PendingExperiment pendingExperiment) {
+        pendingExperiments.remove(pendingExperiment.experimentName);
+        runningExperiments.add(pendingExperiment.experimentName);
+        return pendingExperiment;
+    }
+
+    /**
+     * Marks the experiment as no longer running, queuing it again if it received results in the meantime.
+     */
+    synchronized void complete(String experimentName) {
+        runningExperiments.remove(experimentName);
+        PendingExperiment pendingExperiment = pendingExperiments.get(experimentName);
+        if (null != pendingExperiment) {
+            queue.add(pendingExperiment);
+            notifyAll();
+        }
+    }
+
+    private void workerLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            PendingExperiment pendingExperiment;
+            try {
+                pendingExperiment = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                generate(pendingExperiment);
+            } catch (Exception e) {
+                LOGGER.error("Failed to generate the recommendations of experiment {}: {}", pendingExperiment.experimentName, e.getMessage());
+            } finally {
+                complete(pendingExperiment.experimentName);
+            }
+        }
+    }
+
+    private void generate(PendingExperiment pendingExperiment) {
+        int calCount = generationCount.incrementAndGet();
+        String intervalEndTimeStr = INTERVAL_END_TIME_FORMATTER.format(pendingExperiment.intervalEndTime.toInstant());
+        LOGGER.debug("Scheduled recommendations request count: {}, experiment_name: {}, interval_end_time: {}",
+                calCount, pendingExperiment.experimentName, intervalEndTimeStr);
+        RecommendationEngine recommendationEngine = new RecommendationEngine(pendingExperiment.experimentName, intervalEndTimeStr, null);
+        String validationMessage = recommendationEngine.validate();
+        if (!validationMessage.isEmpty()) {
+            LOGGER.error("Validation failed: {}", validationMessage);
+            return;
+        }
+        KruizeObject kruizeObject = recommendationEngine.prepareRecommendations(calCount);
+        if (!kruizeObject.getValidation_data().isSuccess()) {
+            LOGGER.error("Scheduled recommendations of experiment {} for {} failed: {}", pendingExperiment.experimentName,
+                    intervalEndTimeStr, kruizeObject.getValidation_data().getMessage());
+        }
+    }
+
+    static class PendingExperiment {
+        private final String experimentName;
+        private final long pendingSinceMillis;
+        private Timestamp intervalEndTime;
+
+        private PendingExperiment(String experimentName, Timestamp intervalEndTime, long pendingSinceMillis) {
+            this.experimentName = experimentName;
+            this.intervalEndTime = intervalEndTime;
+            this.pendingSinceMillis = pendingSinceMillis;
+        }
+
+        String getExperimentName() {
+            return experimentName;
+        }
+
+        Timestamp getIntervalEndTime() {
+            return intervalEndTime;
+        }
+    }
+}
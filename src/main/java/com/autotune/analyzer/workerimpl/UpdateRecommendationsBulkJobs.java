@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.engine.RecommendationEngine;
+import com.autotune.analyzer.serviceObjects.UpdateRecommendationsJobStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jobs of the bulk updateRecommendations API, generating the recommendations of many experiments for the same
+ * interval end time.
+ * <p>
+ * A job takes the given experiments, or the experiments of a cluster and namespace, and processes them in batches.
+ * The experiments of a batch are loaded with a single query and, when the engine would read the raw results, the
+ * results of their window as well. Their recommendations are generated in parallel by the bulk recommendations
+ * workers and saved together with batched upserts. The jobs run one at a time, in the order they are submitted,
+ * and their progress can be looked up by job id through /updateRecommendationsBulk.
+ */
+public class UpdateRecommendationsBulkJobs {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpdateRecommendationsBulkJobs.class);
+    // number of experiments loaded, generated and saved together
+    static final int EXPERIMENTS_PER_BATCH = 100;
+    // number of jobs waiting to run, further jobs are rejected
+    static final int MAX_QUEUED_JOBS = 100;
+    // number of job statuses kept for lookup, the oldest ones are dropped first
+    private static final int MAX_JOB_STATUSES = 1000;
+    private static UpdateRecommendationsBulkJobs instance;
+
+    private final ExecutorService jobExecutor;
+    private final ExecutorService workerExecutor;
+    private final BatchProcessor batchProcessor;
+    private final AtomicInteger generationCount = new AtomicInteger();
+    private final Map<String, UpdateRecommendationsJobStatus> jobStatusMap = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, UpdateRecommendationsJobStatus> eldest) {
+                    return size() > MAX_JOB_STATUSES;
+                }
+            });
+
+    private UpdateRecommendationsBulkJobs(int workers) {
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_JOBS));
+        this.workerExecutor = Executors.newFixedThreadPool(workers);
+        this.batchProcessor = this::processBatch;
+    }
+
+    /**
+     * Jobs processing their batches with the given processor instead of loading and generating the experiments
+     */
+    UpdateRecommendationsBulkJobs(BatchProcessor batchProcessor) {
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_JOBS));
+        this.workerExecutor = null;
+        this.batchProcessor = batchProcessor;
+    }
+
+    /**
+     * Starts the job and worker threads, called on the first bulk request
+     *
+     * @return the running instance
+     */
+    public static synchronized UpdateRecommendationsBulkJobs start() {
+        if (null == instance) {
+            int workers = Math.max(1, KruizeDeploymentInfo.bulk_recommendations_workers);
+            instance = new UpdateRecommendationsBulkJobs(workers);
+            LOGGER.info("Started {} bulk recommendations workers", workers);
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (null != instance) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * @return the running instance, null if no bulk request was received since start up. Does not start the threads.
+     */
+    public static synchronized UpdateRecommendationsBulkJobs getInstance() {
+        return instance;
+    }
+
+    void shutdown() {
+        List<Runnable> queuedJobs = jobExecutor.shutdownNow();
+        if (null != workerExecutor)
+            workerExecutor.shutdownNow();
+        try {
+            jobExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queuedJobs.isEmpty()) {
+            LOGGER.error("{} recommendations jobs were not run on shutdown", queuedJobs.size());
+        }
+    }
+
+    /**
+     * Queues a job generating the recommendations of the experiments.
+     *
+     * @param experimentNames    names of the experiments, null to select the experiments by cluster and namespace
+     * @param clusterName        cluster of the experiments, used when no experiment names are given
+     * @param namespace          namespace of the workloads of the experiments, optional
+     * @param intervalEndTimeStr validated interval end time
+     * @return status of the queued job, null if too many jobs are queued
+     */
+    public UpdateRecommendationsJobStatus submit(List<String> experimentNames, String clusterName, String namespace, String intervalEndTimeStr) {
+        Job job = new Job(UUID.randomUUID().toString(), null == experimentNames ? null : new ArrayList<>(new LinkedHashSet<>(experimentNames)),
+                clusterName, namespace, intervalEndTimeStr);
+        UpdateRecommendationsJobStatus jobStatus = new UpdateRecommendationsJobStatus(job.jobId, AnalyzerConstants.ResultsBatchStatus.QUEUED,
+                intervalEndTimeStr, null == job.experimentNames ? 0 : job.experimentNames.size(), 0, null,
+                String.format(AnalyzerConstants.ServiceConstants.RECOMMENDATIONS_JOB_QUEUED, job.jobId));
+        // published before queuing, so that a fast job never gets overwritten by the QUEUED status
+        jobStatusMap.put(job.jobId, jobStatus);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobStatusMap.remove(job.jobId);
+            return null;
+        }
+        return jobStatus;
+    }
+
+    public UpdateRecommendationsJobStatus getStatus(String jobId) {
+        return jobStatusMap.get(jobId);
+    }
+
+    private void run(Job job) {
+        List<UpdateRecommendationsJobStatus.FailedExperiment> failures = new ArrayList<>();
+        int totalExperiments = 0;
+        int processedExperiments = 0;
+        try {
+            List<String> experimentNames = job.experimentNames;
+            if (null == experimentNames) {
+                experimentNames = new ExperimentDBService().loadExperimentNamesFromDBByClusterAndNamespace(job.clusterName, job.namespace);
+            }
+            totalExperiments = experimentNames.size();
+            setStatus(job, AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS, totalExperiments, 0, null, null);
+            Timestamp intervalEndTime = Utils.DateUtils.getTimeStampFrom(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT,
+                    job.intervalEndTimeStr);
+            for (int from = 0; from < totalExperiments; from += EXPERIMENTS_PER_BATCH) {
+                if (Thread.currentThread().isInterrupted())
+                    throw new InterruptedException("Recommendations job interrupted");
+                List<String> batch = experimentNames.subList(from, Math.min(totalExperiments, from + EXPERIMENTS_PER_BATCH));
+                failures.addAll(batchProcessor.process(batch, job.intervalEndTimeStr, intervalEndTime));
+                processedExperiments += batch.size();
+                setStatus(job, AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS, totalExperiments, processedExperiments,
+                        new ArrayList<>(failures), null);
+            }
+            if (failures.isEmpty()) {
+                setStatus(job, AnalyzerConstants.ResultsBatchStatus.COMPLETED, totalExperiments, processedExperiments, null,
+                        AnalyzerConstants.ServiceConstants.RECOMMENDATIONS_JOB_COMPLETED);
+            } else {
+                String errorMessage = String.format("Out of a total of %s experiments, %s failed", totalExperiments, failures.size());
+                setStatus(job, AnalyzerConstants.ResultsBatchStatus.FAILED, totalExperiments, processedExperiments, failures, errorMessage);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            setStatus(job, AnalyzerConstants.ResultsBatchStatus.FAILED, totalExperiments, processedExperiments, failures, e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Recommendations job {} failed: {}", job.jobId, e.getMessage());
+            setStatus(job, AnalyzerConstants.ResultsBatchStatus.FAILED, totalExperiments, processedExperiments, failures, e.getMessage());
+        }
+    }
+
+    private List<UpdateRecommendationsJobStatus.FailedExperiment> processBatch(List<String> experimentNames, String intervalEndTimeStr,
+                                                                                Timestamp intervalEndTime) throws Exception {
+        List<UpdateRecommendationsJobStatus.FailedExperiment> failures = new ArrayList<>();
+        ExperimentDBService experimentDBService = new ExperimentDBService();
+        Map<String, KruizeObject> experiments = new ConcurrentHashMap<>();
+        experimentDBService.loadExperimentsFromDBByNames(experiments, experimentNames);
+        Set<String> experimentsWithResults = loadResults(experimentDBService, experiments, intervalEndTime);
+
+        List<String> generatedExperimentNames = new ArrayList<>();
+        List<Callable<KruizeObject>> tasks = new ArrayList<>();
+        for (String experimentName : experimentNames) {
+            KruizeObject kruizeObject = experiments.get(experimentName);
+            if (null == kruizeObject) {
+                failures.add(new UpdateRecommendationsJobStatus.FailedExperiment(experimentName,
+                        AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_EXPERIMENT_NAME + experimentName));
+                continue;
+            }
+            boolean resultsLoaded = experimentsWithResults.contains(experimentName);
+            generatedExperimentNames.add(experimentName);
+            tasks.add(() -> generate(kruizeObject, intervalEndTimeStr, resultsLoaded));
+        }
+        List<Future<KruizeObject>> futures = workerExecutor.invokeAll(tasks);
+        List<KruizeObject> generatedKruizeObjects = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            String experimentName = generatedExperimentNames.get(i);
+            try {
+                KruizeObject kruizeObject = futures.get(i).get();
+                if (kruizeObject.getValidation_data().isSuccess()) {
+                    generatedKruizeObjects.add(kruizeObject);
+                } else {
+                    failures.add(new UpdateRecommendationsJobStatus.FailedExperiment(experimentName, kruizeObject.getValidation_data().getMessage()));
+                }
+            } catch (ExecutionException e) {
+                LOGGER.error("Failed to generate the recommendations of experiment {}: {}", experimentName, e.getCause().getMessage());
+                failures.add(new UpdateRecommendationsJobStatus.FailedExperiment(experimentName, e.getCause().getMessage()));
+            }
+        }
+        Map<String, String> failedToSave = experimentDBService.addRecommendationsToDB(generatedKruizeObjects, intervalEndTime);
+        for (Map.Entry<String, String> failedExperiment : failedToSave.entrySet()) {
+            failures.add(new UpdateRecommendationsJobStatus.FailedExperiment(failedExperiment.getKey(), failedExperiment.getValue()));
+        }
+        return failures;
+    }
+
+    /**
+     * Loads the raw results of the remote monitoring experiments with one query per window and cluster, the
+     * experiments of a cluster sharing their terms share their window. The push down, rollups and typed results are
+     * read per experiment by the engine.
+     *
+     * @return names of the experiments whose results are loaded
+     */
+    private Set<String> loadResults(ExperimentDBService experimentDBService, Map<String, KruizeObject> experiments,
+                                    Timestamp intervalEndTime) throws Exception {
+        Set<String> experimentsWithResults = new HashSet<>();
+        if (KruizeDeploymentInfo.typed_results_metrics || (KruizeDeploymentInfo.recommendation_rollups && !KruizeDeploymentInfo.plots))
+            return experimentsWithResults;
+        Map<Timestamp, Map<String, List<String>>> experimentNamesByStartTimeAndCluster = new HashMap<>();
+        for (KruizeObject kruizeObject : experiments.values()) {
+            if (kruizeObject.getExperiment_usecase_type().isRemote_monitoring()) {
+                experimentNamesByStartTimeAndCluster.computeIfAbsent(RecommendationEngine.getIntervalStartTime(kruizeObject, intervalEndTime),
+                                k -> new HashMap<>())
+                        .computeIfAbsent(kruizeObject.getClusterName(), k -> new ArrayList<>()).add(kruizeObject.getExperimentName());
+            }
+        }
+        for (Map.Entry<Timestamp, Map<String, List<String>>> window : experimentNamesByStartTimeAndCluster.entrySet()) {
+            for (Map.Entry<String, List<String>> cluster : window.getValue().entrySet()) {
+                experimentsWithResults.addAll(experimentDBService.loadResultsFromDBByNames(experiments, cluster.getValue(),
+                        cluster.getKey(), window.getKey(), intervalEndTime));
+            }
+        }
+        return experimentsWithResults;
+    }
+
+    private KruizeObject generate(KruizeObject kruizeObject, String intervalEndTimeStr, boolean resultsLoaded) {
+        int calCount = generationCount.incrementAndGet();
+        LOGGER.debug("Bulk recommendations request count: {}, experiment_name: {}, interval_end_time: {}",
+                calCount, kruizeObject.getExperimentName(), intervalEndTimeStr);
+        RecommendationEngine recommendationEngine = new RecommendationEngine(kruizeObject.getExperimentName(), intervalEndTimeStr, null);
+        return recommendationEngine.prepareRecommendations(kruizeObject, calCount, resultsLoaded, false);
+    }
+
+    private void setStatus(Job job, AnalyzerConstants.ResultsBatchStatus status, int totalExperiments, int processedExperiments,
+                           List<UpdateRecommendationsJobStatus.FailedExperiment> failures, String message) {
+        jobStatusMap.put(job.jobId, new UpdateRecommendationsJobStatus(job.jobId, status, job.intervalEndTimeStr,
+                totalExperiments, processedExperiments, failures, message));
+    }
+
+    /**
+     * Generates and saves the recommendations of a batch of experiments
+     */
+    interface BatchProcessor {
+        /**
+         * @return the experiments of the batch which failed, with their error
+         */
+        List<UpdateRecommendationsJobStatus.FailedExperiment> process(List<String> experimentNames, String intervalEndTimeStr,
+                                                                    Timestamp intervalEndTime) throws Exception;
+    }
+
+    private static class Job {
+        private final String jobId;
+        private final List<String> experimentNames;
+        private final String clusterName;
+        private final String namespace;
+        private final String intervalEndTimeStr;
+
+        private Job(String jobId, List<String> experimentNames, String clusterName, String namespace, String intervalEndTimeStr) {
+            this.jobId = jobId;
+            this.experimentNames = experimentNames;
+            this.clusterName = clusterName;
+            this.namespace = namespace;
+            this.intervalEndTimeStr = intervalEndTimeStr;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.serviceObjects.FailedUpdateResultsAPIObject;
+import com.autotune.analyzer.serviceObjects.UpdateResultsAPIObject;
+import com.autotune.analyzer.serviceObjects.UpdateResultsBatchStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.parallelengine.executor.KruizeExecutor;
+import com.autotune.common.parallelengine.queue.KruizeQueue;
+import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind of the results received by updateResults when asyncupdateresults is enabled.
+ * <p>
+ * Validated results are put as one batch per request into a bounded queue and the request returns right away.
+ * Flusher threads take the pending batches, merge several of them into a single addResultsToDB call and publish
+ * the outcome of every batch, which can be looked up by its batch id through /updateResultsStatus.
+ * When the queue is full the batch is rejected, so that the caller can back off instead of piling up results in memory.
+ * On stop no more batches are accepted and the flushers save the queued ones before exiting, so that the results
+ * already acknowledged with a 202 are not lost on a normal restart.
+ * <p>
+ * The batch statuses are kept in memory by the replica which queued the batch, only the latest ones are kept and
+ * they are lost on restart.
+ */
+public class UpdateResultsWriteBehind {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpdateResultsWriteBehind.class);
+    // number of queued batches merged into a single DB write
+    private static final int MAX_BATCHES_PER_FLUSH = 10;
+    // number of batch statuses kept for lookup, the oldest ones are dropped first
+    private static final int MAX_BATCH_STATUSES = 10000;
+    // time given to the flushers to save the queued batches on stop
+    private static final long STOP_TIMEOUT_IN_SECONDS = 30;
+    // time a flusher waits for a batch before checking whether it is stopping
+    private static final long POLL_TIMEOUT_IN_MILLIS = 1000;
+    private static UpdateResultsWriteBehind instance;
+
+    private final KruizeQueue<ResultsBatch> queue;
+    private final KruizeExecutor flusherExecutor;
+    private final ResultsWriter resultsWriter;
+    private volatile boolean stopping;
+    private final Map<String, UpdateResultsBatchStatus> batchStatusMap = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, UpdateResultsBatchStatus> eldest) {
+                    return size() > MAX_BATCH_STATUSES;
+                }
+            });
+
+    private UpdateResultsWriteBehind(int queueSize, int workers) {
+        this(queueSize, workers, resultDataList -> new ExperimentDBService().addResultsToDB(resultDataList));
+    }
+
+    UpdateResultsWriteBehind(int queueSize, int workers, ResultsWriter resultsWriter) {
+        this.queue = new KruizeQueue<>(queueSize);
+        this.resultsWriter = resultsWriter;
+        // the flushers run for the lifetime of the write-behind, so no task is ever queued in front of them
+        this.flusherExecutor = new KruizeExecutor(workers,
+                workers,
+                0,
+                TimeUnit.SECONDS,
+                new KruizeQueue<>(workers),
+                new ThreadPoolExecutor.AbortPolicy(),
+                UpdateResultsWriteBehind.class
+        );
+        for (int i = 0; i < workers; i++) {
+            flusherExecutor.submit(this::flushLoop);
+        }
+    }
+
+    /**
+     * Starts the flusher threads, called once at server start up when asyncupdateresults is enabled
+     */
+    public static synchronized void start() {
+        if (null == instance) {
+            instance = new UpdateResultsWriteBehind(KruizeDeploymentInfo.async_update_results_queue_size,
+                    KruizeDeploymentInfo.async_update_results_workers);
+            LOGGER.info("Started {} updateResults flusher workers with a queue size of {}",
+                    KruizeDeploymentInfo.async_update_results_workers, KruizeDeploymentInfo.async_update_results_queue_size);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (null != instance) {
+            instance.shutdown(STOP_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            instance = null;
+        }
+    }
+
+    /**
+     * Rejects new batches and lets the flushers drain the queue, interrupting them only past the timeout
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        synchronized (this) {
+            stopping = true;
+        }
+        flusherExecutor.shutdown();
+        try {
+            if (!flusherExecutor.awaitTermination(timeout, unit)) {
+                flusherExecutor.shutdownNow();
+                flusherExecutor.awaitTermination(timeout, unit);
+            }
+        } catch (InterruptedException e) {
+            flusherExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.error("{} batches of results were not saved on shutdown", queue.size());
+        }
+    }
+
+    /**
+     * @return the started write-behind, null if asyncupdateresults is disabled or it is stopped
+     */
+    public static synchronized UpdateResultsWriteBehind getInstance() {
+        return instance;
+    }
+
+    public boolean isFull() {
+        return queue.remainingCapacity() == 0;
+    }
+
+    /**
+     * Queues the results to be saved.
+     *
+     * @param resultDataList validated results of one updateResults request
+     * @return status of the queued batch, null if the queue is full or the write-behind is stopping
+     */
+    public synchronized UpdateResultsBatchStatus submit(List<ExperimentResultData> resultDataList) {
+        // checked under the lock taken by stop, so that no batch is queued once the flushers may have drained the queue
+        if (stopping)
+            return null;
+        ResultsBatch batch = new ResultsBatch(UUID.randomUUID().toString(), resultDataList);
+        UpdateResultsBatchStatus batchStatus = new UpdateResultsBatchStatus(batch.batchId, AnalyzerConstants.ResultsBatchStatus.QUEUED,
+                resultDataList.size(), null, String.format(AnalyzerConstants.ServiceConstants.RESULT_QUEUED, batch.batchId));
+        // published before queuing, so that a fast flusher never gets overwritten by the QUEUED status
+        batchStatusMap.put(batch.batchId, batchStatus);
+        if (!queue.offer(batch)) {
+            batchStatusMap.remove(batch.batchId);
+            return null;
+        }
+        return batchStatus;
+    }
+
+    public UpdateResultsBatchStatus getStatus(String batchId) {
+        return batchStatusMap.get(batchId);
+    }
+
+    private void flushLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ResultsBatch> batches = new ArrayList<>();
+            try {
+                ResultsBatch batch = (ResultsBatch) queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+                if (null == batch) {
+                    // the queue is drained
+                    if (stopping)
+                        return;
+                    continue;
+                }
+                batches.add(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batches, MAX_BATCHES_PER_FLUSH - 1);
+            try {
+                flush(batches);
+            } catch (Exception e) {
+                LOGGER.error("Failed to save the queued results: {}", e.getMessage());
+                for (ResultsBatch batch : batches) {
+                    setStatus(batch, AnalyzerConstants.ResultsBatchStatus.FAILED, null, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void flush(List<ResultsBatch> batches) throws Exception {
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        // the same result may be sent again by a later request, in which case the later one is reported as failed
+        Map<String, Deque<ResultsBatch>> batchesByResultKey = new HashMap<>();
+        Map<ResultsBatch, List<FailedUpdateResultsAPIObject>> failuresByBatch = new IdentityHashMap<>();
+        for (ResultsBatch batch : batches) {
+            setStatus(batch, AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS, null, null);
+            for (ExperimentResultData resultData : batch.resultDataList) {
+                batchesByResultKey.computeIfAbsent(getResultKey(resultData.getExperiment_name(), resultData.getIntervalEndTime()),
+                        k -> new ArrayDeque<>()).add(batch);
+            }
+            resultDataList.addAll(batch.resultDataList);
+            failuresByBatch.put(batch, new ArrayList<>());
+        }
+        LOGGER.debug("Saving {} queued results of {} batches", resultDataList.size(), batches.size());
+        List<UpdateResultsAPIObject> failedAPIObjects = resultsWriter.write(resultDataList);
+        for (UpdateResultsAPIObject failedObj : failedAPIObjects) {
+            Deque<ResultsBatch> owners = batchesByResultKey.get(getResultKey(failedObj.getExperimentName(), failedObj.getEndTimestamp()));
+            ResultsBatch owner = (null == owners || owners.isEmpty()) ? batches.get(0) : owners.pollLast();
+            failuresByBatch.get(owner).add(new FailedUpdateResultsAPIObject(
+                    failedObj.getApiVersion(),
+                    failedObj.getExperimentName(),
+                    failedObj.getStartTimestamp(),
+                    failedObj.getEndTimestamp(),
+                    failedObj.getErrors()));
+        }
+        for (ResultsBatch batch : batches) {
+            List<FailedUpdateResultsAPIObject> failures = failuresByBatch.get(batch);
+            if (failures.isEmpty()) {
+                setStatus(batch, AnalyzerConstants.ResultsBatchStatus.COMPLETED, null, AnalyzerConstants.ServiceConstants.RESULT_SAVED);
+            } else {
+                String errorMessage = String.format("Out of a total of %s records, %s failed to save", batch.resultDataList.size(), failures.size());
+                setStatus(batch, AnalyzerConstants.ResultsBatchStatus.FAILED, failures, errorMessage);
+            }
+        }
+    }
+
+    private void setStatus(ResultsBatch batch, AnalyzerConstants.ResultsBatchStatus status, List<FailedUpdateResultsAPIObject> failures, String message) {
+        batchStatusMap.put(batch.batchId, new UpdateResultsBatchStatus(batch.batchId, status, batch.resultDataList.size(), failures, message));
+    }
+
+    private static String getResultKey(String experimentName, Timestamp intervalEndTime) {
+        return experimentName + "|" + (null == intervalEndTime ? null : intervalEndTime.getTime());
+    }
+
+    /**
+     * Saves the merged results of the flushed batches, ExperimentDBService.addResultsToDB outside of the tests
+     */
+    interface ResultsWriter {
+        List<UpdateResultsAPIObject> write(List<ExperimentResultData> resultDataList) throws Exception;
+    }
+
+    private static class ResultsBatch {
+        private final String batchId;
+        private final List<ExperimentResultData> resultDataList;
+
+        private ResultsBatch(String batchId, List<ExperimentResultData> resultDataList) {
+            this.batchId = batchId;
+            this.resultDataList = resultDataList;
+        }
+    }
+}
@@ -22,7 +22,10 @@ import com.autotune.utils.KruizeConstants;
 import com.google.gson.annotations.SerializedName;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 public class ContainerData {
     private String container_image_name;
@@ -32,6 +35,10 @@ public class ContainerData {
     @SerializedName(KruizeConstants.JSONKeys.RECOMMENDATIONS)
     private ContainerRecommendations containerRecommendations;
     private HashMap<AnalyzerConstants.MetricName, Metric> metrics;
+    // columnar copy of the results used by the recommendation engine, not serialized
+    private transient ContainerResultsSeries resultsSeries;
+    // results sorted by interval end time, shared by the terms and models of the recommendation engine, not serialized
+    private transient NavigableMap<Timestamp, IntervalResults> resultsIndex;
 
     public ContainerData(String container_name, String container_image_name, ContainerRecommendations containerRecommendations, HashMap<AnalyzerConstants.MetricName, Metric> metrics) {
         this.container_name = container_name;
@@ -68,6 +75,40 @@ public class ContainerData {
 
     public void setResults(HashMap<Timestamp, IntervalResults> results) {
         this.results = results;
+        invalidateResultsCaches();
+    }
+
+    /**
+     * Drops the results index and series, to be called after changing the results map in place.
+     */
+    public void invalidateResultsCaches() {
+        this.resultsSeries = null;
+        this.resultsIndex = null;
+    }
+
+    /**
+     * Read-only view of the results sorted by interval end time, built on first use and dropped by setResults and
+     * invalidateResultsCaches. Term windows are taken as subMap views of it instead of copies of the results.
+     */
+    public NavigableMap<Timestamp, IntervalResults> getResultsIndex() {
+        NavigableMap<Timestamp, IntervalResults> index = resultsIndex;
+        if (null == index) {
+            index = Collections.unmodifiableNavigableMap(null == results ? new TreeMap<>() : new TreeMap<>(results));
+            resultsIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Columnar copy of the results, built on first use and dropped by setResults and invalidateResultsCaches.
+     */
+    public ContainerResultsSeries getResultsSeries() {
+        ContainerResultsSeries series = resultsSeries;
+        if (null == series) {
+            series = ContainerResultsSeries.fromResults(results);
+            resultsSeries = series;
+        }
+        return series;
     }
 
     public ContainerRecommendations getContainerRecommendations() {
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Columnar, time sorted copy of the results of a container.
+ * <p>
+ * Interval i has its end time at intervalEndTimes[i] (epoch millis, ascending) and the aggregations of each metric
+ * in primitive columns, a value absent from the results reads as 0 and is flagged in the missing bitmap of the
+ * column. Ranges of intervals are given as [fromIndex, toIndex) and looked up with a binary search.
+ */
+public class ContainerResultsSeries {
+    public enum Aggregation {
+        avg, min, max, sum
+    }
+
+    private static final int AGGREGATIONS = Aggregation.values().length;
+
+    private final long[] intervalStartTimes;
+    private final long[] intervalEndTimes;
+    private final boolean[] metricsAvailable;
+    // indexed by metric ordinal * AGGREGATIONS + aggregation ordinal
+    private final double[][] columns;
+    private final BitSet[] missing;
+    private final EnumMap<AnalyzerConstants.MetricName, String> formats = new EnumMap<>(AnalyzerConstants.MetricName.class);
+
+    private ContainerResultsSeries(int size) {
+        this.intervalStartTimes = new long[size];
+        this.intervalEndTimes = new long[size];
+        this.metricsAvailable = new boolean[size];
+        int columnCount = AnalyzerConstants.MetricName.values().length * AGGREGATIONS;
+        this.columns = new double[columnCount][];
+        this.missing = new BitSet[columnCount];
+    }
+
+    public static ContainerResultsSeries fromResults(Map<Timestamp, IntervalResults> results) {
+        if (null == results)
+            return new ContainerResultsSeries(0);
+        List<Map.Entry<Timestamp, IntervalResults>> entries = new ArrayList<>(results.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        int size = entries.size();
+        ContainerResultsSeries series = new ContainerResultsSeries(size);
+        for (int i = 0; i < size; i++) {
+            Map.Entry<Timestamp, IntervalResults> entry = entries.get(i);
+            IntervalResults intervalResults = entry.getValue();
+            series.intervalEndTimes[i] = entry.getKey().getTime();
+            Timestamp intervalStartTime = null == intervalResults ? null : intervalResults.getIntervalStartTime();
+            series.intervalStartTimes[i] = null == intervalStartTime ? series.intervalEndTimes[i] : intervalStartTime.getTime();
+            if (null == intervalResults || null == intervalResults.getMetricResultsMap() || intervalResults.getMetricResultsMap().isEmpty())
+                continue;
+            series.metricsAvailable[i] = true;
+            for (Map.Entry<AnalyzerConstants.MetricName, MetricResults> metricResultsEntry : intervalResults.getMetricResultsMap().entrySet()) {
+                MetricAggregationInfoResults aggregationInfoResult = null == metricResultsEntry.getValue() ? null : metricResultsEntry.getValue().getAggregationInfoResult();
+                if (null == aggregationInfoResult)
+                    continue;
+                AnalyzerConstants.MetricName metricName = metricResultsEntry.getKey();
+                series.set(metricName, Aggregation.avg, i, aggregationInfoResult.getAvg());
+                series.set(metricName, Aggregation.min, i, aggregationInfoResult.getMin());
+                series.set(metricName, Aggregation.max, i, aggregationInfoResult.getMax());
+                series.set(metricName, Aggregation.sum, i, aggregationInfoResult.getSum());
+                String format = aggregationInfoResult.getFormat();
+                if (null != format && !format.isEmpty())
+                    series.formats.putIfAbsent(metricName, format);
+            }
+        }
+        return series;
+    }
+
+    private void set(AnalyzerConstants.MetricName metricName, Aggregation aggregation, int index, Double value) {
+        if (null == value)
+            return;
+        int column = metricName.ordinal() * AGGREGATIONS + aggregation.ordinal();
+        if (null == columns[column]) {
+            columns[column] = new double[intervalEndTimes.length];
+            missing[column] = new BitSet(intervalEndTimes.length);
+            missing[column].set(0, intervalEndTimes.length);
+        }
+        columns[column][index] = value;
+        missing[column].clear(index);
+    }
+
+    public int size() {
+        return intervalEndTimes.length;
+    }
+
+    public long getIntervalStartTime(int index) {
+        return intervalStartTimes[index];
+    }
+
+    public long getIntervalEndTime(int index) {
+        return intervalEndTimes[index];
+    }
+
+    /**
+     * @return false for the intervals loaded without their metrics
+     */
+    public boolean isMetricsAvailable(int index) {
+        return metricsAvailable[index];
+    }
+
+    public double get(AnalyzerConstants.MetricName metricName, Aggregation aggregation, int index) {
+        double[] column = columns[metricName.ordinal() * AGGREGATIONS + aggregation.ordinal()];
+        return null == column ? 0.0 : column[index];
+    }
+
+    public boolean isMissing(AnalyzerConstants.MetricName metricName, Aggregation aggregation, int index) {
+        BitSet columnMissing = missing[metricName.ordinal() * AGGREGATIONS + aggregation.ordinal()];
+        return null == columnMissing || columnMissing.get(index);
+    }
+
+    /**
+     * @return the first non empty format of the metric, empty if none
+     */
+    public String getFormat(AnalyzerConstants.MetricName metricName) {
+        return formats.getOrDefault(metricName, "");
+    }
+
+    /**
+     * @return index of the first interval ending at or after the time
+     */
+    public int fromIndex(Timestamp intervalEndTime) {
+        return lowerBound(intervalEndTime.getTime());
+    }
+
+    /**
+     * @return index after the last interval ending at or before the time
+     */
+    public int toIndex(Timestamp intervalEndTime) {
+        long time = intervalEndTime.getTime();
+        return time == Long.MAX_VALUE ? intervalEndTimes.length : lowerBound(time + 1);
+    }
+
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = intervalEndTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervalEndTimes[mid] < time)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+}
@@ -10,6 +10,7 @@ import com.autotune.common.target.kubernetes.service.impl.KubernetesServicesImpl
 import com.autotune.common.utils.CommonUtils;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.GenericRestApiClient;
+import com.autotune.utils.ServiceAccountToken;
 import com.autotune.utils.KruizeConstants;
 import com.google.gson.JsonArray;
 import com.autotune.utils.authModels.BearerAccessToken;
@@ -20,8 +21,6 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -135,8 +134,9 @@ public class DataSourceOperatorImpl implements DataSourceOperator {
      * @return String containing token
      */
     public String getToken() throws IOException {
-        String fileName = KruizeConstants.AUTH_MOUNT_PATH+"token";
-        String authToken = new String(Files.readAllBytes(Paths.get(fileName)));
+        String authToken = ServiceAccountToken.getToken();
+        if (null == authToken)
+            throw new IOException("Unable to read the service account token from " + KruizeConstants.AUTH_MOUNT_PATH);
         return authToken;
     }
 
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded thread pools running the queries to the datasources, one per datasource shared by all the requests, so that
+ * no more than datasourcequeryparallelism queries are in flight to a datasource at any time.
+ * <p>
+ * With datasourcequeryparallelism set to "1" the queries run one after the other on the calling thread as before.
+ */
+public final class DataSourceQueryExecutors {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceQueryExecutors.class);
+    private static final Map<String, ExecutorService> executors = new HashMap<>();
+
+    private DataSourceQueryExecutors() {
+    }
+
+    /**
+     * Runs the queries concurrently on the pool of the datasource. The results are passed to the consumer on the
+     * calling thread as the queries complete, so the consumer does not need to be thread safe. The first failing
+     * query cancels the queries not yet run.
+     *
+     * @param dataSourceName name of the datasource the queries are sent to
+     * @param queries        queries returning the parsed response
+     * @param resultConsumer called with the result of every query, in completion order
+     * @throws Exception the exception of the first failing query
+     */
+    public static <T> void invokeAll(String dataSourceName, List<? extends Callable<T>> queries, Consumer<T> resultConsumer) throws Exception {
+        int parallelism = KruizeDeploymentInfo.datasource_query_parallelism;
+        if (parallelism <= 1 || queries.size() <= 1) {
+            for (Callable<T> query : queries) {
+                resultConsumer.accept(query.call());
+            }
+            return;
+        }
+        CompletionService<T> completionService = new ExecutorCompletionService<>(getExecutor(dataSourceName, parallelism));
+        List<Future<T>> futures = new ArrayList<>(queries.size());
+        try {
+            for (Callable<T> query : queries) {
+                futures.add(completionService.submit(query));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    resultConsumer.accept(completionService.take().get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception)
+                        throw (Exception) e.getCause();
+                    throw e;
+                }
+            }
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    public static synchronized void stop() {
+        for (ExecutorService executor : executors.values()) {
+            executor.shutdownNow();
+        }
+        executors.clear();
+    }
+
+    private static synchronized ExecutorService getExecutor(String dataSourceName, int parallelism) {
+        return executors.computeIfAbsent(dataSourceName, name -> {
+            LOGGER.debug("Created {} query threads for datasource {}", parallelism, name);
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "datasource-" + name + "-query-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        });
+    }
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.common.datasource.prometheus.PrometheusRangeResponseParser.Series;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Process wide LRU cache of the series returned by datasource range queries, keyed by datasource, step and PromQL
+ * with its whitespace collapsed, so that a repeated query only fetches the steps added since the previous one.
+ * <p>
+ * Cached queries are evaluated on the step grid, their start rounded up and their end rounded down to a multiple of
+ * the step, so that the samples of successive windows line up. A query whose window starts within the cached samples
+ * fetches the steps after them and stitches them on, the cached samples before the window are dropped. Samples
+ * evaluated less than PROVISIONAL_IN_SECONDS before they were fetched may still change as late samples are ingested,
+ * they are fetched again. Entries not used for rangequerycachettl minutes expire, and the least recently used entries
+ * are evicted once the samples exceed rangequerycachesize MiB.
+ */
+public class RangeQueryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RangeQueryCache.class);
+    private static final RangeQueryCache INSTANCE = new RangeQueryCache();
+    // the default Prometheus lookback delta
+    private static final long PROVISIONAL_IN_SECONDS = 5 * 60;
+    // time and value of a sample
+    private static final long SAMPLE_SIZE_IN_BYTES = Long.BYTES + Double.BYTES;
+
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+
+    private RangeQueryCache() {
+    }
+
+    public static RangeQueryCache getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return null != KruizeDeploymentInfo.range_query_cache_size_in_mb && KruizeDeploymentInfo.range_query_cache_size_in_mb > 0;
+    }
+
+    /**
+     * Fetches the series of a range query, from the cache for the steps already fetched.
+     *
+     * @param dataSourceName name of the datasource
+     * @param promQL         query, the same for every window
+     * @param startInSeconds start of the window
+     * @param endInSeconds   end of the window
+     * @param stepInSeconds  step of the query
+     * @param rangeFetcher   runs the query over a window of the step grid
+     * @return the series of the window by label
+     */
+    public Map<String, Series> fetch(String dataSourceName, String promQL, long startInSeconds, long endInSeconds, long stepInSeconds,
+                                     RangeFetcher rangeFetcher) throws Exception {
+        if (stepInSeconds <= 0)
+            return rangeFetcher.fetch(startInSeconds, endInSeconds);
+        long start = Math.floorDiv(startInSeconds + stepInSeconds - 1, stepInSeconds) * stepInSeconds;
+        long end = Math.floorDiv(endInSeconds, stepInSeconds) * stepInSeconds;
+        if (start > end)
+            return rangeFetcher.fetch(startInSeconds, endInSeconds);
+        String key = dataSourceName + "|" + stepInSeconds + "|" + promQL.trim().replaceAll("\\s+", " ");
+        CacheEntry cacheEntry = get(key);
+        long fetchTimeInSeconds = System.currentTimeMillis() / 1000;
+
+        Map<String, Series> seriesMap = new HashMap<>();
+        long fetchStart = start;
+        if (null != cacheEntry && cacheEntry.start <= start && start <= cacheEntry.settledEnd + stepInSeconds) {
+            long cachedEnd = Math.min(end, cacheEntry.settledEnd);
+            for (Map.Entry<String, Series> series : cacheEntry.seriesMap.entrySet()) {
+                seriesMap.put(series.getKey(), series.getValue().subSeries(start, cachedEnd));
+            }
+            if (end <= cacheEntry.settledEnd) {
+                LOGGER.debug("Range query served from the cache: {}", key);
+                return seriesMap;
+            }
+            fetchStart = cacheEntry.settledEnd + stepInSeconds;
+        }
+        Map<String, Series> fetchedSeriesMap = rangeFetcher.fetch(fetchStart, end);
+        for (Map.Entry<String, Series> fetchedSeries : fetchedSeriesMap.entrySet()) {
+            Series series = seriesMap.get(fetchedSeries.getKey());
+            if (null == series) {
+                seriesMap.put(fetchedSeries.getKey(), fetchedSeries.getValue());
+                continue;
+            }
+            Series tail = fetchedSeries.getValue();
+            for (int i = 0; i < tail.size(); i++) {
+                series.add(tail.getTimeInSeconds(i), tail.getValue(i));
+            }
+        }
+        long settledEnd = Math.min(end, Math.floorDiv(fetchTimeInSeconds - PROVISIONAL_IN_SECONDS, stepInSeconds) * stepInSeconds);
+        put(key, new CacheEntry(start, settledEnd, seriesMap));
+        return seriesMap;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeInBytes = 0;
+    }
+
+    private synchronized CacheEntry get(String key) {
+        CacheEntry cacheEntry = entries.get(key);
+        if (null != cacheEntry && isExpired(cacheEntry)) {
+            remove(key);
+            return null;
+        }
+        if (null != cacheEntry)
+            cacheEntry.lastUsedMillis = System.currentTimeMillis();
+        return cacheEntry;
+    }
+
+    private synchronized void put(String key, CacheEntry cacheEntry) {
+        remove(key);
+        entries.put(key, cacheEntry);
+        sizeInBytes += cacheEntry.sizeInBytes;
+        long maxSizeInBytes = KruizeDeploymentInfo.range_query_cache_size_in_mb * 1024L * 1024L;
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        // least recently used first
+        while (iterator.hasNext()) {
+            Map.Entry<String, CacheEntry> eldest = iterator.next();
+            if (sizeInBytes <= maxSizeInBytes && !isExpired(eldest.getValue()))
+                break;
+            sizeInBytes -= eldest.getValue().sizeInBytes;
+            iterator.remove();
+        }
+    }
+
+    private void remove(String key) {
+        CacheEntry cacheEntry = entries.remove(key);
+        if (null != cacheEntry)
+            sizeInBytes -= cacheEntry.sizeInBytes;
+    }
+
+    private boolean isExpired(CacheEntry cacheEntry) {
+        Integer ttlInMinutes = KruizeDeploymentInfo.range_query_cache_ttl_in_minutes;
+        return null != ttlInMinutes && ttlInMinutes > 0
+                && System.currentTimeMillis() - cacheEntry.lastUsedMillis > ttlInMinutes * 60 * 1000L;
+    }
+
+    public interface RangeFetcher {
+        /**
+         * @return the series of the query over [startInSeconds, endInSeconds] by label
+         */
+        Map<String, Series> fetch(long startInSeconds, long endInSeconds) throws Exception;
+    }
+
+    /**
+     * Samples of a query from start, the ones up to settledEnd are final. The series are never modified once cached.
+     */
+    private static class CacheEntry {
+        private final long start;
+        private final long settledEnd;
+        private final Map<String, Series> seriesMap;
+        private final long sizeInBytes;
+        private long lastUsedMillis = System.currentTimeMillis();
+
+        private CacheEntry(long start, long settledEnd, Map<String, Series> seriesMap) {
+            this.start = start;
+            this.settledEnd = settledEnd;
+            this.seriesMap = seriesMap;
+            long samples = 0;
+            for (Series series : seriesMap.values()) {
+                samples += series.size();
+            }
+            this.sizeInBytes = samples * SAMPLE_SIZE_IN_BYTES;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import com.autotune.utils.GenericRestApiClient;
+import com.autotune.utils.KruizeConstants;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decodes a Prometheus query_range response as it is read, keeping only the samples of every series in primitive
+ * arrays, keyed by the value of one of their labels. The response is never held as a String or a JSON tree.
+ * <p>
+ * The first series of a label value is kept, the series without the label are skipped. An error response fails
+ * with the error of Prometheus.
+ */
+public class PrometheusRangeResponseParser implements GenericRestApiClient.ResponseReader<Map<String, PrometheusRangeResponseParser.Series>> {
+    private static final String ERROR = "error";
+    private final String labelName;
+
+    /**
+     * @param labelName label the series are keyed by, e.g. container
+     */
+    public PrometheusRangeResponseParser(String labelName) {
+        this.labelName = labelName;
+    }
+
+    @Override
+    public Map<String, Series> read(Reader reader) throws IOException {
+        Map<String, Series> seriesMap = new HashMap<>();
+        String status = null;
+        String error = null;
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.STATUS.equals(name)) {
+                    status = jsonReader.nextString();
+                } else if (ERROR.equals(name)) {
+                    error = jsonReader.nextString();
+                } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.DATA.equals(name) && JsonToken.BEGIN_OBJECT == jsonReader.peek()) {
+                    readData(jsonReader, seriesMap);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+        }
+        if (!KruizeConstants.DataSourceConstants.DataSourceQueryStatus.SUCCESS.equalsIgnoreCase(status))
+            throw new IOException("Query failed with status " + status + ": " + error);
+        return seriesMap;
+    }
+
+    private void readData(JsonReader jsonReader, Map<String, Series> seriesMap) throws IOException {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT.equals(jsonReader.nextName())
+                    && JsonToken.BEGIN_ARRAY == jsonReader.peek()) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    readSeries(jsonReader, seriesMap);
+                }
+                jsonReader.endArray();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+    }
+
+    private void readSeries(JsonReader jsonReader, Map<String, Series> seriesMap) throws IOException {
+        String labelValue = null;
+        Series series = null;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.METRIC.equals(name)) {
+                labelValue = readLabel(jsonReader);
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUES.equals(name)) {
+                series = readValues(jsonReader);
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        if (null != labelValue && null != series)
+            seriesMap.putIfAbsent(labelValue, series);
+    }
+
+    private String readLabel(JsonReader jsonReader) throws IOException {
+        String labelValue = null;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (labelName.equals(jsonReader.nextName()))
+                labelValue = jsonReader.nextString();
+            else
+                jsonReader.skipValue();
+        }
+        jsonReader.endObject();
+        return labelValue;
+    }
+
+    // samples are [<unix time in seconds>, "<value>"]
+    private static Series readValues(JsonReader jsonReader) throws IOException {
+        Series series = new Series();
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            jsonReader.beginArray();
+            long timeInSeconds = (long) jsonReader.nextDouble();
+            double value = Double.parseDouble(jsonReader.nextString());
+            jsonReader.endArray();
+            series.add(timeInSeconds, value);
+        }
+        jsonReader.endArray();
+        return series;
+    }
+
+    /**
+     * Samples of a series in time order.
+     */
+    public static class Series {
+        private long[] timesInSeconds = new long[16];
+        private double[] values = new double[16];
+        private int size;
+
+        /**
+         * Adds a sample, after the samples already added
+         */
+        public void add(long timeInSeconds, double value) {
+            if (size == values.length) {
+                timesInSeconds = Arrays.copyOf(timesInSeconds, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            timesInSeconds[size] = timeInSeconds;
+            values[size] = value;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long getTimeInSeconds(int index) {
+            return timesInSeconds[Objects.checkIndex(index, size)];
+        }
+
+        public double getValue(int index) {
+            return values[Objects.checkIndex(index, size)];
+        }
+
+        /**
+         * @return a copy of the samples with a time in [fromTimeInSeconds, toTimeInSeconds]
+         */
+        public Series subSeries(long fromTimeInSeconds, long toTimeInSeconds) {
+            Series series = new Series();
+            for (int i = indexOf(fromTimeInSeconds); i < size && timesInSeconds[i] <= toTimeInSeconds; i++) {
+                series.add(timesInSeconds[i], values[i]);
+            }
+            return series;
+        }
+
+        // index of the first sample at or after the time
+        private int indexOf(long timeInSeconds) {
+            int index = Arrays.binarySearch(timesInSeconds, 0, size, timeInSeconds);
+            return index < 0 ? -index - 1 : index;
+        }
+    }
+}
@@ -20,7 +20,6 @@ import com.autotune.utils.KruizeConstants;
 
 import java.sql.Timestamp;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -282,8 +281,8 @@ public class CommonUtils {
     }
 
     public static Double percentile(double percentile, List<Double> items) {
-        Collections.sort(items);
-        return items.get((int) Math.round(percentile / 100.0 * (items.size() - 1)));
+        // selects on a copy, the order of the items is left as is
+        return Percentiles.percentile(items.stream().mapToDouble(Double::doubleValue).toArray(), percentile);
     }
 
     public static double getPercentage(double newer, double older) {
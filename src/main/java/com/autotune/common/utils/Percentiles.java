@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Nearest rank percentiles over primitive arrays, the value at the index round(percentile / 100 * (size - 1)) of the
+ * sorted values.
+ * <p>
+ * A single percentile is selected in linear time, several percentiles share one sort. The methods reorder the range
+ * of the array they are given, callers pass a copy when the order matters. In SKETCH mode the values are counted in
+ * a QuantileSketch instead, within its relative accuracy and without reordering the array.
+ */
+public final class Percentiles {
+
+    public enum Mode {
+        EXACT,
+        SKETCH
+    }
+
+    private Percentiles() {
+    }
+
+    public static int getRank(double percentile, int size) {
+        return (int) Math.round(percentile / 100.0 * (size - 1));
+    }
+
+    public static double percentile(double[] values, double percentile) {
+        return percentile(values, 0, values.length, percentile);
+    }
+
+    /**
+     * Percentile of the values in [from, to), selected with a quickselect.
+     */
+    public static double percentile(double[] values, int from, int to, double percentile) {
+        checkRange(values, from, to);
+        int k = from + getRank(percentile, to - from);
+        select(values, from, to - 1, k);
+        return values[k];
+    }
+
+    public static double[] percentiles(double[] values, double... percentiles) {
+        return percentiles(values, 0, values.length, Mode.EXACT, percentiles);
+    }
+
+    /**
+     * Percentiles of the values in [from, to), in the order they are asked.
+     */
+    public static double[] percentiles(double[] values, int from, int to, Mode mode, double... percentiles) {
+        checkRange(values, from, to);
+        double[] result = new double[percentiles.length];
+        if (Mode.SKETCH == mode) {
+            QuantileSketch sketch = new QuantileSketch();
+            for (int i = from; i < to; i++) {
+                sketch.add(values[i]);
+            }
+            for (int i = 0; i < percentiles.length; i++) {
+                result[i] = sketch.percentile(percentiles[i]);
+            }
+        } else if (1 == percentiles.length) {
+            result[0] = percentile(values, from, to, percentiles[0]);
+        } else {
+            Arrays.sort(values, from, to);
+            for (int i = 0; i < percentiles.length; i++) {
+                result[i] = values[from + getRank(percentiles[i], to - from)];
+            }
+        }
+        return result;
+    }
+
+    public static double max(double[] values, int from, int to) {
+        checkRange(values, from, to);
+        double max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Min, quartiles and max of the values in [from, to). Min and max are found in one pass, the median is selected
+     * over the whole range and the quartiles over the halves on either side of it.
+     */
+    public static FiveNumberSummary getFiveNumberSummary(double[] values, int from, int to) {
+        checkRange(values, from, to);
+        double min = values[from];
+        double max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        int size = to - from;
+        int medianIndex = from + getRank(50, size);
+        int q1Index = from + getRank(25, size);
+        int q3Index = from + getRank(75, size);
+        select(values, from, to - 1, medianIndex);
+        select(values, from, medianIndex, q1Index);
+        select(values, medianIndex, to - 1, q3Index);
+        return new FiveNumberSummary(min, values[q1Index], values[medianIndex], values[q3Index], max);
+    }
+
+    private static void checkRange(double[] values, int from, int to) {
+        if (null == values || from < 0 || to > values.length)
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        if (from >= to)
+            throw new NoSuchElementException("No values in the range [" + from + ", " + to + ")");
+    }
+
+    // Hoare partitioning around the middle element until k is in place, values in [low, high] only
+    private static void select(double[] values, int low, int high, int k) {
+        while (low < high) {
+            double pivot = values[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (Double.compare(values[i], pivot) < 0)
+                    i++;
+                while (Double.compare(values[j], pivot) > 0)
+                    j--;
+                if (i <= j) {
+                    double value = values[i];
+                    values[i] = values[j];
+                    values[j] = value;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j)
+                high = j;
+            else if (k >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+
+    public static class FiveNumberSummary {
+        private final double min;
+        private final double q1;
+        private final double median;
+        private final double q3;
+        private final double max;
+
+        public FiveNumberSummary(double min, double q1, double median, double q3, double max) {
+            this.min = min;
+            this.q1 = q1;
+            this.median = median;
+            this.q3 = q3;
+            this.max = max;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getQ1() {
+            return q1;
+        }
+
+        public double getMedian() {
+            return median;
+        }
+
+        public double getQ3() {
+            return q3;
+        }
+
+        public double getMax() {
+            return max;
+        }
+    }
+}
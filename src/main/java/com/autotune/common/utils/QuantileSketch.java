@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable sketch of a distribution of non-negative values, used to answer percentiles without keeping the values.
+ * <p>
+ * Values are counted in logarithmic buckets, so that the value returned for a percentile is within the relative
+ * accuracy of the value that CommonUtils.percentile would return over the same values. Min and max are exact.
+ * Two sketches of the same accuracy merge by adding their bucket counts, which makes them suitable for rollups.
+ */
+public class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    // values below are counted as zero
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    private void add(double value, long valueCount) {
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount += valueCount;
+        } else {
+            buckets.merge((int) Math.ceil(Math.log(value) / logGamma), valueCount, Long::sum);
+        }
+        count += valueCount;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (null == other || 0 == other.count) {
+            return;
+        }
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches of different accuracies");
+        }
+        for (Map.Entry<Integer, Long> bucket : other.buckets.entrySet()) {
+            buckets.merge(bucket.getKey(), bucket.getValue(), Long::sum);
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Double getMin() {
+        return 0 == count ? null : min;
+    }
+
+    public Double getMax() {
+        return 0 == count ? null : max;
+    }
+
+    /**
+     * Same rank as CommonUtils.percentile, the value at the index round(percentile / 100 * (count - 1)) of the
+     * sorted values.
+     *
+     * @param percentile between 0 and 100
+     * @return the estimated value, null if the sketch is empty
+     */
+    public Double percentile(double percentile) {
+        if (0 == count) {
+            return null;
+        }
+        long rank = Math.round(percentile / 100.0 * (count - 1));
+        if (rank <= 0) {
+            return min;
+        }
+        if (rank >= count - 1) {
+            return max;
+        }
+        long seen = zeroCount;
+        if (rank < seen) {
+            return Math.max(0.0, min);
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (rank < seen) {
+                double value = 2 * Math.pow(gamma, bucket.getKey()) / (gamma + 1);
+                return Math.min(max, Math.max(min, value));
+            }
+        }
+        return max;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES * 3 + Long.BYTES * 2 + Integer.BYTES
+                + buckets.size() * (Integer.BYTES + Long.BYTES));
+        buffer.putDouble(relativeAccuracy);
+        buffer.putLong(count);
+        buffer.putLong(zeroCount);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(buckets.size());
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            buffer.putInt(bucket.getKey());
+            buffer.putLong(bucket.getValue());
+        }
+        return buffer.array();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        if (null == bytes || 0 == bytes.length) {
+            return new QuantileSketch();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        QuantileSketch sketch = new QuantileSketch(buffer.getDouble());
+        sketch.count = buffer.getLong();
+        sketch.zeroCount = buffer.getLong();
+        sketch.min = buffer.getDouble();
+        sketch.max = buffer.getDouble();
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            sketch.buckets.put(buffer.getInt(), buffer.getLong());
+        }
+        return sketch;
+    }
+}
@@ -8,6 +8,7 @@ import com.autotune.database.table.*;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 
 public interface ExperimentDAO {
 
@@ -17,11 +18,18 @@ public interface ExperimentDAO {
     // Add experiment results from local storage to DB and set status to Inprogress
     public ValidationOutputData addResultsToDB(KruizeResultsEntry resultsEntry);
 
-    public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries);
+    // Add the results along with their typed metrics and merge them into the rollups, each result, its metrics and its
+    // rollups are saved in the same transaction
+    public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries,
+                                                                 Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                                                 Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry);
 
     // Add recommendation  to DB
     public ValidationOutputData addRecommendationToDB(KruizeRecommendationEntry recommendationEntry);
 
+    // Add or update the recommendations of several experiments to DB, returns the error messages by experiment name
+    public Map<String, String> addRecommendationsToDB(List<KruizeRecommendationEntry> recommendationEntries);
+
     // Add Performance Profile  to DB
     public ValidationOutputData addPerformanceProfileToDB(KruizePerformanceProfileEntry kruizePerformanceProfileEntry);
 
@@ -49,6 +57,12 @@ public interface ExperimentDAO {
     // Load a single experiment based on experimentName
     List<KruizeExperimentEntry> loadExperimentByName(String experimentName) throws Exception;
 
+    // Load several experiments based on their names
+    List<KruizeExperimentEntry> loadExperimentsByNames(List<String> experimentNames) throws Exception;
+
+    // Load the names of the experiments of a cluster, optionally having workloads in a namespace
+    List<String> loadExperimentNamesByClusterAndNamespace(String clusterName, String namespace) throws Exception;
+
     // Load a single data source based on name
     List<KruizeDataSourceEntry> loadDataSourceByName(String name) throws Exception;
 
@@ -56,6 +70,42 @@ public interface ExperimentDAO {
 
     List<KruizeResultsEntry> loadResultsByExperimentName(String experimentName, String cluster_name, Timestamp interval_start_time, Timestamp interval_end_time) throws Exception;
 
+    // Load the results of several experiments of a cluster in a date range
+    List<KruizeResultsEntry> loadResultsByExperimentNames(List<String> experimentNames, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Load the version and interval times of the results of a particular experiment, without the extended_data
+    List<Object[]> loadResultsVersionAndTimesByExperimentName(String experimentName, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Count the results of a particular experiment in a date range
+    Long loadResultsCountByExperimentName(String experimentName, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Load the results of a particular experiment for the given interval end times
+    List<KruizeResultsEntry> loadResultsByExperimentNameAndEndTimes(String experimentName, List<Timestamp> intervalEndTimes) throws Exception;
+
+    // Load the typed results metrics of a particular experiment
+    List<KruizeResultsMetricsEntry> loadResultsMetricsByExperimentName(String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Load the typed results metrics of a particular experiment for the given interval end times
+    List<KruizeResultsMetricsEntry> loadResultsMetricsByExperimentNameAndEndTimes(String experimentName, List<Timestamp> intervalEndTimes) throws Exception;
+
+    // Load the typed results metrics of a container over a date range
+    List<KruizeResultsMetricsEntry> loadResultsMetricsByContainer(String experimentName, String k8sObjectName, String namespace, String containerName,
+                                                                  Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Load the k8s object name, namespace, container name, interval start and end times of the typed results metrics of a particular experiment
+    List<Object[]> loadResultsMetricsIntervalTimesByExperimentName(String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
+    // Load the aggregates used by the recommendation models over a term, computed by the DB from the typed results metrics of a container
+    Object[] loadTermAggregatesByContainer(String experimentName, String k8sObjectName, String namespace, String containerName,
+                                           Timestamp calculated_start_time, Timestamp interval_end_time,
+                                           int cpuCostPercentile, int cpuPerformancePercentile,
+                                           int memoryCostPercentile, int memoryPerformancePercentile) throws Exception;
+
+    // Load the hourly or daily rollups of a container whose buckets start in the range
+    <T extends KruizeResultsRollupEntry> List<T> loadResultsRollupsByContainer(Class<T> rollupEntryClass, String experimentName,
+                                                                              String k8sObjectName, String namespace, String containerName,
+                                                                              Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception;
+
     // Load all recommendations of a particular experiment
     List<KruizeRecommendationEntry> loadRecommendationsByExperimentName(String experimentName) throws Exception;
 
@@ -7,13 +7,20 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.helper.DBConstants;
+import com.autotune.database.helper.ExperimentCache;
+import com.autotune.database.helper.PartitionRegistry;
+import com.autotune.database.helper.RecommendationCache;
+import com.autotune.database.helper.ResultsRollup;
 import com.autotune.database.init.KruizeHibernateUtil;
 import com.autotune.database.table.*;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
@@ -22,8 +29,10 @@ import org.hibernate.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
@@ -97,13 +106,9 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             List<String> tablenames = session.createNativeQuery(SELECT_ALL_KRUIZE_TABLES).getResultList();
             for (String tableName : tablenames) {   // Since tableName cannot be null, there is no need to implement null handling; it can be skipped.
-                String datePart = null;
-                if (tableName.startsWith(DBConstants.TABLE_NAMES.KRUIZE_RESULTS + "_")) {
-                    datePart = tableName.substring((DBConstants.TABLE_NAMES.KRUIZE_RESULTS + "_").length());
-                } else if (tableName.startsWith(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS + "_")) {
-                    datePart = tableName.substring((DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS + "_").length());
-                }
-                if (null != datePart) {
+                // partitions are named <table>_yyyyMMdd, this also skips kruize_results_metrics which is a parent table
+                String datePart = tableName.substring(tableName.lastIndexOf('_') + 1);
+                if (datePart.length() == yyyyMMdd.length() && datePart.chars().allMatch(Character::isDigit)) {
                     Date tableDate = new SimpleDateFormat(yyyyMMdd).parse(datePart);
                     // Compare the date part with the cutoffDate  (cutoffDate = todaysDate - thresholdDaysCount)
                     if (tableDate.after(cutoffDate)) {
@@ -114,12 +119,21 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                             Transaction tx = session.beginTransaction();
                             session.createNativeQuery("DROP TABLE " + tableName).executeUpdate();
                             tx.commit();
+                            PartitionRegistry.getInstance().markDropped(tableName);
                         } catch (Exception ignored) {
                             LOGGER.error("Exception occurred while deleting the partition: {}", ignored.getMessage());
                         }
                     }
                 }
             }
+            // the rollups are not partitioned, their buckets older than the retained results are deleted
+            Transaction tx = session.beginTransaction();
+            for (String rollupEntityName : List.of(KruizeResultsHourlyRollupEntry.class.getSimpleName(), KruizeResultsDailyRollupEntry.class.getSimpleName())) {
+                session.createMutationQuery(String.format(DELETE_FROM_RESULTS_ROLLUP_BEFORE_BUCKET_START, rollupEntityName))
+                        .setParameter("bucketStart", new Timestamp(cutoffDate.getTime()))
+                        .executeUpdate();
+            }
+            tx.commit();
         } catch (Exception e) {
             LOGGER.error("Exception occurred while deleting the partition: {}", e.getMessage());
         }
@@ -128,6 +142,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public void addPartitions(String tableName, String month, String year, int dayOfTheMonth, String partitionType) {
         Transaction tx;
+        List<String> partitionNames = new ArrayList<>();
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             tx = session.beginTransaction();
             // Create a YearMonth object
@@ -141,23 +156,27 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     String daterange = String.format(DB_PARTITION_DATERANGE, tableName, year, month, String.format("%02d", i), tableName,
                             year, month, String.format("%02d", i), year, month, String.format("%02d", i));
                     session.createNativeQuery(daterange).executeUpdate();
+                    partitionNames.add(PartitionRegistry.getPartitionName(tableName, yearMonth.atDay(i)));
                 });
             } else if (partitionType.equalsIgnoreCase(DBConstants.PARTITION_TYPES.BY_15_DAYS)) {
                 IntStream.range(1, 16).forEach(i -> {
                     String daterange = String.format(DB_PARTITION_DATERANGE, tableName, year, month, String.format("%02d", i), tableName,
                             year, month, String.format("%02d", i), year, month, String.format("%02d", i));
                     session.createNativeQuery(daterange).executeUpdate();
+                    partitionNames.add(PartitionRegistry.getPartitionName(tableName, yearMonth.atDay(i)));
                 });
             } else if (partitionType.equalsIgnoreCase(DBConstants.PARTITION_TYPES.BY_DAY)) {
                 String daterange = String.format(DB_PARTITION_DATERANGE, tableName, year, month, String.format("%02d", 1), tableName,
                         year, month, String.format("%02d", 1), year, month, String.format("%02d", 1));
                 session.createNativeQuery(daterange).executeUpdate();
+                partitionNames.add(PartitionRegistry.getPartitionName(tableName, yearMonth.atDay(1)));
             } else {
                 LOGGER.error(DBConstants.DB_MESSAGES.INVALID_PARTITION_TYPE);
                 throw new Exception(DBConstants.DB_MESSAGES.INVALID_PARTITION_TYPE);
             }
 
             tx.commit();
+            partitionNames.forEach(PartitionRegistry.getInstance()::markCreated);
         } catch (Exception e) {
             LOGGER.error("Exception occurred while adding the partition: {}", e.getMessage());
         }
@@ -207,17 +226,307 @@ public class ExperimentDAOImpl implements ExperimentDAO {
 
 
     @Override
-    public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries) {
+    public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries,
+                                                                 Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                                                 Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
+        createMissingPartitions(kruizeResultsEntries);
+        if (KruizeDeploymentInfo.bulk_results_batch_insert) {
+            return addToDBInBatchAndFetchFailedResults(kruizeResultsEntries, resultsMetricsByEntry, rollupDeltasByEntry);
+        }
+        return addToDBRowByRowAndFetchFailedResults(kruizeResultsEntries, resultsMetricsByEntry, rollupDeltasByEntry);
+    }
+
+    /**
+     * Persists the results in a single transaction using JDBC batching instead of one transaction per entry.
+     * <p>
+     * Duplicates within the request and rows already present in kruize_results are detected upfront with a single
+     * key lookup, so they are reported back per entry without failing the batch. If the batch hits a missing
+     * partition, the partitions are created for every distinct day in the batch and the batch is retried once.
+     * Any other failure rolls the batch back and falls back to the row by row path so that the caller still gets
+     * per entry error reasons.
+     *
+     * @param kruizeResultsEntries  results to be saved
+     * @param resultsMetricsByEntry typed metrics rows of the results, saved in the same transaction as their result
+     * @param rollupDeltasByEntry   rollups of each result, merged into the rollups in the same transaction as the result
+     * @return entries which failed to save along with their error reasons
+     */
+    private List<KruizeResultsEntry> addToDBInBatchAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries,
+                                                                         Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                                                         Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
         List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        List<KruizeResultsEntry> batchEntries = new ArrayList<>();
+        String statusValue = "failure";
+        Timer.Sample timerAddBulkResultsDB = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Set<String> existingKeys = loadExistingResultKeys(session, kruizeResultsEntries);
+            Set<String> batchKeys = new HashSet<>();
+            for (KruizeResultsEntry entry : kruizeResultsEntries) {
+                String key = getResultKey(entry.getExperiment_name(), entry.getInterval_end_time());
+                if (existingKeys.contains(key) || !batchKeys.add(key)) {
+                    entry.setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
+                    failedResultsEntries.add(entry);
+                } else {
+                    batchEntries.add(entry);
+                }
+            }
+            if (!batchEntries.isEmpty()) {
+                String message = persistBatch(session, batchEntries, resultsMetricsByEntry, rollupDeltasByEntry);
+                if (null != message && message.contains(DBConstants.DB_MESSAGES.NO_PARTITION_RELATION)) {
+                    // the registry is out of date, e.g. a partition got dropped by another process
+                    LOGGER.debug(DBConstants.DB_MESSAGES.CREATE_PARTITION_RETRY);
+                    PartitionRegistry.getInstance().invalidate();
+                    createPartitionsForBatch(batchEntries);
+                    message = persistBatch(session, batchEntries, resultsMetricsByEntry, rollupDeltasByEntry);
+                }
+                if (null != message) {
+                    LOGGER.debug(DBConstants.DB_MESSAGES.BATCH_INSERT_FALLBACK, message);
+                    // recorded once by the timer of this method, not again by the row by row timer
+                    failedResultsEntries.addAll(persistRowByRow(batchEntries, resultsMetricsByEntry, rollupDeltasByEntry));
+                }
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to save experiment due to {}", e.getMessage());
+            failedResultsEntries.clear();
+            failedResultsEntries.addAll(kruizeResultsEntries);
+            failedResultsEntries.forEach((entry) -> {
+                entry.setErrorReasons(List.of(e.getMessage()));
+            });
+        } finally {
+            if (null != timerAddBulkResultsDB) {
+                MetricsConfig.timerAddBulkResultsDB = MetricsConfig.timerBAddBulkResultsDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAddBulkResultsDB.stop(MetricsConfig.timerAddBulkResultsDB);
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    /**
+     * Persists all the entries and their typed metrics in one transaction, flushing every bulk_results_batch_size rows,
+     * and merges them into the rollups in the same transaction.
+     *
+     * @return null on success, else the message of the failure after rolling back the transaction
+     */
+    private String persistBatch(Session session, List<KruizeResultsEntry> batchEntries,
+                                Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
         Transaction tx = null;
+        int batchSize = Math.max(1, KruizeDeploymentInfo.bulk_results_batch_size);
+        try {
+            session.setJdbcBatchSize(batchSize);
+            tx = session.beginTransaction();
+            int count = 0;
+            for (KruizeResultsEntry entry : batchEntries) {
+                for (Object row : getRowsToPersist(entry, resultsMetricsByEntry)) {
+                    session.persist(row);
+                    if (++count % batchSize == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+            }
+            mergeResultsRollups(session, batchEntries, rollupDeltasByEntry);
+            session.flush();
+            tx.commit();
+            session.clear();
+            return null;
+        } catch (Exception e) {
+            if (null != tx && tx.isActive()) tx.rollback();
+            session.clear();
+            return getExceptionMessages(e);
+        }
+    }
+
+    /**
+     * Fetches the keys of the entries which are already present in kruize_results using a single query.
+     */
+    private Set<String> loadExistingResultKeys(Session session, List<KruizeResultsEntry> kruizeResultsEntries) {
+        Set<String> experimentNames = new HashSet<>();
+        Set<Timestamp> intervalEndTimes = new HashSet<>();
+        for (KruizeResultsEntry entry : kruizeResultsEntries) {
+            experimentNames.add(entry.getExperiment_name());
+            intervalEndTimes.add(entry.getInterval_end_time());
+        }
+        Set<String> existingKeys = new HashSet<>();
+        if (experimentNames.isEmpty())
+            return existingKeys;
+        List<Object[]> rows = session.createQuery(SELECT_RESULTS_KEYS_BY_EXP_NAMES_AND_END_TIMES, Object[].class)
+                .setParameterList("experimentNames", experimentNames)
+                .setParameterList("intervalEndTimes", intervalEndTimes)
+                .list();
+        for (Object[] row : rows) {
+            existingKeys.add(getResultKey((String) row[0], (Timestamp) row[1]));
+        }
+        return existingKeys;
+    }
+
+    private String getResultKey(String experimentName, Timestamp intervalEndTime) {
+        return experimentName + "|" + (null == intervalEndTime ? null : intervalEndTime.getTime());
+    }
+
+    /**
+     * Creates the partitions once for every distinct day present in the batch.
+     */
+    private void createPartitionsForBatch(List<KruizeResultsEntry> batchEntries) {
+        Set<LocalDate> days = new HashSet<>();
+        for (KruizeResultsEntry entry : batchEntries) {
+            if (days.add(entry.getInterval_end_time().toLocalDateTime().toLocalDate())) {
+                createPartitions(entry.getInterval_end_time());
+            }
+        }
+    }
+
+    /**
+     * Creates the partitions upfront for the days of the entries which have no kruize_results partition yet,
+     * once per distinct day, so that the inserts do not have to fail first.
+     */
+    private void createMissingPartitions(List<KruizeResultsEntry> kruizeResultsEntries) {
+        PartitionRegistry partitionRegistry = PartitionRegistry.getInstance();
+        Set<LocalDate> days = new HashSet<>();
+        for (KruizeResultsEntry entry : kruizeResultsEntries) {
+            if (null == entry.getInterval_end_time())
+                continue;
+            LocalDate day = entry.getInterval_end_time().toLocalDateTime().toLocalDate();
+            if (days.add(day) && (!partitionRegistry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, day) ||
+                    (KruizeDeploymentInfo.typed_results_metrics && !partitionRegistry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS_METRICS, day)))) {
+                LOGGER.debug("Creating the missing partitions for {}", day);
+                createPartitions(entry.getInterval_end_time());
+            }
+        }
+    }
+
+    /**
+     * Collects the messages of the exception, its causes and the chained SQL exceptions, as the JDBC batch
+     * failure reports the actual database error as the next exception.
+     */
+    private String getExceptionMessages(Throwable throwable) {
+        StringBuilder messages = new StringBuilder();
+        Set<Throwable> visited = new HashSet<>();
+        Throwable current = throwable;
+        while (null != current && visited.add(current)) {
+            messages.append(current.getMessage()).append(" ");
+            if (current instanceof SQLException sqlException && null != sqlException.getNextException()) {
+                messages.append(sqlException.getNextException().getMessage()).append(" ");
+            }
+            current = current.getCause();
+        }
+        return messages.toString();
+    }
+
+    /**
+     * @return the result followed by its typed metrics rows, if any
+     */
+    private List<Object> getRowsToPersist(KruizeResultsEntry entry, Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry) {
+        List<Object> rows = new ArrayList<>();
+        rows.add(entry);
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = null == resultsMetricsByEntry ? null : resultsMetricsByEntry.get(entry);
+        if (null != resultsMetricsEntries)
+            rows.addAll(resultsMetricsEntries);
+        return rows;
+    }
+
+    /**
+     * Merges the rollups of the entries into the hourly and daily rollup rows, within the transaction of the entries.
+     * The deltas of the same bucket are merged first and the rows are locked in the same order by every writer so
+     * that concurrent saves do not deadlock. A missing row is inserted empty first, so that concurrent writers of a
+     * new bucket wait for its lock instead of failing on a duplicate key.
+     */
+    private void mergeResultsRollups(Session session, List<KruizeResultsEntry> entries,
+                                     Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
+        if (null == rollupDeltasByEntry || rollupDeltasByEntry.isEmpty())
+            return;
+        List<KruizeResultsRollupEntry> rollupDeltas = new ArrayList<>();
+        for (KruizeResultsEntry entry : entries) {
+            List<KruizeResultsRollupEntry> entryRollupDeltas = rollupDeltasByEntry.get(entry);
+            if (null != entryRollupDeltas)
+                rollupDeltas.addAll(entryRollupDeltas);
+        }
+        Comparator<KruizeResultsRollupEntry> rollupKeyOrder = Comparator.<KruizeResultsRollupEntry, String>comparing(rollupDelta -> rollupDelta.getClass().getSimpleName())
+                .thenComparing(KruizeResultsRollupEntry::getExperiment_name)
+                .thenComparing(KruizeResultsRollupEntry::getK8s_object_name)
+                .thenComparing(KruizeResultsRollupEntry::getNamespace)
+                .thenComparing(KruizeResultsRollupEntry::getContainer_name)
+                .thenComparing(KruizeResultsRollupEntry::getBucket_start);
+        rollupDeltas.sort(rollupKeyOrder);
+        for (int i = 0; i < rollupDeltas.size(); ) {
+            KruizeResultsRollupEntry rollupDelta = rollupDeltas.get(i);
+            ResultsRollup rollup = new ResultsRollup(rollupDelta);
+            for (i++; i < rollupDeltas.size() && 0 == rollupKeyOrder.compare(rollupDelta, rollupDeltas.get(i)); i++) {
+                rollup.merge(new ResultsRollup(rollupDeltas.get(i)));
+            }
+            mergeResultsRollup(session, rollupDelta, rollup);
+        }
+    }
+
+    private void mergeResultsRollup(Session session, KruizeResultsRollupEntry rollupKey, ResultsRollup rollup) {
+        Class<? extends KruizeResultsRollupEntry> rollupEntryClass = rollupKey.getClass();
+        session.createNativeQuery(String.format(INSERT_EMPTY_RESULTS_ROLLUP, rollupEntryClass.getAnnotation(Table.class).name()))
+                .setParameter("experimentName", rollupKey.getExperiment_name())
+                .setParameter("k8sObjectName", rollupKey.getK8s_object_name())
+                .setParameter("namespace", rollupKey.getNamespace())
+                .setParameter("containerName", rollupKey.getContainer_name())
+                .setParameter("bucketStart", rollupKey.getBucket_start())
+                .executeUpdate();
+        KruizeResultsRollupEntry rollupEntry = session.createQuery(String.format(SELECT_FROM_RESULTS_ROLLUP_BY_KEY, rollupEntryClass.getSimpleName()), rollupEntryClass)
+                .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, rollupKey.getExperiment_name())
+                .setParameter("k8sObjectName", rollupKey.getK8s_object_name())
+                .setParameter("namespace", rollupKey.getNamespace())
+                .setParameter("containerName", rollupKey.getContainer_name())
+                .setParameter("bucketStart", rollupKey.getBucket_start())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .uniqueResult();
+        ResultsRollup mergedRollup = new ResultsRollup(rollupEntry);
+        mergedRollup.merge(rollup);
+        mergedRollup.writeTo(rollupEntry);
+    }
+
+    private List<KruizeResultsEntry> addToDBRowByRowAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries,
+                                                                          Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                                                          Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
+        List<KruizeResultsEntry> failedResultsEntries;
         String statusValue = "failure";
         Timer.Sample timerAddBulkResultsDB = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            failedResultsEntries = persistRowByRow(kruizeResultsEntries, resultsMetricsByEntry, rollupDeltasByEntry);
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to save experiment due to {}", e.getMessage());
+            failedResultsEntries = new ArrayList<>(kruizeResultsEntries);
+            failedResultsEntries.forEach((entry) -> {
+                entry.setErrorReasons(List.of(e.getMessage()));
+            });
+        } finally {
+            if (null != timerAddBulkResultsDB) {
+                MetricsConfig.timerAddBulkResultsDB = MetricsConfig.timerBAddBulkResultsDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAddBulkResultsDB.stop(MetricsConfig.timerAddBulkResultsDB);
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    /**
+     * Persists the entries one transaction per entry, without recording a timer. The typed metrics and the rollups of
+     * an entry are saved in the transaction of the entry, a failure of any of them rolls all of them back.
+     *
+     * @return entries which failed to save along with their error reasons
+     * @throws Exception if the session cannot be used at all
+     */
+    private List<KruizeResultsEntry> persistRowByRow(List<KruizeResultsEntry> kruizeResultsEntries,
+                                                     Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry,
+                                                     Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry) {
+        List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        Transaction tx = null;
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             for (KruizeResultsEntry entry : kruizeResultsEntries) {
                 tx = session.beginTransaction();
+                boolean saved = false;
                 try {
-                    session.persist(entry);
+                    for (Object row : getRowsToPersist(entry, resultsMetricsByEntry)) {
+                        session.persist(row);
+                    }
+                    mergeResultsRollups(session, List.of(entry), rollupDeltasByEntry);
                     session.flush();
+                    saved = true;
                 } catch (PersistenceException e) {
                     ConstraintViolationException constraintViolationException = null;
                     String message = "";
@@ -234,12 +543,18 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     } else if (message.contains(DBConstants.DB_MESSAGES.NO_PARTITION_RELATION)) {
                         try {
                             LOGGER.debug(DBConstants.DB_MESSAGES.CREATE_PARTITION_RETRY);
-                            tx.commit();
+                            tx.rollback();
+                            session.clear();
                             tx = session.beginTransaction();
                             // create partitions based on entry object
-                            createPartitions(entry);
-                            session.persist(entry);
+                            PartitionRegistry.getInstance().invalidate();
+                            createPartitions(entry.getInterval_end_time());
+                            for (Object row : getRowsToPersist(entry, resultsMetricsByEntry)) {
+                                session.persist(row);
+                            }
+                            mergeResultsRollups(session, List.of(entry), rollupDeltasByEntry);
                             session.flush();
+                            saved = true;
                         } catch (Exception partitionException) {
                             LOGGER.error(partitionException.getMessage());
                             entry.setErrorReasons(List.of(partitionException.getMessage()));
@@ -253,28 +568,23 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     entry.setErrorReasons(List.of(e.getMessage()));
                     failedResultsEntries.add(entry);
                 } finally {
-                    tx.commit();
+                    if (saved) {
+                        tx.commit();
+                    } else {
+                        // neither the result nor its typed metrics and rollups are kept
+                        if (tx.isActive()) tx.rollback();
+                    }
+                    // the rollup rows are read again under lock for the next entry
+                    session.clear();
                 }
             }
-            statusValue = "success";
-        } catch (Exception e) {
-            LOGGER.error("Not able to save experiment due to {}", e.getMessage());
-            failedResultsEntries.addAll(kruizeResultsEntries);
-            failedResultsEntries.forEach((entry) -> {
-                entry.setErrorReasons(List.of(e.getMessage()));
-            });
-        } finally {
-            if (null != timerAddBulkResultsDB) {
-                MetricsConfig.timerAddBulkResultsDB = MetricsConfig.timerBAddBulkResultsDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
-                timerAddBulkResultsDB.stop(MetricsConfig.timerAddBulkResultsDB);
-            }
         }
         return failedResultsEntries;
     }
 
-    private void createPartitions(KruizeResultsEntry entry) {
+    private void createPartitions(Timestamp intervalEndTime) {
         try {
-            LocalDateTime localDateTime = entry.getInterval_end_time().toLocalDateTime();
+            LocalDateTime localDateTime = intervalEndTime.toLocalDateTime();
             LocalDateTime newDateTime;
             int dayOfTheMonth = localDateTime.getDayOfMonth();
             // Subtract 15 days from the current date
@@ -285,23 +595,18 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                 LOGGER.debug("newDateTime: {}", newDateTime);
             }
             // create partition for the previous 15 days
-            addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, String.format("%02d", newDateTime.getMonthValue()), String.valueOf(newDateTime.getYear()), newDateTime.getDayOfMonth(), DBConstants.PARTITION_TYPES.BY_MONTH);
-            addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, String.format("%02d", newDateTime.getMonthValue()), String.valueOf(newDateTime.getYear()), newDateTime.getDayOfMonth(), DBConstants.PARTITION_TYPES.BY_MONTH);
+            addPartitionsForAllTables(newDateTime.getMonthValue(), newDateTime.getYear(), newDateTime.getDayOfMonth());
 
             // check the dayOfTheMonth and create partitions accordingly
             if (dayOfTheMonth < DBConstants.PARTITION_TYPES.PARTITION_DAY) {
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, String.format("%02d", localDateTime.getMonthValue()), String.valueOf(localDateTime.getYear()), 1, DBConstants.PARTITION_TYPES.BY_MONTH);
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, String.format("%02d", localDateTime.getMonthValue()), String.valueOf(localDateTime.getYear()), 1, DBConstants.PARTITION_TYPES.BY_MONTH);
+                addPartitionsForAllTables(localDateTime.getMonthValue(), localDateTime.getYear(), 1);
             } else {
                 // create the partitions for the rest of the days for the current month
-                // Fixing the partition type to 'by_month'
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, String.format("%02d", localDateTime.getMonthValue()), String.valueOf(localDateTime.getYear()), dayOfTheMonth, DBConstants.PARTITION_TYPES.BY_MONTH);
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, String.format("%02d", localDateTime.getMonthValue()), String.valueOf(localDateTime.getYear()), dayOfTheMonth, DBConstants.PARTITION_TYPES.BY_MONTH);
+                addPartitionsForAllTables(localDateTime.getMonthValue(), localDateTime.getYear(), dayOfTheMonth);
 
                 // create the partitions for the next month
                 YearMonth yearMonth = buildDateForNextMonth(YearMonth.of(localDateTime.getYear(), localDateTime.getMonthValue()));
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, String.format("%02d", yearMonth.getMonthValue()), String.valueOf(yearMonth.getYear()), 1, DBConstants.PARTITION_TYPES.BY_MONTH);
-                addPartitions(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, String.format("%02d", yearMonth.getMonthValue()), String.valueOf(yearMonth.getYear()), 1, DBConstants.PARTITION_TYPES.BY_MONTH);
+                addPartitionsForAllTables(yearMonth.getMonthValue(), yearMonth.getYear(), 1);
             }
         } catch (Exception e) {
             LOGGER.error("Error occurred while creating partitions: ");
@@ -309,6 +614,17 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         }
     }
 
+    /**
+     * Creates the daily partitions of the month from dayOfTheMonth onwards for all the partitioned tables.
+     * Fixing the partition type to 'by_month'
+     */
+    private void addPartitionsForAllTables(int month, int year, int dayOfTheMonth) {
+        for (String tableName : List.of(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS,
+                DBConstants.TABLE_NAMES.KRUIZE_RESULTS_METRICS)) {
+            addPartitions(tableName, String.format("%02d", month), String.valueOf(year), dayOfTheMonth, DBConstants.PARTITION_TYPES.BY_MONTH);
+        }
+    }
+
     @Override
     public ValidationOutputData addRecommendationToDB(KruizeRecommendationEntry recommendationEntry) {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
@@ -319,6 +635,10 @@ public class ExperimentDAOImpl implements ExperimentDAO {
             try {
                 KruizeRecommendationEntry existingRecommendationEntry = loadRecommendationsByExperimentNameAndDate(recommendationEntry.getExperiment_name(), recommendationEntry.getCluster_name(), recommendationEntry.getInterval_end_time());
                 if (null == existingRecommendationEntry) {
+                    LocalDate day = recommendationEntry.getInterval_end_time().toLocalDateTime().toLocalDate();
+                    if (!PartitionRegistry.getInstance().exists(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, day)) {
+                        createPartitions(recommendationEntry.getInterval_end_time());
+                    }
                     tx = session.beginTransaction();
                     session.persist(recommendationEntry);
                     tx.commit();
@@ -351,6 +671,82 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return validationOutputData;
     }
 
+    /**
+     * Adds or updates the recommendations of several experiments in a single transaction, flushing every
+     * bulk_results_batch_size entries. The existing entries are looked up with a single query instead of one per
+     * experiment. If the transaction fails, the entries are saved one by one so that only the failing experiments
+     * are reported.
+     *
+     * @param recommendationEntries recommendations to be saved, at most one per experiment and interval end time
+     * @return error messages of the experiments which failed to save, by experiment name
+     */
+    @Override
+    public Map<String, String> addRecommendationsToDB(List<KruizeRecommendationEntry> recommendationEntries) {
+        Map<String, String> failedExperiments = new HashMap<>();
+        if (null == recommendationEntries || recommendationEntries.isEmpty())
+            return failedExperiments;
+        String statusValue = "failure";
+        Timer.Sample timerAddBulkRecDB = Timer.start(MetricsConfig.meterRegistry());
+        Transaction tx = null;
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Set<String> experimentNames = new HashSet<>();
+            Set<Timestamp> intervalEndTimes = new HashSet<>();
+            Set<LocalDate> days = new HashSet<>();
+            for (KruizeRecommendationEntry entry : recommendationEntries) {
+                experimentNames.add(entry.getExperiment_name());
+                intervalEndTimes.add(entry.getInterval_end_time());
+                LocalDate day = entry.getInterval_end_time().toLocalDateTime().toLocalDate();
+                if (days.add(day) && !PartitionRegistry.getInstance().exists(DBConstants.TABLE_NAMES.KRUIZE_RECOMMENDATIONS, day)) {
+                    createPartitions(entry.getInterval_end_time());
+                }
+            }
+            int batchSize = Math.max(1, KruizeDeploymentInfo.bulk_results_batch_size);
+            session.setJdbcBatchSize(batchSize);
+            tx = session.beginTransaction();
+            Map<String, KruizeRecommendationEntry> existingEntries = new HashMap<>();
+            for (KruizeRecommendationEntry existingEntry : session.createQuery(SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES_AND_END_TIMES, KruizeRecommendationEntry.class)
+                    .setParameterList("experimentNames", experimentNames)
+                    .setParameterList("intervalEndTimes", intervalEndTimes)
+                    .list()) {
+                existingEntries.put(getResultKey(existingEntry.getExperiment_name(), existingEntry.getInterval_end_time()), existingEntry);
+            }
+            int count = 0;
+            for (KruizeRecommendationEntry entry : recommendationEntries) {
+                KruizeRecommendationEntry existingEntry = existingEntries.get(getResultKey(entry.getExperiment_name(), entry.getInterval_end_time()));
+                if (null == existingEntry) {
+                    session.persist(entry);
+                } else {
+                    existingEntry.setExtended_data(entry.getExtended_data());
+                }
+                if (++count % batchSize == 0) {
+                    session.flush();
+                }
+            }
+            session.flush();
+            tx.commit();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to save the recommendations in a batch due to {}", e.getMessage());
+            try {
+                if (null != tx && tx.isActive()) tx.rollback();
+            } catch (Exception rollbackException) {
+                LOGGER.error("Not able to roll back the recommendations due to {}", rollbackException.getMessage());
+            }
+            for (KruizeRecommendationEntry entry : recommendationEntries) {
+                ValidationOutputData validationOutputData = addRecommendationToDB(entry);
+                if (!validationOutputData.isSuccess()) {
+                    failedExperiments.put(entry.getExperiment_name(), validationOutputData.getMessage());
+                }
+            }
+        } finally {
+            if (null != timerAddBulkRecDB) {
+                MetricsConfig.timerAddBulkRecDB = MetricsConfig.timerBAddBulkRecDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAddBulkRecDB.stop(MetricsConfig.timerAddBulkRecDB);
+            }
+        }
+        return failedExperiments;
+    }
+
     @Override
     public ValidationOutputData addPerformanceProfileToDB(KruizePerformanceProfileEntry kruizePerformanceProfileEntry) {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
@@ -479,6 +875,18 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     kruizeResultsEntryquery.setParameter("experimentName", experimentName);
                     kruizeResultsEntryquery.executeUpdate();
 
+                    // Remove the experiment from the Results metrics table
+                    Query kruizeResultsMetricsEntryquery = session.createQuery(DELETE_FROM_RESULTS_METRICS_BY_EXP_NAME, null);
+                    kruizeResultsMetricsEntryquery.setParameter("experimentName", experimentName);
+                    kruizeResultsMetricsEntryquery.executeUpdate();
+
+                    // Remove the experiment from the Results rollup tables
+                    for (String rollupEntityName : List.of(KruizeResultsHourlyRollupEntry.class.getSimpleName(), KruizeResultsDailyRollupEntry.class.getSimpleName())) {
+                        Query kruizeResultsRollupEntryquery = session.createQuery(String.format(DELETE_FROM_RESULTS_ROLLUP_BY_EXP_NAME, rollupEntityName), null);
+                        kruizeResultsRollupEntryquery.setParameter("experimentName", experimentName);
+                        kruizeResultsRollupEntryquery.executeUpdate();
+                    }
+
                     // Remove the experiment from the Recommendations table
                     Query kruizeRecommendationEntryquery = session.createQuery(DELETE_FROM_RECOMMENDATIONS_BY_EXP_NAME, null);
                     kruizeRecommendationEntryquery.setParameter("experimentName", experimentName);
@@ -486,6 +894,8 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     validationOutputData.setSuccess(true);
                 }
                 tx.commit();
+                ExperimentCache.getInstance().invalidate(experimentName);
+                RecommendationCache.getInstance().invalidate(experimentName);
             } catch (HibernateException e) {
                 LOGGER.error("Not able to delete experiment {} due to {}", experimentName, e.getMessage());
                 if (tx != null) tx.rollback();
@@ -607,6 +1017,46 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return entries;
     }
 
+    @Override
+    public List<KruizeExperimentEntry> loadExperimentsByNames(List<String> experimentNames) throws Exception {
+        List<KruizeExperimentEntry> entries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            entries = session.createQuery(DBConstants.SQLQUERY.SELECT_FROM_EXPERIMENTS_BY_EXP_NAMES, KruizeExperimentEntry.class)
+                    .setParameterList("experimentNames", experimentNames).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load {} experiments due to {}", experimentNames.size(), e.getMessage());
+            throw new Exception("Error while loading existing experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadExpName) {
+                MetricsConfig.timerLoadExpName = MetricsConfig.timerBLoadExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadExpName.stop(MetricsConfig.timerLoadExpName);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public List<String> loadExperimentNamesByClusterAndNamespace(String clusterName, String namespace) throws Exception {
+        List<String> experimentNames;
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            if (null == namespace || namespace.isEmpty()) {
+                experimentNames = session.createNativeQuery(DBConstants.SQLQUERY.SELECT_EXPERIMENT_NAMES_BY_CLUSTER_NAME, String.class)
+                        .setParameter(CLUSTER_NAME, clusterName).getResultList();
+            } else {
+                experimentNames = session.createNativeQuery(DBConstants.SQLQUERY.SELECT_EXPERIMENT_NAMES_BY_CLUSTER_NAME_AND_NAMESPACE, String.class)
+                        .setParameter(CLUSTER_NAME, clusterName)
+                        .setParameter(KruizeConstants.JSONKeys.NAMESPACE, namespace).getResultList();
+            }
+        } catch (Exception e) {
+            LOGGER.error("Not able to load the experiments of cluster {} and namespace {} due to {}", clusterName, namespace, e.getMessage());
+            throw new Exception("Error while loading existing experiments from database due to : " + e.getMessage());
+        }
+        return experimentNames;
+    }
+
     /**
      * @param clusterName
      * @param kubernetesAPIObject
@@ -685,6 +1135,287 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return kruizeResultsEntries;
     }
 
+    @Override
+    public List<KruizeResultsEntry> loadResultsByExperimentNames(List<String> experimentNames, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<KruizeResultsEntry> kruizeResultsEntries = null;
+        String statusValue = "failure";
+        String clusterCondtionSql;
+        if (cluster_name != null)
+            clusterCondtionSql = String.format(" and k.%s = :%s ", KruizeConstants.JSONKeys.CLUSTER_NAME, KruizeConstants.JSONKeys.CLUSTER_NAME);
+        else
+            clusterCondtionSql = String.format(" and k.%s is null ", KruizeConstants.JSONKeys.CLUSTER_NAME);
+        Timer.Sample timerLoadResultsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<KruizeResultsEntry> kruizeResultsEntryQuery = session.createQuery(DBConstants.SQLQUERY.SELECT_FROM_RESULTS_BY_EXP_NAMES_AND_DATE_RANGE + clusterCondtionSql, KruizeResultsEntry.class)
+                    .setParameterList("experimentNames", experimentNames)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time);
+            if (cluster_name != null)
+                kruizeResultsEntryQuery.setParameter(CLUSTER_NAME, cluster_name);
+            kruizeResultsEntries = kruizeResultsEntryQuery.list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results due to: {}", e.getMessage());
+            throw new Exception("Error while loading results from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpName) {
+                MetricsConfig.timerLoadResultsExpName = MetricsConfig.timerBLoadResultsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpName.stop(MetricsConfig.timerLoadResultsExpName);
+            }
+        }
+        return kruizeResultsEntries;
+    }
+
+    @Override
+    public List<Object[]> loadResultsVersionAndTimesByExperimentName(String experimentName, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<Object[]> resultsVersionAndTimes = null;
+        String statusValue = "failure";
+        String clusterCondtionSql;
+        if (cluster_name != null)
+            clusterCondtionSql = String.format(" and k.%s = :%s ", KruizeConstants.JSONKeys.CLUSTER_NAME, KruizeConstants.JSONKeys.CLUSTER_NAME);
+        else
+            clusterCondtionSql = String.format(" and k.%s is null ", KruizeConstants.JSONKeys.CLUSTER_NAME);
+        Timer.Sample timerLoadResultsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<Object[]> query = session.createQuery(SELECT_RESULTS_VERSION_AND_TIMES_BY_EXP_NAME_AND_DATE_RANGE + clusterCondtionSql, Object[].class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time);
+            if (cluster_name != null)
+                query.setParameter(CLUSTER_NAME, cluster_name);
+            resultsVersionAndTimes = query.list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results due to: {}", e.getMessage());
+            throw new Exception("Error while loading results from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpName) {
+                MetricsConfig.timerLoadResultsExpName = MetricsConfig.timerBLoadResultsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpName.stop(MetricsConfig.timerLoadResultsExpName);
+            }
+        }
+        return resultsVersionAndTimes;
+    }
+
+    @Override
+    public Long loadResultsCountByExperimentName(String experimentName, String cluster_name, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        Long resultsCount = null;
+        String statusValue = "failure";
+        String clusterCondtionSql;
+        if (cluster_name != null)
+            clusterCondtionSql = String.format(" and k.%s = :%s ", KruizeConstants.JSONKeys.CLUSTER_NAME, KruizeConstants.JSONKeys.CLUSTER_NAME);
+        else
+            clusterCondtionSql = String.format(" and k.%s is null ", KruizeConstants.JSONKeys.CLUSTER_NAME);
+        Timer.Sample timerLoadResultsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<Long> query = session.createQuery(SELECT_RESULTS_COUNT_BY_EXP_NAME_AND_DATE_RANGE + clusterCondtionSql, Long.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time);
+            if (cluster_name != null)
+                query.setParameter(CLUSTER_NAME, cluster_name);
+            resultsCount = query.uniqueResult();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to count results due to: {}", e.getMessage());
+            throw new Exception("Error while counting results in the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpName) {
+                MetricsConfig.timerLoadResultsExpName = MetricsConfig.timerBLoadResultsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpName.stop(MetricsConfig.timerLoadResultsExpName);
+            }
+        }
+        return resultsCount;
+    }
+
+    @Override
+    public List<KruizeResultsEntry> loadResultsByExperimentNameAndEndTimes(String experimentName, List<Timestamp> intervalEndTimes) throws Exception {
+        List<KruizeResultsEntry> kruizeResultsEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            kruizeResultsEntries = session.createQuery(SELECT_FROM_RESULTS_BY_EXP_NAME_AND_END_TIMES, KruizeResultsEntry.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameterList("intervalEndTimes", intervalEndTimes)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results due to: {}", e.getMessage());
+            throw new Exception("Error while loading results from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpName) {
+                MetricsConfig.timerLoadResultsExpName = MetricsConfig.timerBLoadResultsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpName.stop(MetricsConfig.timerLoadResultsExpName);
+            }
+        }
+        return kruizeResultsEntries;
+    }
+
+    @Override
+    public List<KruizeResultsMetricsEntry> loadResultsMetricsByExperimentName(String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsMetricsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            resultsMetricsEntries = session.createQuery(SELECT_FROM_RESULTS_METRICS_BY_EXP_NAME_AND_DATE_RANGE, KruizeResultsMetricsEntry.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time)
+                    .setReadOnly(true)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results metrics due to: {}", e.getMessage());
+            throw new Exception("Error while loading results metrics from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsMetricsExpName) {
+                MetricsConfig.timerLoadResultsMetricsExpName = MetricsConfig.timerBLoadResultsMetricsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsMetricsExpName.stop(MetricsConfig.timerLoadResultsMetricsExpName);
+            }
+        }
+        return resultsMetricsEntries;
+    }
+
+    @Override
+    public List<KruizeResultsMetricsEntry> loadResultsMetricsByExperimentNameAndEndTimes(String experimentName, List<Timestamp> intervalEndTimes) throws Exception {
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsMetricsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            resultsMetricsEntries = session.createQuery(SELECT_FROM_RESULTS_METRICS_BY_EXP_NAME_AND_END_TIMES, KruizeResultsMetricsEntry.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameterList("intervalEndTimes", intervalEndTimes)
+                    .setReadOnly(true)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results metrics due to: {}", e.getMessage());
+            throw new Exception("Error while loading results metrics from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsMetricsExpName) {
+                MetricsConfig.timerLoadResultsMetricsExpName = MetricsConfig.timerBLoadResultsMetricsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsMetricsExpName.stop(MetricsConfig.timerLoadResultsMetricsExpName);
+            }
+        }
+        return resultsMetricsEntries;
+    }
+
+    @Override
+    public List<KruizeResultsMetricsEntry> loadResultsMetricsByContainer(String experimentName, String k8sObjectName, String namespace, String containerName,
+                                                                         Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsMetricsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            resultsMetricsEntries = session.createQuery(SELECT_FROM_RESULTS_METRICS_BY_CONTAINER_AND_DATE_RANGE, KruizeResultsMetricsEntry.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter("k8sObjectName", k8sObjectName)
+                    .setParameter("namespace", namespace)
+                    .setParameter("containerName", containerName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time)
+                    .setReadOnly(true)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results metrics due to: {}", e.getMessage());
+            throw new Exception("Error while loading results metrics from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsMetricsExpName) {
+                MetricsConfig.timerLoadResultsMetricsExpName = MetricsConfig.timerBLoadResultsMetricsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsMetricsExpName.stop(MetricsConfig.timerLoadResultsMetricsExpName);
+            }
+        }
+        return resultsMetricsEntries;
+    }
+
+    @Override
+    public List<Object[]> loadResultsMetricsIntervalTimesByExperimentName(String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<Object[]> intervalTimes = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsMetricsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            intervalTimes = session.createQuery(SELECT_RESULTS_METRICS_INTERVAL_TIMES_BY_EXP_NAME_AND_DATE_RANGE, Object[].class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results metrics due to: {}", e.getMessage());
+            throw new Exception("Error while loading results metrics from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsMetricsExpName) {
+                MetricsConfig.timerLoadResultsMetricsExpName = MetricsConfig.timerBLoadResultsMetricsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsMetricsExpName.stop(MetricsConfig.timerLoadResultsMetricsExpName);
+            }
+        }
+        return intervalTimes;
+    }
+
+    @Override
+    public Object[] loadTermAggregatesByContainer(String experimentName, String k8sObjectName, String namespace, String containerName,
+                                                  Timestamp calculated_start_time, Timestamp interval_end_time,
+                                                  int cpuCostPercentile, int cpuPerformancePercentile,
+                                                  int memoryCostPercentile, int memoryPerformancePercentile) throws Exception {
+        Object[] termAggregates = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadTermAggregates = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            termAggregates = session.createNativeQuery(SELECT_TERM_AGGREGATES_FROM_RESULTS_METRICS, Object[].class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter("k8sObjectName", k8sObjectName)
+                    .setParameter("namespace", namespace)
+                    .setParameter("containerName", containerName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time)
+                    .setParameter("cpuCostPercentile", cpuCostPercentile)
+                    .setParameter("cpuPerformancePercentile", cpuPerformancePercentile)
+                    .setParameter("memoryCostPercentile", memoryCostPercentile)
+                    .setParameter("memoryPerformancePercentile", memoryPerformancePercentile)
+                    .getSingleResult();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load the term aggregates due to: {}", e.getMessage());
+            throw new Exception("Error while loading the term aggregates from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadTermAggregates) {
+                MetricsConfig.timerLoadTermAggregates = MetricsConfig.timerBLoadTermAggregates.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadTermAggregates.stop(MetricsConfig.timerLoadTermAggregates);
+            }
+        }
+        return termAggregates;
+    }
+
+    @Override
+    public <T extends KruizeResultsRollupEntry> List<T> loadResultsRollupsByContainer(Class<T> rollupEntryClass, String experimentName,
+                                                                                     String k8sObjectName, String namespace, String containerName,
+                                                                                     Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        List<T> rollupEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsRollups = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            rollupEntries = session.createQuery(String.format(SELECT_FROM_RESULTS_ROLLUP_BY_CONTAINER_AND_DATE_RANGE, rollupEntryClass.getSimpleName()), rollupEntryClass)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setParameter("k8sObjectName", k8sObjectName)
+                    .setParameter("namespace", namespace)
+                    .setParameter("containerName", containerName)
+                    .setParameter(KruizeConstants.JSONKeys.CALCULATED_START_TIME, calculated_start_time)
+                    .setParameter(KruizeConstants.JSONKeys.INTERVAL_END_TIME, interval_end_time)
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load the {} rollups due to: {}", rollupEntryClass.getSimpleName(), e.getMessage());
+            throw new Exception("Error while loading the rollups from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsRollups) {
+                MetricsConfig.timerLoadResultsRollups = MetricsConfig.timerBLoadResultsRollups.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsRollups.stop(MetricsConfig.timerLoadResultsRollups);
+            }
+        }
+        return rollupEntries;
+    }
+
     @Override
     public List<KruizeRecommendationEntry> loadRecommendationsByExperimentName(String experimentName) throws Exception {
         List<KruizeRecommendationEntry> recommendationEntries = null;
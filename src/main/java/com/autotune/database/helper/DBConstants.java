@@ -7,6 +7,7 @@ public class DBConstants {
     public static final class SQLQUERY {
         public static final String SELECT_FROM_EXPERIMENTS = "from KruizeExperimentEntry";
         public static final String SELECT_FROM_EXPERIMENTS_BY_EXP_NAME = "from KruizeExperimentEntry k WHERE k.experiment_name = :experimentName";
+        public static final String SELECT_FROM_EXPERIMENTS_BY_EXP_NAMES = "from KruizeExperimentEntry k WHERE k.experiment_name in (:experimentNames)";
         public static final String SELECT_FROM_RESULTS = "from KruizeResultsEntry";
         public static final String SELECT_FROM_RESULTS_BY_EXP_NAME = "from KruizeResultsEntry k WHERE k.experiment_name = :experimentName";
         public static final String SELECT_FROM_DATASOURCE = "from KruizeDataSourceEntry";
@@ -49,17 +50,137 @@ public class DBConstants {
                         "k.experiment_name = :%s and " +
                         "k.interval_end_time = (SELECT MAX(e.interval_end_time) FROM KruizeResultsEntry e  where e.experiment_name = :%s ) ",
                 KruizeConstants.JSONKeys.EXPERIMENT_NAME, KruizeConstants.JSONKeys.EXPERIMENT_NAME);
+        public static final String SELECT_RESULTS_VERSION_AND_TIMES_BY_EXP_NAME_AND_DATE_RANGE =
+                String.format("select k.version, k.interval_start_time, k.interval_end_time from KruizeResultsEntry k " +
+                                "WHERE k.experiment_name = :%s and " +
+                                "k.interval_end_time >= :%s and " +
+                                "k.interval_end_time <= :%s ",
+                        KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                        KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                        KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_RESULTS_COUNT_BY_EXP_NAME_AND_DATE_RANGE =
+                String.format("select count(k) from KruizeResultsEntry k " +
+                                "WHERE k.experiment_name = :%s and " +
+                                "k.interval_end_time >= :%s and " +
+                                "k.interval_end_time <= :%s ",
+                        KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                        KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                        KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_FROM_RESULTS_BY_EXP_NAMES_AND_DATE_RANGE =
+                String.format("from KruizeResultsEntry k " +
+                                "WHERE k.experiment_name in (:experimentNames) and " +
+                                "k.interval_end_time >= :%s and " +
+                                "k.interval_end_time <= :%s ",
+                        KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                        KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_FROM_RESULTS_BY_EXP_NAME_AND_END_TIMES = String.format("from KruizeResultsEntry k " +
+                        "WHERE k.experiment_name = :%s and k.interval_end_time in (:intervalEndTimes)",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME);
+        public static final String SELECT_FROM_RESULTS_METRICS_BY_EXP_NAME_AND_DATE_RANGE =
+                String.format("from KruizeResultsMetricsEntry k " +
+                                "WHERE k.experiment_name = :%s and " +
+                                "k.interval_end_time >= :%s and " +
+                                "k.interval_end_time <= :%s ",
+                        KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                        KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                        KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_FROM_RESULTS_METRICS_BY_EXP_NAME_AND_END_TIMES = String.format("from KruizeResultsMetricsEntry k " +
+                        "WHERE k.experiment_name = :%s and k.interval_end_time in (:intervalEndTimes)",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME);
+        public static final String SELECT_FROM_RESULTS_METRICS_BY_CONTAINER_AND_DATE_RANGE = String.format("from KruizeResultsMetricsEntry k " +
+                        "WHERE k.experiment_name = :%s and k.k8s_object_name = :k8sObjectName and k.namespace = :namespace and " +
+                        "k.container_name = :containerName and k.interval_end_time >= :%s and k.interval_end_time <= :%s",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_RESULTS_METRICS_INTERVAL_TIMES_BY_EXP_NAME_AND_DATE_RANGE =
+                String.format("select distinct k.k8s_object_name, k.namespace, k.container_name, k.interval_start_time, k.interval_end_time " +
+                                "from KruizeResultsMetricsEntry k " +
+                                "WHERE k.experiment_name = :%s and " +
+                                "k.interval_end_time >= :%s and " +
+                                "k.interval_end_time <= :%s ",
+                        KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                        KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                        KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        // Per-term aggregates of a container used by the recommendation models, the per-interval values are derived
+        // the same way as in the models and the percentiles use the same nearest rank as Percentiles.getRank
+        public static final String SELECT_TERM_AGGREGATES_FROM_RESULTS_METRICS = "WITH intervals AS (" +
+                "SELECT interval_end_time, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuUsage' THEN avg END), 0) AS cpu_usage_avg, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuUsage' THEN max END), 0) AS cpu_usage_max, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuUsage' THEN sum END), 0) AS cpu_usage_sum, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuThrottle' THEN avg END), 0) AS cpu_throttle_avg, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuThrottle' THEN max END), 0) AS cpu_throttle_max, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'cpuThrottle' THEN sum END), 0) AS cpu_throttle_sum, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryUsage' THEN avg END), 0) AS memory_usage_avg, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryUsage' THEN min END), 0) AS memory_usage_min, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryUsage' THEN max END), 0) AS memory_usage_max, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryUsage' THEN sum END), 0) AS memory_usage_sum, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryRSS' THEN min END), 0) AS memory_rss_min, " +
+                "COALESCE(MAX(CASE WHEN metric_name = 'memoryRSS' THEN max END), 0) AS memory_rss_max, " +
+                "MAX(CASE WHEN metric_name = 'cpuUsage' THEN format END) AS cpu_format, " +
+                "MAX(CASE WHEN metric_name = 'memoryUsage' THEN format END) AS memory_format " +
+                "FROM kruize_results_metrics " +
+                "WHERE experiment_name = :experiment_name AND k8s_object_name = :k8sObjectName AND namespace = :namespace " +
+                "AND container_name = :containerName AND interval_end_time >= :calculated_start_time AND interval_end_time <= :interval_end_time " +
+                "GROUP BY interval_end_time), " +
+                "pods AS (" +
+                "SELECT *, " +
+                "CASE WHEN cpu_usage_max > 0 THEN cpu_usage_max ELSE cpu_usage_avg END + " +
+                "CASE WHEN cpu_throttle_max > 0 THEN cpu_throttle_max ELSE cpu_throttle_avg END AS cpu_usage_total, " +
+                "CASE WHEN cpu_usage_avg <> 0 THEN CEIL(cpu_usage_sum / cpu_usage_avg) ELSE 0 END AS cpu_pods, " +
+                "CASE WHEN cpu_usage_avg <> 0 AND CEIL(cpu_usage_sum / cpu_usage_avg) <> 0 THEN CEIL(cpu_usage_sum / cpu_usage_avg) " +
+                "WHEN memory_usage_avg <> 0 THEN CEIL(memory_usage_sum / memory_usage_avg) ELSE 0 END AS memory_pods " +
+                "FROM intervals), " +
+                "derived AS (" +
+                "SELECT cpu_pods, cpu_format, memory_format, " +
+                "CASE WHEN cpu_usage_total < 1 THEN cpu_usage_total " +
+                "ELSE GREATEST(CASE WHEN cpu_pods > 0 THEN (cpu_usage_sum + cpu_throttle_sum) / cpu_pods ELSE 0 END, cpu_usage_total) END AS cpu_request, " +
+                "GREATEST(CASE WHEN memory_pods > 0 THEN memory_usage_sum / memory_pods ELSE 0 END, memory_usage_max) AS memory_usage, " +
+                "GREATEST(CEIL(memory_usage_max - memory_usage_min), CEIL(memory_rss_max - memory_rss_min)) AS memory_spike " +
+                "FROM pods) " +
+                "SELECT COUNT(*), MAX(cpu_pods), MAX(cpu_request), " +
+                "(ARRAY_AGG(cpu_request ORDER BY cpu_request))[CAST(ROUND(:cpuCostPercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "(ARRAY_AGG(cpu_request ORDER BY cpu_request))[CAST(ROUND(:cpuPerformancePercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "(ARRAY_AGG(memory_usage ORDER BY memory_usage))[CAST(ROUND(:memoryCostPercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "(ARRAY_AGG(memory_usage ORDER BY memory_usage))[CAST(ROUND(:memoryPerformancePercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "(ARRAY_AGG(memory_spike ORDER BY memory_spike))[CAST(ROUND(:memoryCostPercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "(ARRAY_AGG(memory_spike ORDER BY memory_spike))[CAST(ROUND(:memoryPerformancePercentile * (COUNT(*) - 1) / 100.0) AS INTEGER) + 1], " +
+                "MAX(cpu_format), MAX(memory_format) " +
+                "FROM derived";
+        public static final String SELECT_RESULTS_KEYS_BY_EXP_NAMES_AND_END_TIMES = "select k.experiment_name, k.interval_end_time from KruizeResultsEntry k " +
+                "WHERE k.experiment_name in (:experimentNames) and k.interval_end_time in (:intervalEndTimes)";
         public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAME = String.format("from KruizeRecommendationEntry k WHERE k.experiment_name = :experimentName");
         public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAME_AND_END_TIME = String.format(
                 "from KruizeRecommendationEntry k WHERE " +
                         "k.experiment_name = :%s and " +
                         "k.interval_end_time= :%s ",
                 KruizeConstants.JSONKeys.EXPERIMENT_NAME, KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES_AND_END_TIMES = "from KruizeRecommendationEntry k " +
+                "WHERE k.experiment_name in (:experimentNames) and k.interval_end_time in (:intervalEndTimes)";
         public static final String SELECT_FROM_RECOMMENDATIONS = "from KruizeRecommendationEntry";
         public static final String SELECT_FROM_PERFORMANCE_PROFILE = "from KruizePerformanceProfileEntry";
         public static final String SELECT_FROM_PERFORMANCE_PROFILE_BY_NAME = "from KruizePerformanceProfileEntry k WHERE k.name = :name";
         public static final String DELETE_FROM_EXPERIMENTS_BY_EXP_NAME = "DELETE FROM KruizeExperimentEntry k WHERE k.experiment_name = :experimentName";
         public static final String DELETE_FROM_RESULTS_BY_EXP_NAME = "DELETE FROM KruizeResultsEntry k WHERE k.experiment_name = :experimentName";
+        public static final String DELETE_FROM_RESULTS_METRICS_BY_EXP_NAME = "DELETE FROM KruizeResultsMetricsEntry k WHERE k.experiment_name = :experimentName";
+        // rollup queries are formatted with the entity name of the hourly or daily rollups
+        public static final String SELECT_FROM_RESULTS_ROLLUP_BY_KEY = String.format("from %%s k WHERE " +
+                        "k.experiment_name = :%s and k.k8s_object_name = :k8sObjectName and k.namespace = :namespace and " +
+                        "k.container_name = :containerName and k.bucket_start = :bucketStart",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME);
+        // formatted with the table name, adds an empty row for the bucket if there is none so that it can be locked
+        public static final String INSERT_EMPTY_RESULTS_ROLLUP = "INSERT INTO %s (experiment_name, k8s_object_name, namespace, container_name, " +
+                "bucket_start, interval_count, pods_max, cpu_request_max) VALUES (:experimentName, :k8sObjectName, :namespace, " +
+                ":containerName, :bucketStart, 0, 0, 0) ON CONFLICT DO NOTHING";
+        public static final String SELECT_FROM_RESULTS_ROLLUP_BY_CONTAINER_AND_DATE_RANGE = String.format("from %%s k WHERE " +
+                        "k.experiment_name = :%s and k.k8s_object_name = :k8sObjectName and k.namespace = :namespace and " +
+                        "k.container_name = :containerName and k.bucket_start >= :%s and k.bucket_start < :%s",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME,
+                KruizeConstants.JSONKeys.CALCULATED_START_TIME,
+                KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String DELETE_FROM_RESULTS_ROLLUP_BY_EXP_NAME = "DELETE FROM %s k WHERE k.experiment_name = :experimentName";
+        public static final String DELETE_FROM_RESULTS_ROLLUP_BEFORE_BUCKET_START = "DELETE FROM %s k WHERE k.bucket_start < :bucketStart";
         public static final String DELETE_FROM_RECOMMENDATIONS_BY_EXP_NAME = "DELETE FROM KruizeRecommendationEntry k WHERE k.experiment_name = :experimentName";
         public static final String DB_PARTITION_DATERANGE = "CREATE TABLE IF NOT EXISTS %s_%s%s%s PARTITION OF %s FOR VALUES FROM ('%s-%s-%s 00:00:00.000') TO ('%s-%s-%s 23:59:59');";
         public static final String SELECT_ALL_KRUIZE_TABLES = "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public' " +
@@ -73,12 +194,18 @@ public class DBConstants {
                 " WHERE container->>'container_name' = :container_name" +
                 " AND container->>'container_image_name' = :container_image_name" +
                 " ))";
+        public static final String SELECT_EXPERIMENT_NAMES_BY_CLUSTER_NAME = "SELECT experiment_name FROM kruize_experiments " +
+                "WHERE cluster_name = :cluster_name";
+        public static final String SELECT_EXPERIMENT_NAMES_BY_CLUSTER_NAME_AND_NAMESPACE = SELECT_EXPERIMENT_NAMES_BY_CLUSTER_NAME +
+                " AND EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
+                " WHERE kubernetes_object->>'namespace' = :namespace)";
 
     }
 
     public static final class TABLE_NAMES {
         public static final String KRUIZE_EXPERIMENTS = "kruize_experiments";
         public static final String KRUIZE_RESULTS = "kruize_results";
+        public static final String KRUIZE_RESULTS_METRICS = "kruize_results_metrics";
         public static final String KRUIZE_RECOMMENDATIONS = "kruize_recommendations";
         public static final String KRUIZE_PERFORMANCE_PROFILES = "kruize_performance_profiles";
 
@@ -98,6 +225,7 @@ public class DBConstants {
         public static final String DUPLICATE_KEY_ALT = "A different object with the same identifier value was already associated with the session";
         public static final String NO_PARTITION_RELATION = "no partition of relation";
         public static final String CREATE_PARTITION_RETRY = "Create partition and retry !";
+        public static final String BATCH_INSERT_FALLBACK = "Batch insert failed due to {}, retrying row by row";
         public static final String INVALID_PARTITION_TYPE = "Invalid Partition Type";
         public static final String DATA_NOT_FOUND_KRUIZE_RESULTS = "Data not found in kruizeResultsEntry for exp_name : {} interval_end_time : {} ";
         public static final String ADD_CONSTRAINT = "add constraint";
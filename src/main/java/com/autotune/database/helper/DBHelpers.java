@@ -26,9 +26,14 @@ import com.autotune.analyzer.serviceObjects.*;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.dataSourceMetadata.*;
+import com.autotune.common.data.metrics.Metric;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.data.result.IntervalResults;
 import com.autotune.common.datasource.DataSourceCollection;
 import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.common.datasource.DataSourceMetadataOperator;
@@ -41,6 +46,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -248,6 +254,14 @@ public class DBHelpers {
 
 
         public static class KruizeObjectConverters {
+            // Gson instances are thread safe, reuse the one used to build the results extended data
+            private static final Gson RESULTS_GSON = new GsonBuilder()
+                    .disableHtmlEscaping()
+                    .enableComplexMapKeySerialization()
+                    .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
+                    .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                    .create();
+
             private KruizeObjectConverters() {
 
             }
@@ -296,13 +310,6 @@ public class DBHelpers {
              */
             public static KruizeResultsEntry convertExperimentResultToExperimentResultsTable(ExperimentResultData experimentResultData) {
                 KruizeResultsEntry kruizeResultsEntry = null;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .create();
                 try {
                     kruizeResultsEntry = new KruizeResultsEntry();
                     kruizeResultsEntry.setVersion(experimentResultData.getVersion());
@@ -315,15 +322,12 @@ public class DBHelpers {
                                     experimentResultData.getIntervalStartTime().getTime()) / (60 * 1000))
                     );
                     Map<String, List<K8sObject>> k8sObjectsMap = Map.of(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, experimentResultData.getKubernetes_objects());
-                    String k8sObjectString = gson.toJson(k8sObjectsMap);
-                    ObjectMapper objectMapper = new ObjectMapper();
                     try {
+                        // build the jsonb tree directly from the Gson serialization, without an intermediate String
                         kruizeResultsEntry.setExtended_data(
-                                objectMapper.readTree(
-                                        k8sObjectString
-                                )
+                                JsonNodeTreeWriter.toJsonNode(RESULTS_GSON, k8sObjectsMap)
                         );
-                    } catch (JsonProcessingException e) {
+                    } catch (JsonParseException | IllegalArgumentException | IllegalStateException e) {
                         throw new Exception("Error while creating Extended data due to : " + e.getMessage());
                     }
 
@@ -335,6 +339,145 @@ public class DBHelpers {
                 return kruizeResultsEntry;
             }
 
+            /**
+             * Flattens the metrics of the result into one typed row per container and metric.
+             *
+             * @param experimentResultData result received by updateResults
+             * @return rows for kruize_results_metrics, null if the result can not be represented in the typed layout,
+             * in which case it is read back from the extended_data of kruize_results
+             */
+            public static List<KruizeResultsMetricsEntry> convertExperimentResultToResultsMetricsEntries(ExperimentResultData experimentResultData) {
+                List<KruizeResultsMetricsEntry> resultsMetricsEntries = new ArrayList<>();
+                for (K8sObject k8sObject : experimentResultData.getKubernetes_objects()) {
+                    if (null == k8sObject.getName() || null == k8sObject.getNamespace() || null == k8sObject.getContainerDataMap())
+                        return null;
+                    for (ContainerData containerData : k8sObject.getContainerDataMap().values()) {
+                        if (null == containerData.getContainer_name() || null == containerData.getResults())
+                            return null;
+                        IntervalResults intervalResults = containerData.getResults().get(experimentResultData.getIntervalEndTime());
+                        if (null == intervalResults || null == intervalResults.getMetricResultsMap())
+                            return null;
+                        for (MetricResults metricResults : intervalResults.getMetricResultsMap().values()) {
+                            // percentile results and metrics unknown to this version are only kept in the extended_data
+                            if (metricResults.isPercentile_results_available() || null == getMetricName(metricResults.getName()))
+                                return null;
+                            KruizeResultsMetricsEntry resultsMetricsEntry = new KruizeResultsMetricsEntry();
+                            resultsMetricsEntry.setExperiment_name(experimentResultData.getExperiment_name());
+                            resultsMetricsEntry.setInterval_start_time(experimentResultData.getIntervalStartTime());
+                            resultsMetricsEntry.setInterval_end_time(experimentResultData.getIntervalEndTime());
+                            resultsMetricsEntry.setK8s_object_name(k8sObject.getName());
+                            resultsMetricsEntry.setK8s_object_type(k8sObject.getType());
+                            resultsMetricsEntry.setNamespace(k8sObject.getNamespace());
+                            resultsMetricsEntry.setContainer_name(containerData.getContainer_name());
+                            resultsMetricsEntry.setContainer_image_name(containerData.getContainer_image_name());
+                            resultsMetricsEntry.setMetric_name(metricResults.getName());
+                            resultsMetricsEntry.setValue(metricResults.getValue());
+                            MetricAggregationInfoResults aggregationInfoResults = metricResults.getAggregationInfoResult();
+                            if (null != aggregationInfoResults) {
+                                resultsMetricsEntry.setAvg(aggregationInfoResults.getAvg());
+                                resultsMetricsEntry.setMin(aggregationInfoResults.getMin());
+                                resultsMetricsEntry.setMax(aggregationInfoResults.getMax());
+                                resultsMetricsEntry.setSum(aggregationInfoResults.getSum());
+                                resultsMetricsEntry.setCount(aggregationInfoResults.getCount());
+                                resultsMetricsEntry.setMedian(aggregationInfoResults.getMedian());
+                                resultsMetricsEntry.setMode(aggregationInfoResults.getMode());
+                                resultsMetricsEntry.setRange(aggregationInfoResults.getRange());
+                                resultsMetricsEntry.setFormat(aggregationInfoResults.getFormat());
+                            }
+                            resultsMetricsEntries.add(resultsMetricsEntry);
+                        }
+                    }
+                }
+                return resultsMetricsEntries;
+            }
+
+            /**
+             * Rebuilds the result of a single interval from its kruize_results_metrics rows, the counterpart of
+             * convertExperimentResultToResultsMetricsEntries.
+             *
+             * @param resultsMetricsEntries rows of one interval
+             * @param version               version of the kruize_results entry
+             * @param clusterName           cluster name of the experiment
+             * @return ExperimentResultData in the same shape as received by updateResults
+             */
+            public static ExperimentResultData convertResultsMetricsEntriesToExperimentResultData(List<KruizeResultsMetricsEntry> resultsMetricsEntries,
+                                                                                                  String version, String clusterName) {
+                KruizeResultsMetricsEntry firstEntry = resultsMetricsEntries.get(0);
+                Timestamp intervalStartTime = firstEntry.getInterval_start_time();
+                Timestamp intervalEndTime = firstEntry.getInterval_end_time();
+                Map<String, K8sObject> k8sObjectMap = new LinkedHashMap<>();
+                Map<String, HashMap<AnalyzerConstants.MetricName, MetricResults>> metricResultsByContainer = new HashMap<>();
+                for (KruizeResultsMetricsEntry resultsMetricsEntry : resultsMetricsEntries) {
+                    AnalyzerConstants.MetricName metricName = getMetricName(resultsMetricsEntry.getMetric_name());
+                    if (null == metricName) {
+                        LOGGER.warn("Skipping the unknown metric {} of experiment {} at {}", resultsMetricsEntry.getMetric_name(),
+                                resultsMetricsEntry.getExperiment_name(), resultsMetricsEntry.getInterval_end_time());
+                        continue;
+                    }
+                    String k8sObjectKey = resultsMetricsEntry.getNamespace() + "/" + resultsMetricsEntry.getK8s_object_name();
+                    K8sObject k8sObject = k8sObjectMap.computeIfAbsent(k8sObjectKey, k -> {
+                        K8sObject newK8sObject = new K8sObject(resultsMetricsEntry.getK8s_object_name(),
+                                resultsMetricsEntry.getK8s_object_type(), resultsMetricsEntry.getNamespace());
+                        newK8sObject.setContainerDataMap(new HashMap<>());
+                        return newK8sObject;
+                    });
+                    ContainerData containerData = k8sObject.getContainerDataMap().get(resultsMetricsEntry.getContainer_name());
+                    String containerKey = k8sObjectKey + "/" + resultsMetricsEntry.getContainer_name();
+                    if (null == containerData) {
+                        containerData = new ContainerData(resultsMetricsEntry.getContainer_name(),
+                                resultsMetricsEntry.getContainer_image_name(), null, new HashMap<>());
+                        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+                        IntervalResults intervalResults = new IntervalResults(intervalStartTime, intervalEndTime);
+                        intervalResults.setMetricResultsMap(metricResultsMap);
+                        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+                        resultsMap.put(intervalEndTime, intervalResults);
+                        containerData.setResults(resultsMap);
+                        k8sObject.getContainerDataMap().put(containerData.getContainer_name(), containerData);
+                        metricResultsByContainer.put(containerKey, metricResultsMap);
+                    }
+                    MetricAggregationInfoResults aggregationInfoResults = new MetricAggregationInfoResults();
+                    aggregationInfoResults.setAvg(resultsMetricsEntry.getAvg());
+                    aggregationInfoResults.setMin(resultsMetricsEntry.getMin());
+                    aggregationInfoResults.setMax(resultsMetricsEntry.getMax());
+                    aggregationInfoResults.setSum(resultsMetricsEntry.getSum());
+                    aggregationInfoResults.setCount(resultsMetricsEntry.getCount());
+                    aggregationInfoResults.setMedian(resultsMetricsEntry.getMedian());
+                    aggregationInfoResults.setMode(resultsMetricsEntry.getMode());
+                    aggregationInfoResults.setRange(resultsMetricsEntry.getRange());
+                    aggregationInfoResults.setFormat(resultsMetricsEntry.getFormat());
+                    MetricResults metricResults = new MetricResults();
+                    metricResults.setName(resultsMetricsEntry.getMetric_name());
+                    metricResults.setValue(resultsMetricsEntry.getValue());
+                    metricResults.setAggregationInfoResult(aggregationInfoResults);
+                    Metric metric = new Metric(resultsMetricsEntry.getMetric_name(), null, null, null, null);
+                    metric.setMetricResult(metricResults);
+                    containerData.getMetrics().put(metricName, metric);
+                    metricResultsByContainer.get(containerKey).put(metricName, metricResults);
+                }
+                ExperimentResultData experimentResultData = new ExperimentResultData();
+                experimentResultData.setVersion(version);
+                experimentResultData.setExperiment_name(firstEntry.getExperiment_name());
+                experimentResultData.setCluster_name(clusterName);
+                experimentResultData.setIntervalStartTime(intervalStartTime);
+                experimentResultData.setIntervalEndTime(intervalEndTime);
+                experimentResultData.setKubernetes_objects(new ArrayList<>(k8sObjectMap.values()));
+                experimentResultData.setValidationOutputData(new ValidationOutputData(true, null, null));
+                return experimentResultData;
+            }
+
+            /**
+             * @return the MetricName of the name, null if the name is unknown to this version
+             */
+            private static AnalyzerConstants.MetricName getMetricName(String name) {
+                if (null == name)
+                    return null;
+                try {
+                    return AnalyzerConstants.MetricName.valueOf(name);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+
             public static ListRecommendationsAPIObject getListRecommendationAPIObjectForDB(KruizeObject kruizeObject, Timestamp monitoringEndTime) {
                 if (null == kruizeObject)
                     return null;
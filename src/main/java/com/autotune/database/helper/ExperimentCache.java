@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.google.gson.Gson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process wide LRU cache of the experiments loaded from kruize_experiments, keyed by experiment name.
+ * <p>
+ * The cache holds the experiment as an immutable JSON String rather than the decoded CreateExperimentAPIObject, and
+ * every hit decodes a new CreateExperimentAPIObject from it. A hit saves the DB round trip, and no caller can
+ * change the cached experiment through the objects built from it.
+ * Every invalidation bumps a version; a load which started before an invalidation is not put into the cache, so a
+ * concurrent delete or create can not be overwritten by a stale row. Entries expire after the configured TTL to
+ * pick up changes made by other Kruize replicas.
+ */
+public class ExperimentCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExperimentCache.class);
+    private static final ExperimentCache INSTANCE = new ExperimentCache();
+    // same plain Gson as the decode of the extended_data in DBHelpers
+    private static final Gson GSON = new Gson();
+
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > KruizeDeploymentInfo.experiment_cache_size;
+        }
+    };
+    private long version = 0;
+
+    private ExperimentCache() {
+    }
+
+    public static ExperimentCache getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return null != KruizeDeploymentInfo.experiment_cache_size && KruizeDeploymentInfo.experiment_cache_size > 0;
+    }
+
+    /**
+     * @return current version, to be captured before loading an experiment from the DB and passed to put()
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param experimentName name of the experiment
+     * @return a new copy of the cached experiment, or null if not present or expired
+     */
+    public CreateExperimentAPIObject get(String experimentName) {
+        if (!isEnabled() || null == experimentName)
+            return null;
+        CacheEntry cacheEntry;
+        synchronized (this) {
+            cacheEntry = entries.get(experimentName);
+            if (null == cacheEntry)
+                return null;
+            if (isExpired(cacheEntry)) {
+                entries.remove(experimentName);
+                return null;
+            }
+        }
+        LOGGER.debug("Experiment {} found in cache", experimentName);
+        return GSON.fromJson(cacheEntry.experimentJson, CreateExperimentAPIObject.class);
+    }
+
+    /**
+     * Adds the experiment to the cache, unless the cache got invalidated after loadVersion was captured.
+     *
+     * @param experimentName            name of the experiment
+     * @param createExperimentAPIObject experiment decoded from the DB
+     * @param loadVersion               version returned by getVersion() before the experiment was loaded
+     */
+    public void put(String experimentName, CreateExperimentAPIObject createExperimentAPIObject, long loadVersion) {
+        if (!isEnabled() || null == experimentName || null == createExperimentAPIObject)
+            return;
+        // serialized before the experiment is handed to the caller to be converted and changed
+        String experimentJson = GSON.toJson(createExperimentAPIObject);
+        boolean added = false;
+        synchronized (this) {
+            if (loadVersion == version) {
+                entries.put(experimentName, new CacheEntry(experimentJson, System.currentTimeMillis()));
+                added = true;
+            }
+        }
+        if (!added)
+            LOGGER.debug("Skipping cache update for experiment {} as the cache got invalidated during the load", experimentName);
+    }
+
+    /**
+     * Removes the experiment from the cache. To be called whenever the experiment is created or deleted.
+     *
+     * @param experimentName name of the experiment
+     */
+    public synchronized void invalidate(String experimentName) {
+        version++;
+        if (null != experimentName)
+            entries.remove(experimentName);
+    }
+
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+    }
+
+    private boolean isExpired(CacheEntry cacheEntry) {
+        Integer ttlInMinutes = KruizeDeploymentInfo.experiment_cache_ttl_in_minutes;
+        if (null == ttlInMinutes || ttlInMinutes <= 0)
+            return false;
+        return System.currentTimeMillis() - cacheEntry.loadedAtMillis > ttlInMinutes * 60 * 1000L;
+    }
+
+    private static class CacheEntry {
+        private final String experimentJson;
+        private final long loadedAtMillis;
+
+        private CacheEntry(String experimentJson, long loadedAtMillis) {
+            this.experimentJson = experimentJson;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Gson JsonWriter which builds a Jackson JsonNode tree instead of writing characters.
+ * <p>
+ * The jsonb columns are mapped as Jackson JsonNode while the objects are serialized with Gson type adapters. Writing
+ * the Gson output directly into the Jackson tree avoids serializing the object to a String and parsing it back.
+ */
+public class JsonNodeTreeWriter extends JsonWriter {
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int counter) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Deque<JsonNode> stack = new ArrayDeque<>();
+    private String pendingName;
+    private JsonNode root;
+
+    public JsonNodeTreeWriter() {
+        super(UNWRITABLE_WRITER);
+    }
+
+    /**
+     * Serializes the object with the given Gson instance into a Jackson JsonNode tree.
+     *
+     * @param gson   Gson instance holding the type adapters to be used
+     * @param object object to be serialized
+     * @return JsonNode tree equivalent to gson.toJson(object)
+     */
+    public static JsonNode toJsonNode(Gson gson, Object object) {
+        JsonNodeTreeWriter writer = new JsonNodeTreeWriter();
+        gson.toJson(object, object.getClass(), writer);
+        return writer.get();
+    }
+
+    public JsonNode get() {
+        if (!stack.isEmpty()) {
+            throw new IllegalStateException("Expected one JSON element but was " + stack);
+        }
+        return null == root ? nodeFactory.nullNode() : root;
+    }
+
+    private void put(JsonNode value) {
+        if (null != pendingName) {
+            if (!value.isNull() || getSerializeNulls()) {
+                ((ObjectNode) stack.peek()).set(pendingName, value);
+            }
+            pendingName = null;
+        } else if (stack.isEmpty()) {
+            root = value;
+        } else if (stack.peek().isArray()) {
+            ((ArrayNode) stack.peek()).add(value);
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        ArrayNode array = nodeFactory.arrayNode();
+        put(array);
+        stack.push(array);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        if (stack.isEmpty() || null != pendingName || !stack.peek().isArray()) {
+            throw new IllegalStateException();
+        }
+        stack.pop();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        ObjectNode object = nodeFactory.objectNode();
+        put(object);
+        stack.push(object);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (stack.isEmpty() || null != pendingName || !stack.peek().isObject()) {
+            throw new IllegalStateException();
+        }
+        stack.pop();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (null == name) {
+            throw new NullPointerException("name == null");
+        }
+        if (stack.isEmpty() || null != pendingName || !stack.peek().isObject()) {
+            throw new IllegalStateException();
+        }
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (null == value) {
+            return nullValue();
+        }
+        put(nodeFactory.textNode(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        if (null == value) {
+            return nullValue();
+        }
+        // the raw JSON value is parsed into a node, a malformed value fails with a JsonProcessingException
+        put(OBJECT_MAPPER.readTree(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        put(nodeFactory.nullNode());
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        put(nodeFactory.booleanNode(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (null == value) {
+            return nullValue();
+        }
+        put(nodeFactory.booleanNode(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("JSON forbids NaN and infinities: " + value);
+        }
+        put(nodeFactory.numberNode(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        // same node types as Jackson would create when parsing the serialized value
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            put(nodeFactory.numberNode((int) value));
+        } else {
+            put(nodeFactory.numberNode(value));
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (null == value) {
+            return nullValue();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof BigInteger bigInteger) {
+            put(nodeFactory.numberNode(bigInteger));
+            return this;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return value(value.doubleValue());
+        }
+        // LazilyParsedNumber, BigDecimal and other Number implementations
+        put(nodeFactory.numberNode(new BigDecimal(value.toString())));
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!stack.isEmpty()) {
+            throw new IOException("Incomplete document");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.autotune.database.init.KruizeHibernateUtil;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static com.autotune.database.helper.DBConstants.SQLQUERY.SELECT_ALL_KRUIZE_TABLES;
+
+/**
+ * In-memory view of the daily kruize_results and kruize_recommendations partitions present in the DB.
+ * <p>
+ * Lets the inserts create missing partitions upfront instead of finding out through a failed transaction.
+ * The registry is loaded from information_schema on first use, kept up to date by addPartitions and deletePartitions,
+ * and reloaded periodically to pick up the partitions created or dropped by the partition jobs running in their
+ * own process.
+ */
+public class PartitionRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionRegistry.class);
+    private static final PartitionRegistry INSTANCE = new PartitionRegistry(PartitionRegistry::loadTableNames, System::currentTimeMillis);
+    private static final DateTimeFormatter PARTITION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final long REFRESH_INTERVAL_MILLIS = 60 * 60 * 1000L;
+    // delay before reloading after a failed load, the previous partitions are used in between
+    static final long RETRY_DELAY_MILLIS = 30 * 1000L;
+
+    private final Callable<List<String>> tableNamesLoader;
+    private final LongSupplier clock;
+    private volatile Set<String> partitions = ConcurrentHashMap.newKeySet();
+    private volatile long nextLoadAtMillis = 0;
+    // earliest time of the next load after a failed one, invalidate does not reload before it
+    private volatile long retryAtMillis = 0;
+
+    PartitionRegistry(Callable<List<String>> tableNamesLoader, LongSupplier clock) {
+        this.tableNamesLoader = tableNamesLoader;
+        this.clock = clock;
+    }
+
+    public static PartitionRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public static String getPartitionName(String tableName, LocalDate date) {
+        return tableName + "_" + date.format(PARTITION_DATE_FORMAT);
+    }
+
+    private static List<String> loadTableNames() {
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            return session.createNativeQuery(SELECT_ALL_KRUIZE_TABLES, String.class).getResultList();
+        }
+    }
+
+    /**
+     * Reloads the partitions present in the DB. On failure the partitions loaded before are kept and the next load
+     * is attempted after RETRY_DELAY_MILLIS.
+     */
+    public synchronized void load() {
+        long now = clock.getAsLong();
+        try {
+            Set<String> loadedPartitions = ConcurrentHashMap.newKeySet();
+            loadedPartitions.addAll(tableNamesLoader.call());
+            partitions = loadedPartitions;
+            retryAtMillis = 0;
+            nextLoadAtMillis = now + REFRESH_INTERVAL_MILLIS;
+            LOGGER.debug("Loaded {} partitions", partitions.size());
+        } catch (Exception e) {
+            retryAtMillis = now + RETRY_DELAY_MILLIS;
+            nextLoadAtMillis = retryAtMillis;
+            LOGGER.error("Failed to load the partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if the daily partition of the table is known to exist
+     */
+    public boolean exists(String tableName, LocalDate date) {
+        if (clock.getAsLong() >= nextLoadAtMillis) {
+            synchronized (this) {
+                // another caller may have reloaded while this one waited
+                if (clock.getAsLong() >= nextLoadAtMillis)
+                    load();
+            }
+        }
+        return partitions.contains(getPartitionName(tableName, date));
+    }
+
+    public void markCreated(String partitionName) {
+        partitions.add(partitionName);
+    }
+
+    public void markDropped(String partitionName) {
+        partitions.remove(partitionName);
+    }
+
+    /**
+     * Forces a reload on next use, to be called when an insert still hits a missing partition. After a failed load
+     * the reload still waits for the retry delay.
+     */
+    public void invalidate() {
+        nextLoadAtMillis = retryAtMillis;
+    }
+}
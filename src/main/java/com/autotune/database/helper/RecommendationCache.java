@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.ContainerRecommendations;
+import com.autotune.common.data.ValidationOutputData;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.k8sObjects.K8sObject;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Process wide LRU cache of the experiments whose recommendations got generated and saved by updateRecommendations,
+ * keyed by experiment name and interval end time.
+ * <p>
+ * Every entry records the data version it was generated from, the number of results of the experiment in the window
+ * of its longest term. Results are only ever added, so a request for the same window with the same data version
+ * would generate and save the same recommendations again and is served from the cache instead. The cache holds a copy
+ * of the experiment with the recommendations of its containers only, without their results, and hands out copies of
+ * it, so neither the experiment being generated nor the callers share state with the cache. As in ExperimentCache,
+ * every invalidation bumps a version and recommendations generated across an invalidation are not put into the cache.
+ */
+public class RecommendationCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecommendationCache.class);
+    private static final RecommendationCache INSTANCE = new RecommendationCache();
+
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > KruizeDeploymentInfo.recommendation_cache_size;
+        }
+    };
+    private long version = 0;
+
+    private RecommendationCache() {
+    }
+
+    public static RecommendationCache getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return null != KruizeDeploymentInfo.recommendation_cache_size && KruizeDeploymentInfo.recommendation_cache_size > 0;
+    }
+
+    /**
+     * @return current version, to be captured before counting the results of the window and passed to put()
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param experimentName   name of the experiment
+     * @param intervalEndTime  interval end time of the recommendations
+     * @param dataVersion      number of results of the experiment in the window
+     * @return a copy of the cached experiment with its recommendations, or null if not present or generated from
+     * other data
+     */
+    public synchronized KruizeObject get(String experimentName, Timestamp intervalEndTime, long dataVersion) {
+        if (!isEnabled() || null == experimentName || null == intervalEndTime)
+            return null;
+        CacheKey cacheKey = new CacheKey(experimentName, intervalEndTime);
+        CacheEntry cacheEntry = entries.get(cacheKey);
+        if (null == cacheEntry)
+            return null;
+        if (cacheEntry.dataVersion != dataVersion) {
+            entries.remove(cacheKey);
+            return null;
+        }
+        LOGGER.debug("Recommendations of experiment {} for {} found in cache", experimentName, intervalEndTime);
+        return copyRecommendations(cacheEntry.kruizeObject);
+    }
+
+    /**
+     * Adds a copy of the experiment once its recommendations are saved, unless the cache got invalidated after
+     * loadVersion was captured. The experiment itself is left unchanged.
+     *
+     * @param experimentName   name of the experiment
+     * @param intervalEndTime  interval end time of the recommendations
+     * @param dataVersion      number of results of the experiment in the window, counted before they were loaded
+     * @param kruizeObject     experiment with the generated recommendations
+     * @param loadVersion      version returned by getVersion() before the results were counted
+     */
+    public synchronized void put(String experimentName, Timestamp intervalEndTime, long dataVersion, KruizeObject kruizeObject,
+                                 long loadVersion) {
+        if (!isEnabled() || null == experimentName || null == intervalEndTime || null == kruizeObject)
+            return;
+        if (loadVersion != version) {
+            LOGGER.debug("Skipping cache update for experiment {} as the cache got invalidated during the generation", experimentName);
+            return;
+        }
+        entries.put(new CacheKey(experimentName, intervalEndTime), new CacheEntry(copyRecommendations(kruizeObject), dataVersion));
+    }
+
+    /**
+     * Copies the fields of the experiment used to send its recommendations, the recommendations of its containers
+     * are deep copied and their results left empty.
+     */
+    static KruizeObject copyRecommendations(KruizeObject kruizeObject) {
+        KruizeObject copy = new KruizeObject();
+        copy.setApiVersion(kruizeObject.getApiVersion());
+        copy.setExperiment_id(kruizeObject.getExperiment_id());
+        copy.setExperimentName(kruizeObject.getExperimentName());
+        copy.setClusterName(kruizeObject.getClusterName());
+        copy.setDataSource(kruizeObject.getDataSource());
+        copy.setNamespace(kruizeObject.getNamespace());
+        copy.setMode(kruizeObject.getMode());
+        copy.setTarget_cluster(kruizeObject.getTarget_cluster());
+        copy.setStatus(kruizeObject.getStatus());
+        copy.setPerformanceProfile(kruizeObject.getPerformanceProfile());
+        ValidationOutputData validationData = kruizeObject.getValidation_data();
+        if (null != validationData)
+            copy.setValidation_data(new ValidationOutputData(validationData.isSuccess(), validationData.getMessage(), validationData.getErrorCode()));
+        if (null != kruizeObject.getKubernetes_objects()) {
+            List<K8sObject> k8sObjects = new ArrayList<>();
+            for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
+                K8sObject k8sObjectCopy = new K8sObject(k8sObject.getName(), k8sObject.getType(), k8sObject.getNamespace());
+                HashMap<String, ContainerData> containerDataMap = new HashMap<>();
+                if (null != k8sObject.getContainerDataMap()) {
+                    for (Map.Entry<String, ContainerData> containerDataEntry : k8sObject.getContainerDataMap().entrySet()) {
+                        ContainerData containerData = containerDataEntry.getValue();
+                        ContainerData containerDataCopy = new ContainerData(containerData.getContainer_name(), containerData.getContainer_image_name(),
+                                Utils.getClone(containerData.getContainerRecommendations(), ContainerRecommendations.class), null);
+                        containerDataCopy.setResults(new HashMap<>());
+                        containerDataMap.put(containerDataEntry.getKey(), containerDataCopy);
+                    }
+                }
+                k8sObjectCopy.setContainerDataMap(containerDataMap);
+                k8sObjects.add(k8sObjectCopy);
+            }
+            copy.setKubernetes_objects(k8sObjects);
+        }
+        return copy;
+    }
+
+    /**
+     * Removes the recommendations of the experiment from the cache. To be called whenever the experiment is created
+     * or deleted.
+     *
+     * @param experimentName name of the experiment
+     */
+    public synchronized void invalidate(String experimentName) {
+        version++;
+        if (null != experimentName)
+            entries.keySet().removeIf(cacheKey -> experimentName.equals(cacheKey.experimentName));
+    }
+
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+    }
+
+    private static class CacheKey {
+        private final String experimentName;
+        private final Timestamp intervalEndTime;
+
+        private CacheKey(String experimentName, Timestamp intervalEndTime) {
+            this.experimentName = experimentName;
+            this.intervalEndTime = intervalEndTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey cacheKey = (CacheKey) o;
+            return experimentName.equals(cacheKey.experimentName) && intervalEndTime.equals(cacheKey.intervalEndTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(experimentName, intervalEndTime);
+        }
+    }
+
+    private static class CacheEntry {
+        private final KruizeObject kruizeObject;
+        private final long dataVersion;
+
+        private CacheEntry(KruizeObject kruizeObject, long dataVersion) {
+            this.kruizeObject = kruizeObject;
+            this.dataVersion = dataVersion;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.utils.QuantileSketch;
+import com.autotune.database.table.KruizeResultsRollupEntry;
+
+import java.sql.Timestamp;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * In memory summary of the results of a container over a set of intervals, as kept in the rollup tables.
+ * <p>
+ * Rollups are built from the intervals, merged with other rollups or rollup rows and turned into the
+ * TermResultsSummary the recommendation models use.
+ */
+public class ResultsRollup {
+    private int intervalCount;
+    private int podsMax;
+    private double cpuRequestMax;
+    private final QuantileSketch cpuRequestSketch;
+    private final QuantileSketch memoryUsageSketch;
+    private final QuantileSketch memorySpikeSketch;
+    private String cpuFormat;
+    private String memoryFormat;
+
+    public ResultsRollup() {
+        this.cpuRequestSketch = new QuantileSketch();
+        this.memoryUsageSketch = new QuantileSketch();
+        this.memorySpikeSketch = new QuantileSketch();
+    }
+
+    public ResultsRollup(ResultsRollup rollup) {
+        this();
+        merge(rollup);
+    }
+
+    public ResultsRollup(KruizeResultsRollupEntry rollupEntry) {
+        this.intervalCount = rollupEntry.getInterval_count();
+        this.podsMax = rollupEntry.getPods_max();
+        this.cpuRequestMax = rollupEntry.getCpu_request_max();
+        this.cpuRequestSketch = QuantileSketch.fromBytes(rollupEntry.getCpu_request_sketch());
+        this.memoryUsageSketch = QuantileSketch.fromBytes(rollupEntry.getMemory_usage_sketch());
+        this.memorySpikeSketch = QuantileSketch.fromBytes(rollupEntry.getMemory_spike_sketch());
+        this.cpuFormat = rollupEntry.getCpu_format();
+        this.memoryFormat = rollupEntry.getMemory_format();
+    }
+
+    public static Timestamp getHourlyBucketStart(Timestamp intervalEndTime) {
+        return Timestamp.valueOf(intervalEndTime.toLocalDateTime().truncatedTo(ChronoUnit.HOURS));
+    }
+
+    public static Timestamp getDailyBucketStart(Timestamp intervalEndTime) {
+        return Timestamp.valueOf(intervalEndTime.toLocalDateTime().truncatedTo(ChronoUnit.DAYS));
+    }
+
+    public void add(IntervalResults intervalResults) {
+        if (null == intervalResults.getMetricResultsMap())
+            return;
+        double cpuRequest = RecommendationUtils.getCPURequestForInterval(intervalResults);
+        intervalCount++;
+        podsMax = Math.max(podsMax, RecommendationUtils.getNumPodsForInterval(intervalResults));
+        cpuRequestMax = Math.max(cpuRequestMax, cpuRequest);
+        cpuRequestSketch.add(cpuRequest);
+        memoryUsageSketch.add(RecommendationUtils.getMemoryUsageForInterval(intervalResults));
+        memorySpikeSketch.add(RecommendationUtils.getMemorySpikeForInterval(intervalResults));
+        if (null == cpuFormat || cpuFormat.isEmpty())
+            cpuFormat = RecommendationUtils.getFormat(List.of(intervalResults), AnalyzerConstants.MetricName.cpuUsage);
+        if (null == memoryFormat || memoryFormat.isEmpty())
+            memoryFormat = RecommendationUtils.getFormat(List.of(intervalResults), AnalyzerConstants.MetricName.memoryUsage);
+    }
+
+    public void merge(ResultsRollup other) {
+        intervalCount += other.intervalCount;
+        podsMax = Math.max(podsMax, other.podsMax);
+        cpuRequestMax = Math.max(cpuRequestMax, other.cpuRequestMax);
+        cpuRequestSketch.merge(other.cpuRequestSketch);
+        memoryUsageSketch.merge(other.memoryUsageSketch);
+        memorySpikeSketch.merge(other.memorySpikeSketch);
+        if (null == cpuFormat || cpuFormat.isEmpty())
+            cpuFormat = other.cpuFormat;
+        if (null == memoryFormat || memoryFormat.isEmpty())
+            memoryFormat = other.memoryFormat;
+    }
+
+    public void writeTo(KruizeResultsRollupEntry rollupEntry) {
+        rollupEntry.setInterval_count(intervalCount);
+        rollupEntry.setPods_max(podsMax);
+        rollupEntry.setCpu_request_max(cpuRequestMax);
+        rollupEntry.setCpu_request_sketch(cpuRequestSketch.toBytes());
+        rollupEntry.setMemory_usage_sketch(memoryUsageSketch.toBytes());
+        rollupEntry.setMemory_spike_sketch(memorySpikeSketch.toBytes());
+        rollupEntry.setCpu_format(cpuFormat);
+        rollupEntry.setMemory_format(memoryFormat);
+    }
+
+    public int getIntervalCount() {
+        return intervalCount;
+    }
+
+    /**
+     * @param cpuPercentiles    percentiles of the cpu request to estimate
+     * @param memoryPercentiles percentiles of the memory usage and spike to estimate
+     * @return the summary, null if the rollup has no intervals
+     */
+    public TermResultsSummary toTermResultsSummary(int[] cpuPercentiles, int[] memoryPercentiles) {
+        if (0 == intervalCount)
+            return null;
+        TermResultsSummary termResultsSummary = new TermResultsSummary();
+        termResultsSummary.setIntervalCount(intervalCount);
+        termResultsSummary.setPodsCount(podsMax);
+        termResultsSummary.setCpuRequestMax(cpuRequestMax);
+        for (int percentile : cpuPercentiles) {
+            termResultsSummary.setCpuRequestPercentile(percentile, cpuRequestSketch.percentile(percentile));
+        }
+        for (int percentile : memoryPercentiles) {
+            termResultsSummary.setMemoryUsagePercentile(percentile, memoryUsageSketch.percentile(percentile));
+            termResultsSummary.setMemorySpikePercentile(percentile, memorySpikeSketch.percentile(percentile));
+        }
+        termResultsSummary.setCpuFormat(cpuFormat);
+        termResultsSummary.setMemoryFormat(memoryFormat);
+        return termResultsSummary;
+    }
+}
@@ -52,8 +52,17 @@ public class KruizeHibernateUtil {
             configuration.setProperty("hibernate.hbm2ddl.auto", KruizeDeploymentInfo.settings_hibernate_hbm2ddl_auto);
             configuration.setProperty("hibernate.show_sql", KruizeDeploymentInfo.settings_hibernate_show_sql);
             configuration.setProperty("hibernate.jdbc.time_zone", KruizeDeploymentInfo.settings_hibernate_time_zone);
+            if (KruizeDeploymentInfo.bulk_results_batch_insert) {
+                // group inserts into JDBC batches and let the driver rewrite them as multi-row INSERTs
+                configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(KruizeDeploymentInfo.bulk_results_batch_size));
+                configuration.setProperty("hibernate.order_inserts", "true");
+                configuration.setProperty("hibernate.connection.reWriteBatchedInserts", "true");
+            }
             configuration.addAnnotatedClass(KruizeExperimentEntry.class);
             configuration.addAnnotatedClass(KruizeResultsEntry.class);
+            configuration.addAnnotatedClass(KruizeResultsMetricsEntry.class);
+            configuration.addAnnotatedClass(KruizeResultsHourlyRollupEntry.class);
+            configuration.addAnnotatedClass(KruizeResultsDailyRollupEntry.class);
             configuration.addAnnotatedClass(KruizeRecommendationEntry.class);
             configuration.addAnnotatedClass(KruizePerformanceProfileEntry.class);
             if (KruizeDeploymentInfo.local) {
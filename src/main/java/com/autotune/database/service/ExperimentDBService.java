@@ -20,17 +20,25 @@ import com.autotune.analyzer.experiment.ExperimentInterface;
 import com.autotune.analyzer.experiment.ExperimentInterfaceImpl;
 import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
 import com.autotune.analyzer.performanceProfiles.utils.PerformanceProfileUtil;
 import com.autotune.analyzer.serviceObjects.*;
 import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.workerimpl.RecommendationScheduler;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.dataSourceMetadata.DataSourceMetadataInfo;
+import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.data.result.IntervalResults;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.database.dao.ExperimentDAO;
 import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.helper.DBConstants;
 import com.autotune.database.helper.DBHelpers;
+import com.autotune.database.helper.ExperimentCache;
+import com.autotune.database.helper.RecommendationCache;
+import com.autotune.database.helper.ResultsRollup;
 import com.autotune.database.table.*;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.operator.KruizeOperator;
@@ -39,9 +47,9 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.*;
 
 public class ExperimentDBService {
     private static final long serialVersionUID = 1L;
@@ -52,6 +60,10 @@ public class ExperimentDBService {
         this.experimentDAO = new ExperimentDAOImpl();
     }
 
+    ExperimentDBService(ExperimentDAO experimentDAO) {
+        this.experimentDAO = experimentDAO;
+    }
+
     public void loadAllExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         List<KruizeExperimentEntry> entries = experimentDAO.loadAllExperiments();
@@ -140,37 +152,463 @@ public class ExperimentDBService {
         }
     }
 
+    /**
+     * Results are only ever added, so the number of results of the experiment in the window identifies the data the
+     * recommendations of the window are generated from.
+     *
+     * @return number of results of the experiment with an interval end time in [calculated_start_time, interval_end_time]
+     */
+    public long loadResultsCountFromDBByName(KruizeObject kruizeObject, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        Long resultsCount = experimentDAO.loadResultsCountByExperimentName(kruizeObject.getExperimentName(),
+                kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
+        return null == resultsCount ? 0 : resultsCount;
+    }
+
     public boolean loadResultsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         KruizeObject kruizeObject = mainKruizeExperimentMap.get(experimentName);
         boolean resultsAvailable = false;
+        if (KruizeDeploymentInfo.typed_results_metrics && null != calculated_start_time && null != interval_end_time) {
+            return loadTypedResultsFromDBByName(mainKruizeExperimentMap, kruizeObject, calculated_start_time, interval_end_time);
+        }
         // Load results from the DB and save to local
         List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentName(experimentName, kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
         if (null != kruizeResultsEntries && !kruizeResultsEntries.isEmpty()) {
             resultsAvailable = true;
-            List<UpdateResultsAPIObject> updateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(kruizeResultsEntries);
-            if (null != updateResultsAPIObjects && !updateResultsAPIObjects.isEmpty()) {
-                List<ExperimentResultData> resultDataList = new ArrayList<>();
-                for (UpdateResultsAPIObject updateResultsAPIObject : updateResultsAPIObjects) {
-                    updateResultsAPIObject.setKruizeObject(kruizeObject);
-                    try {
-                        ExperimentResultData experimentResultData = Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(updateResultsAPIObject);
-                        if (experimentResultData != null)
-                            resultDataList.add(experimentResultData);
-                        else
-                            LOGGER.warn("Converted experimentResultData is null");
-                    } catch (IllegalArgumentException e) {
-                        LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
-                    } catch (Exception e) {
-                        LOGGER.error("Unexpected error: {}", e.getMessage());
-                    }
-                }
+            List<ExperimentResultData> resultDataList = convertResultEntriesToExperimentResultData(kruizeResultsEntries, kruizeObject);
+            if (!resultDataList.isEmpty()) {
                 experimentInterface.addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
             }
         }
         return resultsAvailable;
     }
 
+    /**
+     * Loads the results of the window of several experiments of a cluster already in the map with a single query.
+     *
+     * @return names of the experiments having results in the window
+     */
+    public Set<String> loadResultsFromDBByNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames,
+                                                String clusterName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        Set<String> experimentsWithResults = new HashSet<>();
+        List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentNames(experimentNames, clusterName,
+                calculated_start_time, interval_end_time);
+        if (null == kruizeResultsEntries || kruizeResultsEntries.isEmpty())
+            return experimentsWithResults;
+        Map<String, List<KruizeResultsEntry>> entriesByExperiment = new HashMap<>();
+        for (KruizeResultsEntry entry : kruizeResultsEntries) {
+            entriesByExperiment.computeIfAbsent(entry.getExperiment_name(), k -> new ArrayList<>()).add(entry);
+        }
+        for (Map.Entry<String, List<KruizeResultsEntry>> experimentEntries : entriesByExperiment.entrySet()) {
+            KruizeObject kruizeObject = mainKruizeExperimentMap.get(experimentEntries.getKey());
+            if (null == kruizeObject)
+                continue;
+            List<ExperimentResultData> resultDataList = convertResultEntriesToExperimentResultData(experimentEntries.getValue(), kruizeObject);
+            if (!resultDataList.isEmpty()) {
+                experimentInterface.addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
+            }
+            experimentsWithResults.add(experimentEntries.getKey());
+        }
+        return experimentsWithResults;
+    }
+
+    /**
+     * Loads the results from the typed kruize_results_metrics rows. The intervals saved before the typed rows were
+     * written, or whose typed rows failed to save, are loaded from the extended_data of kruize_results instead.
+     */
+    private boolean loadTypedResultsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, KruizeObject kruizeObject,
+                                                 Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        String experimentName = kruizeObject.getExperimentName();
+        List<Object[]> resultsVersionAndTimes = experimentDAO.loadResultsVersionAndTimesByExperimentName(experimentName,
+                kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
+        if (null == resultsVersionAndTimes || resultsVersionAndTimes.isEmpty())
+            return false;
+        Map<Timestamp, List<KruizeResultsMetricsEntry>> resultsMetricsByEndTime = new HashMap<>();
+        for (KruizeResultsMetricsEntry resultsMetricsEntry : experimentDAO.loadResultsMetricsByExperimentName(experimentName, calculated_start_time, interval_end_time)) {
+            resultsMetricsByEndTime.computeIfAbsent(resultsMetricsEntry.getInterval_end_time(), k -> new ArrayList<>()).add(resultsMetricsEntry);
+        }
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        List<Timestamp> missingEndTimes = new ArrayList<>();
+        for (Object[] resultVersionAndTimes : resultsVersionAndTimes) {
+            Timestamp intervalEndTime = (Timestamp) resultVersionAndTimes[2];
+            List<KruizeResultsMetricsEntry> resultsMetricsEntries = resultsMetricsByEndTime.get(intervalEndTime);
+            if (null == resultsMetricsEntries) {
+                missingEndTimes.add(intervalEndTime);
+                continue;
+            }
+            try {
+                resultDataList.add(DBHelpers.Converters.KruizeObjectConverters.convertResultsMetricsEntriesToExperimentResultData(
+                        resultsMetricsEntries, (String) resultVersionAndTimes[0], kruizeObject.getClusterName()));
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
+            }
+        }
+        if (!missingEndTimes.isEmpty()) {
+            LOGGER.debug("Loading {} intervals of {} from extended_data", missingEndTimes.size(), experimentName);
+            List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentNameAndEndTimes(experimentName, missingEndTimes);
+            if (null != kruizeResultsEntries)
+                resultDataList.addAll(convertResultEntriesToExperimentResultData(kruizeResultsEntries, kruizeObject));
+        }
+        if (!resultDataList.isEmpty())
+            new ExperimentInterfaceImpl().addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
+        return true;
+    }
+
+    /**
+     * Loads the results of the window for recommendationpushdown and recommendationrollups: only the latest interval
+     * of each container is loaded with its metrics. The start and end times of all the intervals, which the min data
+     * and duration checks of the terms need, are returned instead of being added to the results. The model
+     * aggregates are then loaded with loadTermResultsSummary or loadTermResultsSummariesFromRollups.
+     *
+     * @param typedResultsRequired whether every interval of the window must have typed rows in kruize_results_metrics
+     * @return the interval start times by end time of each container keyed by getContainerKey, empty if there are no
+     * results, null if some intervals of the window have no typed rows in which case the whole window is to be loaded
+     * with loadResultsFromDBByName
+     */
+    public Map<List<String>, NavigableMap<Timestamp, Timestamp>> loadResultsWindowFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap,
+                                                                                                String experimentName,
+                                                                                                Timestamp calculated_start_time,
+                                                                                                Timestamp interval_end_time,
+                                                                                                boolean typedResultsRequired) throws Exception {
+        KruizeObject kruizeObject = mainKruizeExperimentMap.get(experimentName);
+        Map<List<String>, NavigableMap<Timestamp, Timestamp>> intervalTimesByContainer = new HashMap<>();
+        List<Object[]> resultsVersionAndTimes = experimentDAO.loadResultsVersionAndTimesByExperimentName(experimentName,
+                kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
+        if (null == resultsVersionAndTimes || resultsVersionAndTimes.isEmpty())
+            return intervalTimesByContainer;
+        Map<Timestamp, String> versionsByEndTime = new HashMap<>();
+        for (Object[] resultVersionAndTimes : resultsVersionAndTimes) {
+            versionsByEndTime.put((Timestamp) resultVersionAndTimes[2], (String) resultVersionAndTimes[0]);
+        }
+        List<ExperimentResultData> latestResultDataList;
+        if (typedResultsRequired) {
+            List<Object[]> resultsMetricsIntervalTimes = experimentDAO.loadResultsMetricsIntervalTimesByExperimentName(experimentName,
+                    calculated_start_time, interval_end_time);
+            Set<Timestamp> resultsMetricsEndTimes = new HashSet<>();
+            for (Object[] resultsMetricsIntervalTime : resultsMetricsIntervalTimes) {
+                intervalTimesByContainer.computeIfAbsent(getContainerKey((String) resultsMetricsIntervalTime[0], (String) resultsMetricsIntervalTime[1],
+                                (String) resultsMetricsIntervalTime[2]), k -> new TreeMap<>())
+                        .put((Timestamp) resultsMetricsIntervalTime[4], (Timestamp) resultsMetricsIntervalTime[3]);
+                resultsMetricsEndTimes.add((Timestamp) resultsMetricsIntervalTime[4]);
+            }
+            if (!resultsMetricsEndTimes.containsAll(versionsByEndTime.keySet())) {
+                LOGGER.debug("Typed results metrics of {} do not cover the window, loading all the results", experimentName);
+                return null;
+            }
+            latestResultDataList = loadLatestTypedResults(kruizeObject, versionsByEndTime, intervalTimesByContainer);
+        } else {
+            NavigableMap<Timestamp, Timestamp> intervalTimes = new TreeMap<>();
+            for (Object[] resultVersionAndTimes : resultsVersionAndTimes) {
+                intervalTimes.put((Timestamp) resultVersionAndTimes[2], (Timestamp) resultVersionAndTimes[1]);
+            }
+            latestResultDataList = loadLatestResults(kruizeObject, intervalTimes);
+            // the containers a result is made of are only known from its extended_data, every container is given the
+            // interval times of the experiment
+            for (ExperimentResultData resultData : latestResultDataList) {
+                for (K8sObject k8sObject : resultData.getKubernetes_objects()) {
+                    for (String containerName : k8sObject.getContainerDataMap().keySet()) {
+                        intervalTimesByContainer.put(getContainerKey(k8sObject.getName(), k8sObject.getNamespace(), containerName), intervalTimes);
+                    }
+                }
+            }
+        }
+        if (latestResultDataList.isEmpty())
+            return null;
+        new ExperimentInterfaceImpl().addResultsToLocalStorage(mainKruizeExperimentMap, latestResultDataList);
+        return intervalTimesByContainer;
+    }
+
+    /**
+     * @return key of the container in the maps returned by loadResultsWindowFromDBByName
+     */
+    public static List<String> getContainerKey(String k8sObjectName, String namespace, String containerName) {
+        return Arrays.asList(k8sObjectName, namespace, containerName);
+    }
+
+    /**
+     * Loads the typed rows of the latest interval of each container, with a single query for all the containers.
+     */
+    private List<ExperimentResultData> loadLatestTypedResults(KruizeObject kruizeObject, Map<Timestamp, String> versionsByEndTime,
+                                                              Map<List<String>, NavigableMap<Timestamp, Timestamp>> intervalTimesByContainer) throws Exception {
+        Map<List<String>, Timestamp> latestEndTimes = new HashMap<>();
+        for (Map.Entry<List<String>, NavigableMap<Timestamp, Timestamp>> containerIntervalTimes : intervalTimesByContainer.entrySet()) {
+            latestEndTimes.put(containerIntervalTimes.getKey(), containerIntervalTimes.getValue().lastKey());
+        }
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        if (latestEndTimes.isEmpty())
+            return resultDataList;
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = experimentDAO.loadResultsMetricsByExperimentNameAndEndTimes(
+                kruizeObject.getExperimentName(), new ArrayList<>(new HashSet<>(latestEndTimes.values())));
+        if (null == resultsMetricsEntries)
+            return resultDataList;
+        Map<Timestamp, List<KruizeResultsMetricsEntry>> resultsMetricsByEndTime = new HashMap<>();
+        for (KruizeResultsMetricsEntry resultsMetricsEntry : resultsMetricsEntries) {
+            Timestamp latestEndTime = latestEndTimes.get(getContainerKey(resultsMetricsEntry.getK8s_object_name(),
+                    resultsMetricsEntry.getNamespace(), resultsMetricsEntry.getContainer_name()));
+            // the other containers of the interval have a later one
+            if (resultsMetricsEntry.getInterval_end_time().equals(latestEndTime))
+                resultsMetricsByEndTime.computeIfAbsent(latestEndTime, k -> new ArrayList<>()).add(resultsMetricsEntry);
+        }
+        for (Map.Entry<Timestamp, List<KruizeResultsMetricsEntry>> endTimeResultsMetrics : resultsMetricsByEndTime.entrySet()) {
+            resultDataList.add(DBHelpers.Converters.KruizeObjectConverters.convertResultsMetricsEntriesToExperimentResultData(
+                    endTimeResultsMetrics.getValue(), versionsByEndTime.get(endTimeResultsMetrics.getKey()), kruizeObject.getClusterName()));
+        }
+        return resultDataList;
+    }
+
+    /**
+     * Loads the latest interval of each container of the experiment from kruize_results. The intervals are loaded
+     * from the latest one backwards, in chunks doubling in size, until every container got its latest interval.
+     */
+    private List<ExperimentResultData> loadLatestResults(KruizeObject kruizeObject, NavigableMap<Timestamp, Timestamp> intervalTimes) throws Exception {
+        Set<List<String>> pendingContainers = new HashSet<>();
+        for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
+            if (null == k8sObject.getContainerDataMap())
+                continue;
+            for (String containerName : k8sObject.getContainerDataMap().keySet()) {
+                pendingContainers.add(getContainerKey(k8sObject.getName(), k8sObject.getNamespace(), containerName));
+            }
+        }
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        List<Timestamp> endTimes = new ArrayList<>(intervalTimes.descendingKeySet());
+        for (int from = 0, chunkSize = 1; from < endTimes.size() && !pendingContainers.isEmpty(); from += chunkSize, chunkSize *= 2) {
+            List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentNameAndEndTimes(kruizeObject.getExperimentName(),
+                    endTimes.subList(from, Math.min(from + chunkSize, endTimes.size())));
+            if (null == kruizeResultsEntries)
+                continue;
+            List<ExperimentResultData> chunkResultDataList = convertResultEntriesToExperimentResultData(kruizeResultsEntries, kruizeObject);
+            chunkResultDataList.sort(Comparator.comparing(ExperimentResultData::getIntervalEndTime).reversed());
+            for (ExperimentResultData resultData : chunkResultDataList) {
+                // keeps only the containers without a later interval
+                List<K8sObject> k8sObjects = new ArrayList<>();
+                for (K8sObject k8sObject : resultData.getKubernetes_objects()) {
+                    if (null == k8sObject.getContainerDataMap())
+                        continue;
+                    k8sObject.getContainerDataMap().keySet().removeIf(containerName ->
+                            !pendingContainers.remove(getContainerKey(k8sObject.getName(), k8sObject.getNamespace(), containerName)));
+                    if (!k8sObject.getContainerDataMap().isEmpty())
+                        k8sObjects.add(k8sObject);
+                }
+                if (!k8sObjects.isEmpty()) {
+                    resultData.setKubernetes_objects(k8sObjects);
+                    resultDataList.add(resultData);
+                }
+            }
+        }
+        return resultDataList;
+    }
+
+    /**
+     * Loads the aggregates of a container over a term, computed by the DB from the typed results metrics.
+     *
+     * @return the aggregates, null if there are no results in the term
+     */
+    public TermResultsSummary loadTermResultsSummary(String experimentName, K8sObject k8sObject, String containerName,
+                                                     Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        Object[] termAggregates = experimentDAO.loadTermAggregatesByContainer(experimentName, k8sObject.getName(), k8sObject.getNamespace(),
+                containerName, calculated_start_time, interval_end_time,
+                COST_CPU_PERCENTILE, PERFORMANCE_CPU_PERCENTILE, COST_MEMORY_PERCENTILE, PERFORMANCE_MEMORY_PERCENTILE);
+        if (null == termAggregates || null == termAggregates[0] || 0 == ((Number) termAggregates[0]).intValue())
+            return null;
+        TermResultsSummary termResultsSummary = new TermResultsSummary();
+        termResultsSummary.setIntervalCount(((Number) termAggregates[0]).intValue());
+        termResultsSummary.setPodsCount(((Number) termAggregates[1]).intValue());
+        termResultsSummary.setCpuRequestMax(((Number) termAggregates[2]).doubleValue());
+        termResultsSummary.setCpuRequestPercentile(COST_CPU_PERCENTILE, ((Number) termAggregates[3]).doubleValue());
+        termResultsSummary.setCpuRequestPercentile(PERFORMANCE_CPU_PERCENTILE, ((Number) termAggregates[4]).doubleValue());
+        termResultsSummary.setMemoryUsagePercentile(COST_MEMORY_PERCENTILE, ((Number) termAggregates[5]).doubleValue());
+        termResultsSummary.setMemoryUsagePercentile(PERFORMANCE_MEMORY_PERCENTILE, ((Number) termAggregates[6]).doubleValue());
+        termResultsSummary.setMemorySpikePercentile(COST_MEMORY_PERCENTILE, ((Number) termAggregates[7]).doubleValue());
+        termResultsSummary.setMemorySpikePercentile(PERFORMANCE_MEMORY_PERCENTILE, ((Number) termAggregates[8]).doubleValue());
+        termResultsSummary.setCpuFormat((String) termAggregates[9]);
+        termResultsSummary.setMemoryFormat((String) termAggregates[10]);
+        return termResultsSummary;
+    }
+
+    /**
+     * Builds the aggregates of a container over each of its terms from the rollups. The terms end at the same time,
+     * so they are built from the shortest to the longest term on top of a single sketch holding the results of the
+     * partial last hour, the hourly rollups of the last day and the daily rollups of the full days, to which every
+     * term only adds the hourly rollups and the results of its own partial first day. The percentiles are estimated
+     * from the merged sketches. Only the results of the container are read, from its typed rows when available.
+     * <p>
+     * When the rollups do not account for every interval of a term, e.g. for results saved before the rollups got
+     * enabled, the aggregates of the term are built from all its results instead.
+     *
+     * @param termStartTimes         start time of each term
+     * @param expectedIntervalCounts number of intervals of the container in each term
+     * @return the aggregates of each term having results
+     */
+    public Map<String, TermResultsSummary> loadTermResultsSummariesFromRollups(KruizeObject kruizeObject, K8sObject k8sObject, String containerName,
+                                                                               Timestamp interval_end_time, Map<String, Timestamp> termStartTimes,
+                                                                               Map<String, Integer> expectedIntervalCounts) throws Exception {
+        Map<String, TermResultsSummary> termResultsSummaries = new HashMap<>();
+        if (termStartTimes.isEmpty())
+            return termResultsSummaries;
+        Timestamp lastHour = ResultsRollup.getHourlyBucketStart(interval_end_time);
+        Timestamp lastDay = ResultsRollup.getDailyBucketStart(lastHour);
+        Timestamp firstDayOfAllTerms = getNextDailyBucketStart(getNextHourlyBucketStart(Collections.min(termStartTimes.values())));
+        ResultsRollup sharedRollup = new ResultsRollup();
+        addResultsToRollup(sharedRollup, kruizeObject, k8sObject, containerName, lastHour, interval_end_time);
+        List<KruizeResultsHourlyRollupEntry> lastDayHourlyRollups = loadRollups(KruizeResultsHourlyRollupEntry.class, kruizeObject, k8sObject, containerName, lastDay, lastHour);
+        List<KruizeResultsDailyRollupEntry> dailyRollups = new ArrayList<>(loadRollups(KruizeResultsDailyRollupEntry.class, kruizeObject, k8sObject, containerName, firstDayOfAllTerms, lastDay));
+        dailyRollups.sort(Comparator.comparing(KruizeResultsRollupEntry::getBucket_start).reversed());
+        int mergedDailyRollups = 0;
+        boolean lastDayHourlyRollupsMerged = false;
+
+        List<Map.Entry<String, Timestamp>> terms = new ArrayList<>(termStartTimes.entrySet());
+        terms.sort(Map.Entry.<String, Timestamp>comparingByValue().reversed());
+        for (Map.Entry<String, Timestamp> term : terms) {
+            Timestamp calculated_start_time = term.getValue();
+            Timestamp firstHour = getNextHourlyBucketStart(calculated_start_time);
+            ResultsRollup termRollup;
+            if (!firstHour.before(lastHour)) {
+                termRollup = new ResultsRollup();
+                addResultsToRollup(termRollup, kruizeObject, k8sObject, containerName, calculated_start_time, interval_end_time);
+            } else if (!firstHour.before(lastDay)) {
+                termRollup = new ResultsRollup(sharedRollup);
+                for (KruizeResultsHourlyRollupEntry hourlyRollup : lastDayHourlyRollups) {
+                    if (!hourlyRollup.getBucket_start().before(firstHour))
+                        termRollup.merge(new ResultsRollup(hourlyRollup));
+                }
+            } else {
+                if (!lastDayHourlyRollupsMerged) {
+                    lastDayHourlyRollups.forEach(hourlyRollup -> sharedRollup.merge(new ResultsRollup(hourlyRollup)));
+                    lastDayHourlyRollupsMerged = true;
+                }
+                Timestamp firstDay = getNextDailyBucketStart(firstHour);
+                for (; mergedDailyRollups < dailyRollups.size() && !dailyRollups.get(mergedDailyRollups).getBucket_start().before(firstDay); mergedDailyRollups++) {
+                    sharedRollup.merge(new ResultsRollup(dailyRollups.get(mergedDailyRollups)));
+                }
+                termRollup = new ResultsRollup(sharedRollup);
+                for (KruizeResultsHourlyRollupEntry hourlyRollup : loadRollups(KruizeResultsHourlyRollupEntry.class, kruizeObject, k8sObject, containerName, firstHour, firstDay)) {
+                    termRollup.merge(new ResultsRollup(hourlyRollup));
+                }
+            }
+            if (firstHour.before(lastHour) && calculated_start_time.before(firstHour))
+                addResultsToRollup(termRollup, kruizeObject, k8sObject, containerName, calculated_start_time, new Timestamp(firstHour.getTime() - 1));
+            int expectedIntervalCount = expectedIntervalCounts.getOrDefault(term.getKey(), 0);
+            if (termRollup.getIntervalCount() != expectedIntervalCount) {
+                LOGGER.debug("Rollups of container {} of {} hold {} of the {} intervals of the {} term, loading all the results",
+                        containerName, kruizeObject.getExperimentName(), termRollup.getIntervalCount(), expectedIntervalCount, term.getKey());
+                termRollup = new ResultsRollup();
+                addResultsToRollup(termRollup, kruizeObject, k8sObject, containerName, calculated_start_time, interval_end_time);
+            }
+            TermResultsSummary termResultsSummary = termRollup.toTermResultsSummary(new int[]{COST_CPU_PERCENTILE, PERFORMANCE_CPU_PERCENTILE},
+                    new int[]{COST_MEMORY_PERCENTILE, PERFORMANCE_MEMORY_PERCENTILE});
+            if (null != termResultsSummary)
+                termResultsSummaries.put(term.getKey(), termResultsSummary);
+        }
+        return termResultsSummaries;
+    }
+
+    private Timestamp getNextHourlyBucketStart(Timestamp timestamp) {
+        Timestamp bucketStart = ResultsRollup.getHourlyBucketStart(timestamp);
+        return bucketStart.before(timestamp) ? Timestamp.valueOf(bucketStart.toLocalDateTime().plusHours(1)) : bucketStart;
+    }
+
+    private Timestamp getNextDailyBucketStart(Timestamp timestamp) {
+        Timestamp bucketStart = ResultsRollup.getDailyBucketStart(timestamp);
+        return bucketStart.before(timestamp) ? Timestamp.valueOf(bucketStart.toLocalDateTime().plusDays(1)) : bucketStart;
+    }
+
+    private <T extends KruizeResultsRollupEntry> List<T> loadRollups(Class<T> rollupEntryClass, KruizeObject kruizeObject, K8sObject k8sObject,
+                                                                     String containerName, Timestamp fromBucketStart, Timestamp toBucketStart) throws Exception {
+        if (!fromBucketStart.before(toBucketStart))
+            return Collections.emptyList();
+        List<T> rollupEntries = experimentDAO.loadResultsRollupsByContainer(rollupEntryClass, kruizeObject.getExperimentName(),
+                k8sObject.getName(), k8sObject.getNamespace(), containerName, fromBucketStart, toBucketStart);
+        return null == rollupEntries ? Collections.emptyList() : rollupEntries;
+    }
+
+    /**
+     * Adds the results of the container in the range to the rollup. They are read from the typed rows of the container
+     * when typedresultsmetrics is enabled, only the intervals without typed rows of the container are read from
+     * kruize_results.
+     */
+    private void addResultsToRollup(ResultsRollup rollup, KruizeObject kruizeObject, K8sObject k8sObject, String containerName,
+                                    Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        if (!KruizeDeploymentInfo.typed_results_metrics) {
+            addResultEntriesToRollup(rollup, experimentDAO.loadResultsByExperimentName(kruizeObject.getExperimentName(),
+                    kruizeObject.getClusterName(), calculated_start_time, interval_end_time), kruizeObject, k8sObject, containerName);
+            return;
+        }
+        List<Object[]> resultsVersionAndTimes = experimentDAO.loadResultsVersionAndTimesByExperimentName(kruizeObject.getExperimentName(),
+                kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
+        if (null == resultsVersionAndTimes || resultsVersionAndTimes.isEmpty())
+            return;
+        Map<Timestamp, List<KruizeResultsMetricsEntry>> resultsMetricsByEndTime = new HashMap<>();
+        List<KruizeResultsMetricsEntry> resultsMetricsEntries = experimentDAO.loadResultsMetricsByContainer(kruizeObject.getExperimentName(),
+                k8sObject.getName(), k8sObject.getNamespace(), containerName, calculated_start_time, interval_end_time);
+        if (null != resultsMetricsEntries) {
+            for (KruizeResultsMetricsEntry resultsMetricsEntry : resultsMetricsEntries) {
+                resultsMetricsByEndTime.computeIfAbsent(resultsMetricsEntry.getInterval_end_time(), k -> new ArrayList<>()).add(resultsMetricsEntry);
+            }
+        }
+        List<Timestamp> untypedEndTimes = new ArrayList<>();
+        for (Object[] resultVersionAndTimes : resultsVersionAndTimes) {
+            Timestamp intervalEndTime = (Timestamp) resultVersionAndTimes[2];
+            List<KruizeResultsMetricsEntry> intervalResultsMetrics = resultsMetricsByEndTime.get(intervalEndTime);
+            if (null == intervalResultsMetrics) {
+                untypedEndTimes.add(intervalEndTime);
+                continue;
+            }
+            addResultDataToRollup(rollup, DBHelpers.Converters.KruizeObjectConverters.convertResultsMetricsEntriesToExperimentResultData(
+                    intervalResultsMetrics, (String) resultVersionAndTimes[0], kruizeObject.getClusterName()), k8sObject, containerName);
+        }
+        if (!untypedEndTimes.isEmpty()) {
+            addResultEntriesToRollup(rollup, experimentDAO.loadResultsByExperimentNameAndEndTimes(kruizeObject.getExperimentName(), untypedEndTimes),
+                    kruizeObject, k8sObject, containerName);
+        }
+    }
+
+    private void addResultEntriesToRollup(ResultsRollup rollup, List<KruizeResultsEntry> kruizeResultsEntries, KruizeObject kruizeObject,
+                                          K8sObject k8sObject, String containerName) {
+        if (null == kruizeResultsEntries || kruizeResultsEntries.isEmpty())
+            return;
+        for (ExperimentResultData resultData : convertResultEntriesToExperimentResultData(kruizeResultsEntries, kruizeObject)) {
+            addResultDataToRollup(rollup, resultData, k8sObject, containerName);
+        }
+    }
+
+    private void addResultDataToRollup(ResultsRollup rollup, ExperimentResultData resultData, K8sObject k8sObject, String containerName) {
+        for (K8sObject resultK8sObject : resultData.getKubernetes_objects()) {
+            if (!Objects.equals(resultK8sObject.getName(), k8sObject.getName())
+                    || !Objects.equals(resultK8sObject.getNamespace(), k8sObject.getNamespace())
+                    || null == resultK8sObject.getContainerDataMap())
+                continue;
+            ContainerData containerData = resultK8sObject.getContainerDataMap().get(containerName);
+            if (null == containerData || null == containerData.getResults())
+                continue;
+            IntervalResults intervalResults = containerData.getResults().get(resultData.getIntervalEndTime());
+            if (null != intervalResults)
+                rollup.add(intervalResults);
+        }
+    }
+
+    private List<ExperimentResultData> convertResultEntriesToExperimentResultData(List<KruizeResultsEntry> kruizeResultsEntries, KruizeObject kruizeObject) {
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        List<UpdateResultsAPIObject> updateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(kruizeResultsEntries);
+        if (null != updateResultsAPIObjects && !updateResultsAPIObjects.isEmpty()) {
+            for (UpdateResultsAPIObject updateResultsAPIObject : updateResultsAPIObjects) {
+                updateResultsAPIObject.setKruizeObject(kruizeObject);
+                try {
+                    ExperimentResultData experimentResultData = Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(updateResultsAPIObject);
+                    if (experimentResultData != null)
+                        resultDataList.add(experimentResultData);
+                    else
+                        LOGGER.warn("Converted experimentResultData is null");
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
+                } catch (Exception e) {
+                    LOGGER.error("Unexpected error: {}", e.getMessage());
+                }
+            }
+        }
+        return resultDataList;
+    }
+
     public void loadRecommendationsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         // Load Recommendations from DB and save to local
@@ -197,6 +635,8 @@ public class ExperimentDBService {
         try {
             KruizeExperimentEntry kruizeExperimentEntry = DBHelpers.Converters.KruizeObjectConverters.convertCreateAPIObjToExperimentDBObj(createExperimentAPIObject);
             validationOutputData = this.experimentDAO.addExperimentToDB(kruizeExperimentEntry);
+            ExperimentCache.getInstance().invalidate(createExperimentAPIObject.getExperimentName());
+            RecommendationCache.getInstance().invalidate(createExperimentAPIObject.getExperimentName());
         } catch (Exception e) {
             LOGGER.error("Not able to save experiment due to {}", e.getMessage());
         }
@@ -207,20 +647,78 @@ public class ExperimentDBService {
         List<KruizeResultsEntry> kruizeResultsEntryList = new ArrayList<>();
         List<UpdateResultsAPIObject> failedUpdateResultsAPIObjects = new ArrayList<>();
         List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        Map<KruizeResultsEntry, ExperimentResultData> resultDataByEntry = new IdentityHashMap<>();
+        // the typed metrics are saved along with their result, the results without them are read from the extended_data
+        Map<KruizeResultsEntry, List<KruizeResultsMetricsEntry>> resultsMetricsByEntry = new IdentityHashMap<>();
+        // as are the rollups, so that the rollups never miss a saved result
+        Map<KruizeResultsEntry, List<KruizeResultsRollupEntry>> rollupDeltasByEntry = new IdentityHashMap<>();
         for (ExperimentResultData resultData : resultDataList) {
             KruizeResultsEntry kruizeResultsEntry = DBHelpers.Converters.KruizeObjectConverters.convertExperimentResultToExperimentResultsTable(resultData);
             if (null != kruizeResultsEntry.getErrorReasons() && kruizeResultsEntry.getErrorReasons().size() > 0) {
                 failedResultsEntries.add(kruizeResultsEntry);
             } else {
                 kruizeResultsEntryList.add(kruizeResultsEntry);
+                resultDataByEntry.put(kruizeResultsEntry, resultData);
+                if (KruizeDeploymentInfo.typed_results_metrics) {
+                    List<KruizeResultsMetricsEntry> resultsMetricsEntries = DBHelpers.Converters.KruizeObjectConverters.convertExperimentResultToResultsMetricsEntries(resultData);
+                    if (null != resultsMetricsEntries)
+                        resultsMetricsByEntry.put(kruizeResultsEntry, resultsMetricsEntries);
+                }
+                if (KruizeDeploymentInfo.recommendation_rollups) {
+                    rollupDeltasByEntry.put(kruizeResultsEntry, getResultsRollupDeltas(resultData));
+                }
             }
         }
-        failedResultsEntries.addAll(experimentDAO.addToDBAndFetchFailedResults(kruizeResultsEntryList));
+        List<KruizeResultsEntry> failedDBEntries = experimentDAO.addToDBAndFetchFailedResults(kruizeResultsEntryList, resultsMetricsByEntry,
+                rollupDeltasByEntry);
+        failedResultsEntries.addAll(failedDBEntries);
+        failedDBEntries.forEach(resultDataByEntry::remove);
+        if (KruizeDeploymentInfo.recommendation_scheduler) {
+            RecommendationScheduler.notifyResults(resultDataByEntry.values());
+        }
         failedUpdateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(failedResultsEntries);
         return failedUpdateResultsAPIObjects;
     }
 
 
+    /**
+     * @return the hourly and daily rollup of each container of the result having metrics, to be merged into the rollup
+     * rows when the result is saved
+     */
+    List<KruizeResultsRollupEntry> getResultsRollupDeltas(ExperimentResultData resultData) {
+        List<KruizeResultsRollupEntry> rollupDeltas = new ArrayList<>();
+        Timestamp intervalEndTime = resultData.getIntervalEndTime();
+        for (K8sObject k8sObject : resultData.getKubernetes_objects()) {
+            if (null == k8sObject.getName() || null == k8sObject.getNamespace() || null == k8sObject.getContainerDataMap())
+                continue;
+            for (ContainerData containerData : k8sObject.getContainerDataMap().values()) {
+                if (null == containerData.getContainer_name() || null == containerData.getResults())
+                    continue;
+                IntervalResults intervalResults = containerData.getResults().get(intervalEndTime);
+                if (null == intervalResults || null == intervalResults.getMetricResultsMap())
+                    continue;
+                ResultsRollup rollup = new ResultsRollup();
+                rollup.add(intervalResults);
+                rollupDeltas.add(toRollupEntry(new KruizeResultsHourlyRollupEntry(), resultData, k8sObject, containerData,
+                        ResultsRollup.getHourlyBucketStart(intervalEndTime), rollup));
+                rollupDeltas.add(toRollupEntry(new KruizeResultsDailyRollupEntry(), resultData, k8sObject, containerData,
+                        ResultsRollup.getDailyBucketStart(intervalEndTime), rollup));
+            }
+        }
+        return rollupDeltas;
+    }
+
+    private KruizeResultsRollupEntry toRollupEntry(KruizeResultsRollupEntry rollupEntry, ExperimentResultData resultData, K8sObject k8sObject,
+                                                   ContainerData containerData, Timestamp bucketStart, ResultsRollup rollup) {
+        rollupEntry.setExperiment_name(resultData.getExperiment_name());
+        rollupEntry.setK8s_object_name(k8sObject.getName());
+        rollupEntry.setNamespace(k8sObject.getNamespace());
+        rollupEntry.setContainer_name(containerData.getContainer_name());
+        rollupEntry.setBucket_start(bucketStart);
+        rollup.writeTo(rollupEntry);
+        return rollupEntry;
+    }
+
     public ValidationOutputData addRecommendationToDB(Map<String, KruizeObject> experimentsMap, KruizeObject kruizeObject,
                                                       Timestamp interval_end_time) {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, "", null);
@@ -260,6 +758,30 @@ public class ExperimentDBService {
         return validationOutputData;
     }
 
+    /**
+     * Saves the recommendations of several experiments for the same interval end time with batched upserts.
+     *
+     * @return error messages of the experiments whose recommendations were not saved, by experiment name
+     */
+    public Map<String, String> addRecommendationsToDB(List<KruizeObject> kruizeObjects, Timestamp interval_end_time) {
+        Map<String, String> failedExperiments = new HashMap<>();
+        List<KruizeRecommendationEntry> recommendationEntries = new ArrayList<>();
+        for (KruizeObject kruizeObject : kruizeObjects) {
+            KruizeRecommendationEntry kr = null;
+            if (!kruizeObject.getKubernetes_objects().isEmpty()) {
+                kr = DBHelpers.Converters.KruizeObjectConverters.convertKruizeObjectTORecommendation(kruizeObject, interval_end_time);
+            }
+            if (null == kr) {
+                failedExperiments.put(kruizeObject.getExperimentName(), String.format("Experiment name : %s , Interval end time : %s | ",
+                        kruizeObject.getExperimentName(), interval_end_time));
+            } else {
+                recommendationEntries.add(kr);
+            }
+        }
+        failedExperiments.putAll(experimentDAO.addRecommendationsToDB(recommendationEntries));
+        return failedExperiments;
+    }
+
     public ValidationOutputData addPerformanceProfileToDB(PerformanceProfile performanceProfile) {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
         try {
@@ -288,6 +810,18 @@ public class ExperimentDBService {
 
     public void loadExperimentFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        ExperimentCache experimentCache = ExperimentCache.getInstance();
+        CreateExperimentAPIObject cachedExperiment = experimentCache.get(experimentName);
+        if (null != cachedExperiment) {
+            // every caller gets its own KruizeObject built from the cached experiment
+            KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(cachedExperiment);
+            if (null != kruizeObject) {
+                experimentInterface.addExperimentToLocalStorage(mainKruizeExperimentMap, List.of(kruizeObject));
+                return;
+            }
+            experimentCache.invalidate(experimentName);
+        }
+        long cacheVersion = experimentCache.getVersion();
         List<KruizeExperimentEntry> entries = experimentDAO.loadExperimentByName(experimentName);
         if (null != entries && !entries.isEmpty()) {
             List<CreateExperimentAPIObject> createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries);
@@ -300,6 +834,8 @@ public class ExperimentDBService {
                     KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
                     if (null != kruizeObject) {
                         kruizeExpList.add(kruizeObject);
+                        if (experimentName.equals(createExperimentAPIObject.getExperimentName()))
+                            experimentCache.put(experimentName, createExperimentAPIObject, cacheVersion);
                     } else {
                         failureCount++;
                     }
@@ -312,6 +848,55 @@ public class ExperimentDBService {
         }
     }
 
+    /**
+     * Loads several experiments into the map, the experiments missing from the experiment cache with a single query.
+     * Experiments which do not exist or fail to convert are left out of the map.
+     */
+    public void loadExperimentsFromDBByNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames) throws Exception {
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        ExperimentCache experimentCache = ExperimentCache.getInstance();
+        List<KruizeObject> kruizeExpList = new ArrayList<>();
+        List<String> uncachedExperimentNames = new ArrayList<>();
+        for (String experimentName : experimentNames) {
+            CreateExperimentAPIObject cachedExperiment = experimentCache.get(experimentName);
+            KruizeObject kruizeObject = null;
+            if (null != cachedExperiment) {
+                kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(cachedExperiment);
+                if (null == kruizeObject)
+                    experimentCache.invalidate(experimentName);
+            }
+            if (null != kruizeObject) {
+                kruizeExpList.add(kruizeObject);
+            } else {
+                uncachedExperimentNames.add(experimentName);
+            }
+        }
+        if (!uncachedExperimentNames.isEmpty()) {
+            long cacheVersion = experimentCache.getVersion();
+            List<KruizeExperimentEntry> entries = experimentDAO.loadExperimentsByNames(uncachedExperimentNames);
+            if (null != entries && !entries.isEmpty()) {
+                List<CreateExperimentAPIObject> createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries);
+                for (CreateExperimentAPIObject createExperimentAPIObject : createExperimentAPIObjects) {
+                    KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
+                    if (null != kruizeObject) {
+                        kruizeExpList.add(kruizeObject);
+                        experimentCache.put(createExperimentAPIObject.getExperimentName(), createExperimentAPIObject, cacheVersion);
+                    } else {
+                        LOGGER.error("Experiment {} unable to load from DB.", createExperimentAPIObject.getExperimentName());
+                    }
+                }
+            }
+        }
+        if (!kruizeExpList.isEmpty()) {
+            experimentInterface.addExperimentToLocalStorage(mainKruizeExperimentMap, kruizeExpList);
+        }
+    }
+
+    public List<String> loadExperimentNamesFromDBByClusterAndNamespace(String clusterName, String namespace) throws Exception {
+        List<String> experimentNames = experimentDAO.loadExperimentNamesByClusterAndNamespace(clusterName, namespace);
+        return null == experimentNames ? new ArrayList<>() : experimentNames;
+    }
+
     public void loadExperimentFromDBByInputJSON(Map<String, KruizeObject> mKruizeExperimentMap, StringBuilder clusterName, List<KubernetesAPIObject> kubernetesAPIObjectList) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         // assuming there will be only one Kubernetes object
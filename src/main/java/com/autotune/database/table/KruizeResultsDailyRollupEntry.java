@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.table;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * This is a Java class named KruizeResultsDailyRollupEntry annotated with JPA annotations.
+ * It represents a table named kruize_results_rollup_daily in a relational database, holding the daily rollups
+ * of the results of a container.
+ */
+@Entity
+@Table(name = "kruize_results_rollup_daily")
+public class KruizeResultsDailyRollupEntry extends KruizeResultsRollupEntry {
+}
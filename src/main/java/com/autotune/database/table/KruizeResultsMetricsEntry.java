@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.table;
+
+import jakarta.persistence.*;
+
+import java.sql.Timestamp;
+
+/**
+ * This is a Java class named KruizeResultsMetricsEntry annotated with JPA annotations.
+ * It represents a table named kruize_results_metrics in a relational database, holding one row per
+ * interval, container and metric with the aggregation values as typed columns, next to the jsonb
+ * extended_data of kruize_results. The primary key starts with experiment_name and interval_end_time, which serves
+ * the range scans of an experiment.
+ */
+@Entity
+@Table(name = "kruize_results_metrics")
+public class KruizeResultsMetricsEntry {
+    @Id
+    private String experiment_name;
+    private Timestamp interval_start_time;
+    @Id
+    private Timestamp interval_end_time;
+    @Id
+    private String k8s_object_name;
+    private String k8s_object_type;
+    @Id
+    private String namespace;
+    @Id
+    private String container_name;
+    private String container_image_name;
+    @Id
+    private String metric_name;
+    private Double avg;
+    private Double min;
+    private Double max;
+    private Double sum;
+    private Integer count;
+    private Double median;
+    private Double mode;
+    private Double range;
+    private String format;
+    private Double value;
+
+    public String getExperiment_name() {
+        return experiment_name;
+    }
+
+    public void setExperiment_name(String experiment_name) {
+        this.experiment_name = experiment_name;
+    }
+
+    public Timestamp getInterval_start_time() {
+        return interval_start_time;
+    }
+
+    public void setInterval_start_time(Timestamp interval_start_time) {
+        this.interval_start_time = interval_start_time;
+    }
+
+    public Timestamp getInterval_end_time() {
+        return interval_end_time;
+    }
+
+    public void setInterval_end_time(Timestamp interval_end_time) {
+        this.interval_end_time = interval_end_time;
+    }
+
+    public String getK8s_object_name() {
+        return k8s_object_name;
+    }
+
+    public void setK8s_object_name(String k8s_object_name) {
+        this.k8s_object_name = k8s_object_name;
+    }
+
+    public String getK8s_object_type() {
+        return k8s_object_type;
+    }
+
+    public void setK8s_object_type(String k8s_object_type) {
+        this.k8s_object_type = k8s_object_type;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getContainer_name() {
+        return container_name;
+    }
+
+    public void setContainer_name(String container_name) {
+        this.container_name = container_name;
+    }
+
+    public String getContainer_image_name() {
+        return container_image_name;
+    }
+
+    public void setContainer_image_name(String container_image_name) {
+        this.container_image_name = container_image_name;
+    }
+
+    public String getMetric_name() {
+        return metric_name;
+    }
+
+    public void setMetric_name(String metric_name) {
+        this.metric_name = metric_name;
+    }
+
+    public Double getAvg() {
+        return avg;
+    }
+
+    public void setAvg(Double avg) {
+        this.avg = avg;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public Double getSum() {
+        return sum;
+    }
+
+    public void setSum(Double sum) {
+        this.sum = sum;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
+    public Double getMedian() {
+        return median;
+    }
+
+    public void setMedian(Double median) {
+        this.median = median;
+    }
+
+    public Double getMode() {
+        return mode;
+    }
+
+    public void setMode(Double mode) {
+        this.mode = mode;
+    }
+
+    public Double getRange() {
+        return range;
+    }
+
+    public void setRange(Double range) {
+        this.range = range;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.table;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import java.sql.Timestamp;
+
+/**
+ * Columns shared by the kruize_results_rollup_hourly and kruize_results_rollup_daily tables.
+ * <p>
+ * A row summarizes the intervals of a container whose interval_end_time falls into the bucket starting at
+ * bucket_start, with the values the recommendation models derive from each interval: the max and sketches of the
+ * cpu request, memory usage and memory spike, and the max number of pods. Rows are merged in the transaction of the results they are made of.
+ */
+@MappedSuperclass
+public abstract class KruizeResultsRollupEntry {
+    @Id
+    private String experiment_name;
+    @Id
+    private String k8s_object_name;
+    @Id
+    private String namespace;
+    @Id
+    private String container_name;
+    @Id
+    private Timestamp bucket_start;
+    private int interval_count;
+    private int pods_max;
+    private double cpu_request_max;
+    private byte[] cpu_request_sketch;
+    private byte[] memory_usage_sketch;
+    private byte[] memory_spike_sketch;
+    private String cpu_format;
+    private String memory_format;
+
+    public String getExperiment_name() {
+        return experiment_name;
+    }
+
+    public void setExperiment_name(String experiment_name) {
+        this.experiment_name = experiment_name;
+    }
+
+    public String getK8s_object_name() {
+        return k8s_object_name;
+    }
+
+    public void setK8s_object_name(String k8s_object_name) {
+        this.k8s_object_name = k8s_object_name;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getContainer_name() {
+        return container_name;
+    }
+
+    public void setContainer_name(String container_name) {
+        this.container_name = container_name;
+    }
+
+    public Timestamp getBucket_start() {
+        return bucket_start;
+    }
+
+    public void setBucket_start(Timestamp bucket_start) {
+        this.bucket_start = bucket_start;
+    }
+
+    public int getInterval_count() {
+        return interval_count;
+    }
+
+    public void setInterval_count(int interval_count) {
+        this.interval_count = interval_count;
+    }
+
+    public int getPods_max() {
+        return pods_max;
+    }
+
+    public void setPods_max(int pods_max) {
+        this.pods_max = pods_max;
+    }
+
+    public double getCpu_request_max() {
+        return cpu_request_max;
+    }
+
+    public void setCpu_request_max(double cpu_request_max) {
+        this.cpu_request_max = cpu_request_max;
+    }
+
+    public byte[] getCpu_request_sketch() {
+        return cpu_request_sketch;
+    }
+
+    public void setCpu_request_sketch(byte[] cpu_request_sketch) {
+        this.cpu_request_sketch = cpu_request_sketch;
+    }
+
+    public byte[] getMemory_usage_sketch() {
+        return memory_usage_sketch;
+    }
+
+    public void setMemory_usage_sketch(byte[] memory_usage_sketch) {
+        this.memory_usage_sketch = memory_usage_sketch;
+    }
+
+    public byte[] getMemory_spike_sketch() {
+        return memory_spike_sketch;
+    }
+
+    public void setMemory_spike_sketch(byte[] memory_spike_sketch) {
+        this.memory_spike_sketch = memory_spike_sketch;
+    }
+
+    public String getCpu_format() {
+        return cpu_format;
+    }
+
+    public void setCpu_format(String cpu_format) {
+        this.cpu_format = cpu_format;
+    }
+
+    public String getMemory_format() {
+        return memory_format;
+    }
+
+    public void setMemory_format(String memory_format) {
+        this.memory_format = memory_format;
+    }
+}
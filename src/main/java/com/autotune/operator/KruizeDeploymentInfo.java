@@ -31,7 +31,7 @@ import java.time.Clock;
 import java.util.Hashtable;
 
 import static com.autotune.analyzer.utils.AnalyzerConstants.AutotuneConfigConstants.*;
-import static com.autotune.utils.KruizeConstants.KRUIZE_CONFIG_DEFAULT_VALUE.DELETE_PARTITION_THRESHOLD_IN_DAYS;
+import static com.autotune.utils.KruizeConstants.KRUIZE_CONFIG_DEFAULT_VALUE.*;
 
 /**
  * Contains information about the current deployment by parsing the autotune config map
@@ -76,6 +76,28 @@ public class KruizeDeploymentInfo {
     public static Boolean settings_save_to_db;
     public static String em_only_mode;
     public static Integer bulk_update_results_limit = 100;
+    public static Boolean bulk_results_batch_insert = false;
+    public static Integer bulk_results_batch_size = BULK_RESULTS_BATCH_SIZE;
+    public static Integer experiment_cache_size = 0;
+    public static Integer experiment_cache_ttl_in_minutes = EXPERIMENT_CACHE_TTL_IN_MINUTES;
+    public static Boolean async_update_results = false;
+    public static Integer async_update_results_queue_size = ASYNC_UPDATE_RESULTS_QUEUE_SIZE;
+    public static Integer async_update_results_workers = ASYNC_UPDATE_RESULTS_WORKERS;
+    public static Boolean typed_results_metrics = false;
+    public static Boolean recommendation_push_down = false;
+    public static Boolean recommendation_rollups = false;
+    public static Integer recommendation_parallelism = RECOMMENDATION_PARALLELISM;
+    public static Integer recommendation_cache_size = 0;
+    public static Boolean recommendation_scheduler = false;
+    public static Integer recommendation_scheduler_workers = RECOMMENDATION_SCHEDULER_WORKERS;
+    public static Integer recommendation_scheduler_delay_in_seconds = RECOMMENDATION_SCHEDULER_DELAY_IN_SECONDS;
+    public static Integer bulk_recommendations_workers = BULK_RECOMMENDATIONS_WORKERS;
+    public static Integer http_client_max_connections = HTTP_CLIENT_MAX_CONNECTIONS;
+    public static Integer http_client_connect_timeout_in_seconds = HTTP_CLIENT_CONNECT_TIMEOUT_IN_SECONDS;
+    public static Integer http_client_socket_timeout_in_seconds = HTTP_CLIENT_SOCKET_TIMEOUT_IN_SECONDS;
+    public static Integer datasource_query_parallelism = DATASOURCE_QUERY_PARALLELISM;
+    public static Integer range_query_cache_size_in_mb = 0;
+    public static Integer range_query_cache_ttl_in_minutes = RANGE_QUERY_CACHE_TTL_IN_MINUTES;
     public static Boolean local = false;
     public static Boolean logAllHttpReqAndResp = false;
 
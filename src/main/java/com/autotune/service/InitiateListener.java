@@ -17,6 +17,10 @@ package com.autotune.service;
 
 import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
 import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.workerimpl.RecommendationScheduler;
+import com.autotune.analyzer.workerimpl.UpdateRecommendationsBulkJobs;
+import com.autotune.analyzer.workerimpl.UpdateResultsWriteBehind;
+import com.autotune.common.datasource.DataSourceQueryExecutors;
 import com.autotune.common.parallelengine.executor.KruizeExecutor;
 import com.autotune.common.parallelengine.queue.KruizeQueue;
 import com.autotune.common.trials.ExperimentTrial;
@@ -25,7 +29,9 @@ import com.autotune.experimentManager.data.ExperimentDetailsMap;
 import com.autotune.experimentManager.utils.EMConstants;
 import com.autotune.experimentManager.utils.EMConstants.ParallelEngineConfigs;
 import com.autotune.experimentManager.workerimpl.IterationManager;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.operator.KruizeOperator;
+import com.autotune.utils.PooledHttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -156,10 +162,28 @@ public class InitiateListener implements ServletContextListener {
             LOGGER.error("Failed to load performance profile: {} ", e.getMessage());
         }
         sce.getServletContext().setAttribute(AnalyzerConstants.PerformanceProfileConstants.PERF_PROFILE_MAP, performanceProfilesMap);
+
+        /*
+          Kruize asynchronous update results configuration
+         */
+        if (KruizeDeploymentInfo.async_update_results) {
+            UpdateResultsWriteBehind.start();
+        }
+
+        /*
+          Kruize background recommendation scheduler configuration
+         */
+        if (KruizeDeploymentInfo.recommendation_scheduler) {
+            RecommendationScheduler.start();
+        }
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
-
+        RecommendationScheduler.stop();
+        UpdateRecommendationsBulkJobs.stop();
+        UpdateResultsWriteBehind.stop();
+        DataSourceQueryExecutors.stop();
+        PooledHttpClients.closeAll();
     }
 }
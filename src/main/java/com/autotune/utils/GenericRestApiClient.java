@@ -25,20 +25,18 @@ import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import javax.net.ssl.SSLContext;
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
@@ -64,18 +62,11 @@ public class GenericRestApiClient {
      * @param baseURL
      */
     public GenericRestApiClient(String baseURL) {
-        String tokenFilePath = "/var/run/secrets/kubernetes.io/serviceaccount/token";
-        String token = null;
-        try {
-            // Read the token from the file
-            BufferedReader reader = new BufferedReader(new FileReader(tokenFilePath));
-            token = reader.readLine();
-            reader.close();
+        // the token is cached and read again when the token file is rotated
+        String token = ServiceAccountToken.getToken();
+        if (null != token) {
             this.bearerAccessToken = new BearerAccessToken(token);
             this.setAuthHeaderString(this.bearerAccessToken.getAuthHeader());
-            // Print the service account token
-        } catch (Exception e) {
-            LOGGER.error("Error reading service account token: " + e.getMessage());
         }
 
         this.baseURL = baseURL;
@@ -140,45 +131,99 @@ public class GenericRestApiClient {
      * @throws IOException
      */
     public JSONObject fetchMetricsJson(String methodType, String queryString) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
-        java.lang.System.setProperty("https.protocols", "TLSv1.2");
         String jsonOutputInString = "";
-        SSLContext sslContext = SSLContexts.custom().loadTrustMaterial((chain, authType) -> true).build();  //overriding the standard certificate verification process and trust all certificate chains regardless of their validity
-        SSLConnectionSocketFactory sslConnectionSocketFactory =
-                new SSLConnectionSocketFactory(sslContext, new String[]
-                        {"TLSv1.2" }, null,
-                        NoopHostnameVerifier.INSTANCE);
-        try (CloseableHttpClient httpclient = HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build()) {
-            HttpRequestBase httpRequestBase = null;
-            if (methodType.equalsIgnoreCase("GET")) {
-                httpRequestBase = new HttpGet(this.baseURL
-                        + URLEncoder.encode(queryString, StandardCharsets.UTF_8)
-                );
-            }
-            // Checks if auth string is null and then checks if it's not empty
-            if (null != this.authHeaderString && !this.authHeaderString.isEmpty()) {
-                httpRequestBase.setHeader("Authorization", this.authHeaderString);
-            }
-            LOGGER.debug("Executing request " + httpRequestBase.getRequestLine());
-            jsonOutputInString = httpclient.execute(httpRequestBase, new StringResponseHandler());
+        // the client is shared by the requests to the same datasource, it is not closed here
+        CloseableHttpClient httpclient = PooledHttpClients.getClient(this.baseURL);
+        HttpRequestBase httpRequestBase = getRequest(methodType, queryString);
+        // the response entity is consumed by execute, which releases the connection back to the pool
+        jsonOutputInString = httpclient.execute(httpRequestBase, new StringResponseHandler());
+        return new JSONObject(jsonOutputInString);
+    }
+
+    /**
+     * Same request as fetchMetricsJson, the response body is decoded by the reader as it is received instead of
+     * being loaded into a String and a JSONObject first.
+     * @param methodType    Http methods like GET,POST,PATCH etc
+     * @param queryString
+     * @param responseReader decodes the response body
+     * @return the value returned by the reader
+     * @throws IOException
+     */
+    public <T> T fetchMetrics(String methodType, String queryString, ResponseReader<T> responseReader) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        CloseableHttpClient httpclient = PooledHttpClients.getClient(this.baseURL);
+        HttpRequestBase httpRequestBase = getRequest(methodType, queryString);
+        return httpclient.execute(httpRequestBase, new StreamResponseHandler<>(responseReader));
+    }
 
+    private HttpRequestBase getRequest(String methodType, String queryString) {
+        HttpRequestBase httpRequestBase = null;
+        if (methodType.equalsIgnoreCase("GET")) {
+            httpRequestBase = new HttpGet(this.baseURL
+                    + URLEncoder.encode(queryString, StandardCharsets.UTF_8)
+            );
+        }
+        // Checks if auth string is null and then checks if it's not empty
+        if (null != this.authHeaderString && !this.authHeaderString.isEmpty()) {
+            httpRequestBase.setHeader("Authorization", this.authHeaderString);
+        }
+        LOGGER.debug("Executing request " + httpRequestBase.getRequestLine());
+        return httpRequestBase;
+    }
+
+    public interface ResponseReader<T> {
+        T read(Reader reader) throws IOException;
+    }
+
+    private static boolean isSuccess(HttpResponse response) {
+        int status = response.getStatusLine().getStatusCode();
+        return status >= 200 && status < 300;
+    }
+
+    private static void checkStatus(HttpResponse response) throws ClientProtocolException {
+        if (!isSuccess(response)) {
+            throw new ClientProtocolException("Unexpected response status: " + response.getStatusLine().getStatusCode());
         }
-        return new JSONObject(jsonOutputInString);
     }
 
     private static class StringResponseHandler implements ResponseHandler<String> {
         @Override
         public String handleResponse(HttpResponse response) throws IOException {
-            int status = response.getStatusLine().getStatusCode();
-            if (status >= 200 && status < 300) {
-                HttpEntity entity = response.getEntity();
-                return entity != null ? EntityUtils.toString(entity) : null;
-            } else {
-                throw new ClientProtocolException("Unexpected response status: " + status);
-            }
+            checkStatus(response);
+            HttpEntity entity = response.getEntity();
+            return entity != null ? EntityUtils.toString(entity) : null;
         }
-
-
     }
 
+    /**
+     * Hands the response body to the reader. Error responses with a JSON body, as Prometheus sends with 400, 422 or
+     * 503, are read too so that the reader reports the error they carry.
+     */
+    static class StreamResponseHandler<T> implements ResponseHandler<T> {
+        private final ResponseReader<T> responseReader;
+
+        StreamResponseHandler(ResponseReader<T> responseReader) {
+            this.responseReader = responseReader;
+        }
 
+        @Override
+        public T handleResponse(HttpResponse response) throws IOException {
+            HttpEntity entity = response.getEntity();
+            ContentType contentType = null == entity ? null : ContentType.get(entity);
+            boolean jsonContent = null != contentType && ContentType.APPLICATION_JSON.getMimeType().equalsIgnoreCase(contentType.getMimeType());
+            if (!jsonContent)
+                checkStatus(response);
+            if (null == entity)
+                throw new ClientProtocolException("Response has no content");
+            Charset charset = StandardCharsets.UTF_8;
+            if (null != contentType && null != contentType.getCharset())
+                charset = contentType.getCharset();
+            T value;
+            try (Reader reader = new BufferedReader(new InputStreamReader(entity.getContent(), charset))) {
+                value = responseReader.read(reader);
+            }
+            // the reader did not fail on the body of an error response
+            checkStatus(response);
+            return value;
+        }
+    }
 }
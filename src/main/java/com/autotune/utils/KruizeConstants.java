@@ -586,6 +586,28 @@ public class KruizeConstants {
         public static final String AUTOTUNE_MODE = "autotunemode";
         public static final String EM_ONLY_MODE = "emonly";
         public static final String BULK_UPDATE_RESULTS_LIMIT = "bulkresultslimit";
+        public static final String BULK_RESULTS_BATCH_INSERT = "bulkresultsbatchinsert";
+        public static final String BULK_RESULTS_BATCH_SIZE = "bulkresultsbatchsize";
+        public static final String EXPERIMENT_CACHE_SIZE = "experimentcachesize";
+        public static final String EXPERIMENT_CACHE_TTL_IN_MINUTES = "experimentcachettl";
+        public static final String ASYNC_UPDATE_RESULTS = "asyncupdateresults";
+        public static final String ASYNC_UPDATE_RESULTS_QUEUE_SIZE = "asyncupdateresultsqueuesize";
+        public static final String ASYNC_UPDATE_RESULTS_WORKERS = "asyncupdateresultsworkers";
+        public static final String TYPED_RESULTS_METRICS = "typedresultsmetrics";
+        public static final String RECOMMENDATION_PUSH_DOWN = "recommendationpushdown";
+        public static final String RECOMMENDATION_ROLLUPS = "recommendationrollups";
+        public static final String RECOMMENDATION_PARALLELISM = "recommendationparallelism";
+        public static final String RECOMMENDATION_CACHE_SIZE = "recommendationcachesize";
+        public static final String RECOMMENDATION_SCHEDULER = "recommendationscheduler";
+        public static final String RECOMMENDATION_SCHEDULER_WORKERS = "recommendationschedulerworkers";
+        public static final String RECOMMENDATION_SCHEDULER_DELAY_IN_SECONDS = "recommendationschedulerdelay";
+        public static final String BULK_RECOMMENDATIONS_WORKERS = "bulkrecommendationsworkers";
+        public static final String HTTP_CLIENT_MAX_CONNECTIONS = "httpclientmaxconnections";
+        public static final String HTTP_CLIENT_CONNECT_TIMEOUT_IN_SECONDS = "httpclientconnecttimeout";
+        public static final String HTTP_CLIENT_SOCKET_TIMEOUT_IN_SECONDS = "httpclientsockettimeout";
+        public static final String DATASOURCE_QUERY_PARALLELISM = "datasourcequeryparallelism";
+        public static final String RANGE_QUERY_CACHE_SIZE_IN_MB = "rangequerycachesize";
+        public static final String RANGE_QUERY_CACHE_TTL_IN_MINUTES = "rangequerycachettl";
         public static final String DELETE_PARTITION_THRESHOLD_IN_DAYS = "deletepartitionsthreshold";
         public static final String SETTINGS_SAVE_TO_DB = "savetodb";
         public static final String SETTINGS_DB_DRIVER = "dbdriver";
@@ -662,5 +684,18 @@ public class KruizeConstants {
 
     public static final class KRUIZE_CONFIG_DEFAULT_VALUE {
         public static final int DELETE_PARTITION_THRESHOLD_IN_DAYS = 16;
+        public static final int BULK_RESULTS_BATCH_SIZE = 50;
+        public static final int EXPERIMENT_CACHE_TTL_IN_MINUTES = 15;
+        public static final int ASYNC_UPDATE_RESULTS_QUEUE_SIZE = 100;
+        public static final int ASYNC_UPDATE_RESULTS_WORKERS = 2;
+        public static final int RECOMMENDATION_PARALLELISM = 1;
+        public static final int RECOMMENDATION_SCHEDULER_WORKERS = 2;
+        public static final int RECOMMENDATION_SCHEDULER_DELAY_IN_SECONDS = 60;
+        public static final int BULK_RECOMMENDATIONS_WORKERS = 4;
+        public static final int HTTP_CLIENT_MAX_CONNECTIONS = 20;
+        public static final int HTTP_CLIENT_CONNECT_TIMEOUT_IN_SECONDS = 10;
+        public static final int HTTP_CLIENT_SOCKET_TIMEOUT_IN_SECONDS = 120;
+        public static final int DATASOURCE_QUERY_PARALLELISM = 1;
+        public static final int RANGE_QUERY_CACHE_TTL_IN_MINUTES = 60;
     }
 }
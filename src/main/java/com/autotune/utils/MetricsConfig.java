@@ -17,13 +17,17 @@ public class MetricsConfig {
     public static Timer timerListRec, timerListExp, timerCreateExp, timerUpdateResults, timerUpdateRecomendations;
     public static Timer timerLoadRecExpName, timerLoadResultsExpName, timerLoadExpName, timerLoadRecExpNameDate;
     public static Timer timerLoadAllRec, timerLoadAllExp, timerLoadAllResults;
-    public static Timer timerAddRecDB , timerAddResultsDB , timerAddExpDB, timerAddBulkResultsDB;
+    public static Timer timerAddRecDB , timerAddResultsDB , timerAddExpDB, timerAddBulkResultsDB, timerAddBulkRecDB;
     public static Timer timerAddPerfProfileDB , timerLoadPerfProfileName , timerLoadAllPerfProfiles;
+    public static Timer timerLoadResultsMetricsExpName, timerLoadTermAggregates;
+    public static Timer timerLoadResultsRollups;
     public static Timer.Builder timerBListRec, timerBListExp, timerBCreateExp, timerBUpdateResults, timerBUpdateRecommendations ;
     public static Timer.Builder timerBLoadRecExpName, timerBLoadResultsExpName, timerBLoadExpName, timerBLoadRecExpNameDate;
     public static Timer.Builder timerBLoadAllRec, timerBLoadAllExp, timerBLoadAllResults;
-    public static Timer.Builder timerBAddRecDB, timerBAddResultsDB , timerBAddExpDB, timerBAddBulkResultsDB;
+    public static Timer.Builder timerBAddRecDB, timerBAddResultsDB , timerBAddExpDB, timerBAddBulkResultsDB, timerBAddBulkRecDB;
     public static Timer.Builder timerBAddPerfProfileDB, timerBLoadPerfProfileName, timerBLoadAllPerfProfiles;
+    public static Timer.Builder timerBLoadResultsMetricsExpName, timerBLoadTermAggregates;
+    public static Timer.Builder timerBLoadResultsRollups;
     public String API_METRIC_DESC = "Time taken for Kruize APIs";
     public String DB_METRIC_DESC = "Time taken for KruizeDB methods";
     public static PrometheusMeterRegistry meterRegistry;
@@ -49,12 +53,16 @@ public class MetricsConfig {
         timerBLoadAllExp = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadAllExperiments");
         timerBLoadAllResults = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadAllResults");
         timerBAddRecDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addRecommendationToDB");
+        timerBAddBulkRecDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addBulkRecommendationsToDB");
         timerBAddResultsDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addResultToDB");
         timerBAddBulkResultsDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addBulkResultsToDBAndFetchFailedResults");
         timerBAddExpDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addExperimentToDB");
         timerBAddPerfProfileDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","addPerformanceProfileToDB");
         timerBLoadPerfProfileName = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadPerformanceProfileByName");
         timerBLoadAllPerfProfiles = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadAllPerformanceProfiles");
+        timerBLoadResultsMetricsExpName = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadResultsMetricsByExperimentName");
+        timerBLoadTermAggregates = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadTermAggregatesByContainer");
+        timerBLoadResultsRollups = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method","loadResultsRollupsByContainer");
 
         timerBListDS = Timer.builder("kruizeAPI").description(API_METRIC_DESC).tag("api","listDataSources").tag("method","GET");
         timerBImportDSMetadata = Timer.builder("kruizeAPI").description(API_METRIC_DESC).tag("api","importDataSourceMetadata").tag("method","POST");
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.utils;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.URI;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP clients shared by all the GenericRestApiClients of a datasource, keyed by the scheme, host and port of their
+ * base URL, so that the queries of a datasource reuse its kept alive connections and TLS sessions.
+ * <p>
+ * Each client pools up to httpclientmaxconnections connections. Connections idle for IDLE_CONNECTION_TIMEOUT_IN_SECONDS
+ * are closed, and the ones idle for more than VALIDATE_AFTER_INACTIVITY_IN_MILLIS are checked before being reused.
+ */
+public final class PooledHttpClients {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledHttpClients.class);
+    private static final long IDLE_CONNECTION_TIMEOUT_IN_SECONDS = 30;
+    private static final int VALIDATE_AFTER_INACTIVITY_IN_MILLIS = 2000;
+    private static final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+    private static SSLConnectionSocketFactory sslConnectionSocketFactory;
+
+    private PooledHttpClients() {
+    }
+
+    /**
+     * @param baseURL URL of the datasource, only its scheme, host and port are used
+     * @return the shared client of the datasource, created on first use
+     */
+    public static CloseableHttpClient getClient(String baseURL) throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        String key = getKey(baseURL);
+        CloseableHttpClient client = clients.get(key);
+        if (null != client)
+            return client;
+        SSLConnectionSocketFactory socketFactory = getSSLConnectionSocketFactory();
+        return clients.computeIfAbsent(key, k -> {
+            LOGGER.debug("Created the HTTP client of {}", k);
+            return createClient(socketFactory);
+        });
+    }
+
+    public static void closeAll() {
+        for (String key : clients.keySet()) {
+            CloseableHttpClient client = clients.remove(key);
+            if (null == client)
+                continue;
+            try {
+                client.close();
+            } catch (IOException e) {
+                LOGGER.error("Failed to close the HTTP client of {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private static String getKey(String baseURL) {
+        try {
+            URI uri = URI.create(baseURL);
+            if (null != uri.getScheme() && null != uri.getRawAuthority())
+                return uri.getScheme().toLowerCase() + "://" + uri.getRawAuthority().toLowerCase();
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Invalid URL {}: {}", baseURL, e.getMessage());
+        }
+        return baseURL;
+    }
+
+    private static synchronized SSLConnectionSocketFactory getSSLConnectionSocketFactory() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        if (null == sslConnectionSocketFactory) {
+            java.lang.System.setProperty("https.protocols", "TLSv1.2");
+            SSLContext sslContext = SSLContexts.custom().loadTrustMaterial((chain, authType) -> true).build();  //overriding the standard certificate verification process and trust all certificate chains regardless of their validity
+            sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext, new String[]
+                    {"TLSv1.2"}, null,
+                    NoopHostnameVerifier.INSTANCE);
+        }
+        return sslConnectionSocketFactory;
+    }
+
+    private static CloseableHttpClient createClient(SSLConnectionSocketFactory sslConnectionSocketFactory) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslConnectionSocketFactory)
+                .build();
+        int maxConnections = Math.max(1, KruizeDeploymentInfo.http_client_max_connections);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_IN_MILLIS);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(KruizeDeploymentInfo.http_client_connect_timeout_in_seconds * 1000)
+                .setConnectionRequestTimeout(KruizeDeploymentInfo.http_client_connect_timeout_in_seconds * 1000)
+                .setSocketTimeout(KruizeDeploymentInfo.http_client_socket_timeout_in_seconds * 1000)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+}
@@ -38,7 +38,9 @@ public class ServerContext {
     public static final String EXPERIMENTS_SUMMARY = ROOT_CONTEXT + "experimentsSummary";
     public static final String CREATE_EXPERIMENT = ROOT_CONTEXT + "createExperiment";
     public static final String UPDATE_RESULTS = ROOT_CONTEXT + "updateResults";
+    public static final String UPDATE_RESULTS_STATUS = ROOT_CONTEXT + "updateResultsStatus";
     public static final String UPDATE_RECOMMENDATIONS = ROOT_CONTEXT + "updateRecommendations";
+    public static final String UPDATE_RECOMMENDATIONS_BULK = ROOT_CONTEXT + "updateRecommendationsBulk";
     public static final String GENERATE_RECOMMENDATIONS = ROOT_CONTEXT + "generateRecommendations";
     public static final String RECOMMEND_RESULTS = ROOT_CONTEXT + "listRecommendations";
     public static final String CREATE_PERF_PROFILE = ROOT_CONTEXT + "createPerformanceProfile";
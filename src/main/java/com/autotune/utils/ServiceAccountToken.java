@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Service account token of the pod, read once and read again when the token file is rotated.
+ * <p>
+ * The modification time of the file is checked at most every TOKEN_CHECK_INTERVAL_IN_MILLIS, the kubelet replaces
+ * projected tokens well before they expire, so a rotated token is picked up within that interval.
+ */
+public final class ServiceAccountToken {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServiceAccountToken.class);
+    private static final long TOKEN_CHECK_INTERVAL_IN_MILLIS = 10 * 1000L;
+    private static final Path TOKEN_PATH = Paths.get(KruizeConstants.AUTH_MOUNT_PATH + "token");
+
+    private static String token;
+    private static FileTime tokenModifiedTime;
+    private static long lastCheckMillis;
+
+    private ServiceAccountToken() {
+    }
+
+    /**
+     * @return the token, null if the token file cannot be read
+     */
+    public static synchronized String getToken() {
+        long now = System.currentTimeMillis();
+        if (null != token && now - lastCheckMillis < TOKEN_CHECK_INTERVAL_IN_MILLIS)
+            return token;
+        lastCheckMillis = now;
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(TOKEN_PATH);
+            if (null == token || !modifiedTime.equals(tokenModifiedTime)) {
+                token = new String(Files.readAllBytes(TOKEN_PATH), StandardCharsets.UTF_8).trim();
+                tokenModifiedTime = modifiedTime;
+                LOGGER.debug("Read the service account token modified at {}", modifiedTime);
+            }
+        } catch (IOException e) {
+            if (null == token)
+                LOGGER.error("Error reading service account token: " + e.getMessage());
+        }
+        return token;
+    }
+}
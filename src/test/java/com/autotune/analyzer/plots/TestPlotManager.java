@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.plots;
+
+import com.autotune.analyzer.recommendations.term.Terms;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
+import com.autotune.common.data.result.IntervalResults;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPlotManager {
+
+    private static IntervalResults getIntervalResults(Timestamp end, double cpuUsageSum) {
+        MetricAggregationInfoResults aggregationInfoResults = new MetricAggregationInfoResults();
+        aggregationInfoResults.setSum(cpuUsageSum);
+        MetricResults metricResults = new MetricResults();
+        metricResults.setAggregationInfoResult(aggregationInfoResults);
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuUsage, metricResults);
+        IntervalResults intervalResults = new IntervalResults(new Timestamp(end.getTime() - 15 * 60000L), end);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        return intervalResults;
+    }
+
+    @Test
+    public void testDatapointsShareTheirBoundaries() {
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        TreeMap<Timestamp, IntervalResults> results = new TreeMap<>();
+        // 6 hours of 15 minutes intervals with the usage 1 to 24, then one more past the last datapoint
+        for (int i = 1; i <= 25; i++) {
+            Timestamp end = new Timestamp(start.getTime() + i * 15 * 60000L);
+            results.put(end, getIntervalResults(end, i));
+        }
+        // 4 datapoints of 1.5 hours
+        Terms term = new Terms("short_term", 1, 0.25, 4, 0.0625);
+        PlotData.PlotsData plotsData = new PlotManager(results, term, start, results.lastKey()).generatePlots();
+
+        assertEquals(4, plotsData.datapoints);
+        assertEquals(4, plotsData.plotsData.size());
+        PlotData.PlotPoint first = plotsData.plotsData.get(Timestamp.valueOf("2024-01-01 01:30:00"));
+        assertEquals(1.0, first.cpuUsage.min);
+        assertEquals(6.0, first.cpuUsage.max);
+        assertNull(first.memoryUsage);
+        // the interval ending at 01:30 is also in the second datapoint
+        PlotData.PlotPoint second = plotsData.plotsData.get(Timestamp.valueOf("2024-01-01 03:00:00"));
+        assertEquals(6.0, second.cpuUsage.min);
+        assertEquals(9.0, second.cpuUsage.median);
+        assertEquals(12.0, second.cpuUsage.max);
+        PlotData.PlotPoint last = plotsData.plotsData.get(Timestamp.valueOf("2024-01-01 06:00:00"));
+        assertEquals(18.0, last.cpuUsage.min);
+        assertEquals(24.0, last.cpuUsage.max);
+    }
+}
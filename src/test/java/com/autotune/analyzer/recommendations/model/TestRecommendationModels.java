@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.recommendations.model;
+
+import com.autotune.analyzer.recommendations.RecommendationConfigItem;
+import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.objects.TermResultsView;
+import com.autotune.common.utils.Percentiles;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRecommendationModels {
+
+    @Test
+    public void testTermModelsDiscovered() {
+        List<TermRecommendationModel> termModels = RecommendationModels.getTermModels();
+        assertEquals(1, termModels.size());
+        assertEquals("median", termModels.get(0).getModelName());
+        assertSame(termModels, RecommendationModels.getTermModels());
+        assertEquals(2, RecommendationModels.getModels().size());
+    }
+
+    public static class MedianRecommendationModel implements TermRecommendationModel {
+
+        @Override
+        public RecommendationConfigItem getCPURequestRecommendation(TermResultsView termResultsView, ArrayList<RecommendationNotification> notifications) {
+            return new RecommendationConfigItem(Percentiles.percentile(termResultsView.copyCpuRequests(), 50),
+                    termResultsView.getCpuFormat());
+        }
+
+        @Override
+        public RecommendationConfigItem getMemoryRequestRecommendation(TermResultsView termResultsView, ArrayList<RecommendationNotification> notifications) {
+            return new RecommendationConfigItem(Percentiles.percentile(termResultsView.copyMemorySpikes(), 50),
+                    termResultsView.getMemoryFormat());
+        }
+
+        @Override
+        public String getModelName() {
+            return "median";
+        }
+    }
+
+    // named like the built in cost model, never registered
+    public static class DuplicateRecommendationModel extends MedianRecommendationModel {
+
+        @Override
+        public String getModelName() {
+            return "Cost";
+        }
+    }
+}
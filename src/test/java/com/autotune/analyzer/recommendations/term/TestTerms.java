@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.recommendations.term;
+
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.IntervalResults;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTerms {
+
+    @Test
+    public void testTimestampWithinTolerance() {
+        Timestamp current = Timestamp.valueOf("2024-01-01 12:00:00");
+        TreeSet<Timestamp> timestamps = new TreeSet<>();
+        assertNull(Terms.getTimestampWithinTolerance(current, timestamps, 30000));
+        timestamps.add(Timestamp.valueOf("2024-01-01 11:59:20"));
+        assertNull(Terms.getTimestampWithinTolerance(current, timestamps, 30000));
+        timestamps.add(Timestamp.valueOf("2024-01-01 12:00:25"));
+        assertEquals(-25.0, Terms.getTimestampWithinTolerance(current, timestamps, 30000).doubleValue());
+        timestamps.add(Timestamp.valueOf("2024-01-01 11:59:50"));
+        assertEquals(10.0, Terms.getTimestampWithinTolerance(current, timestamps, 30000).doubleValue());
+        timestamps.add(current);
+        assertEquals(0.0, Terms.getTimestampWithinTolerance(current, timestamps, 30000).doubleValue());
+    }
+
+    @Test
+    public void testMinDataAvailableForTerm() {
+        Timestamp end = Timestamp.valueOf("2024-01-02 00:00:00");
+        HashMap<Timestamp, IntervalResults> results = new HashMap<>();
+        // one day of 15 minutes intervals, each a few seconds late
+        for (int i = 0; i < 96; i++) {
+            Timestamp intervalEndTime = new Timestamp(end.getTime() - i * 15 * 60000L + 5000);
+            results.put(intervalEndTime, new IntervalResults(new Timestamp(intervalEndTime.getTime() - 15 * 60000L), intervalEndTime));
+        }
+        ContainerData containerData = new ContainerData("tfb-server-1", "kruize/tfb-qrh:1.13.2.F_et17", null, new HashMap<>());
+        containerData.setResults(results);
+
+        assertTrue(Terms.checkIfMinDataAvailableForTerm(containerData, new Terms("short_term", 1, 0.25, 4, 0.25), end, 15));
+        assertFalse(Terms.checkIfMinDataAvailableForTerm(containerData, new Terms("medium_term", 7, 2, 7, 1), end, 15));
+        assertFalse(Terms.checkIfMinDataAvailableForTerm(new ContainerData(), new Terms("short_term", 1, 0.25, 4, 0.25), end, 15));
+    }
+}
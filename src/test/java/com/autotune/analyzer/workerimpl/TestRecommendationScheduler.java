@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.workerimpl;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRecommendationScheduler {
+    private static final long DELAY = 60 * 1000L;
+    private static final Timestamp T1 = Timestamp.valueOf("2024-01-01 00:15:00");
+    private static final Timestamp T2 = Timestamp.valueOf("2024-01-01 00:30:00");
+
+    private final AtomicLong now = new AtomicLong(1000);
+    private final RecommendationScheduler scheduler = new RecommendationScheduler(DELAY, now::get);
+
+    @Test
+    public void testResultsAreCoalesced() {
+        scheduler.schedule("exp-1", T2);
+        now.addAndGet(1000);
+        scheduler.schedule("exp-1", T1);
+        scheduler.schedule("exp-1", null);
+        assertNull(scheduler.poll());
+
+        // due the delay after the first result, not the last one
+        now.addAndGet(DELAY - 1000);
+        RecommendationScheduler.PendingExperiment pendingExperiment = scheduler.poll();
+        assertNotNull(pendingExperiment);
+        assertEquals("exp-1", pendingExperiment.getExperimentName());
+        assertEquals(T2, pendingExperiment.getIntervalEndTime());
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testDebounceDelay() {
+        scheduler.schedule("exp-1", T1);
+        now.addAndGet(DELAY - 1);
+        assertNull(scheduler.poll());
+        now.addAndGet(1);
+        assertEquals("exp-1", scheduler.poll().getExperimentName());
+    }
+
+    @Test
+    public void testOldestFirst() {
+        scheduler.schedule("exp-2", T1);
+        now.addAndGet(10);
+        scheduler.schedule("exp-1", T1);
+        now.addAndGet(10);
+        scheduler.schedule("exp-3", T1);
+        // new results of a queued experiment do not move it back
+        scheduler.schedule("exp-2", T2);
+        now.addAndGet(DELAY);
+        assertEquals("exp-2", scheduler.poll().getExperimentName());
+        assertEquals("exp-1", scheduler.poll().getExperimentName());
+        assertEquals("exp-3", scheduler.poll().getExperimentName());
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testRequeuedWhenResultsArriveWhileRunning() {
+        scheduler.schedule("exp-1", T1);
+        now.addAndGet(DELAY);
+        RecommendationScheduler.PendingExperiment running = scheduler.poll();
+        assertEquals(T1, running.getIntervalEndTime());
+
+        // not queued while running, so that no two workers generate it at the same time
+        scheduler.schedule("exp-1", T2);
+        now.addAndGet(DELAY);
+        assertNull(scheduler.poll());
+
+        scheduler.complete("exp-1");
+        RecommendationScheduler.PendingExperiment requeued = scheduler.poll();
+        assertNotNull(requeued);
+        assertEquals("exp-1", requeued.getExperimentName());
+        assertEquals(T2, requeued.getIntervalEndTime());
+        scheduler.complete("exp-1");
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testTakeWaitsForTheDelay() throws Exception {
+        RecommendationScheduler realTimeScheduler = new RecommendationScheduler(200, System::currentTimeMillis);
+        long start = System.currentTimeMillis();
+        realTimeScheduler.schedule("exp-1", T1);
+        assertEquals("exp-1", realTimeScheduler.take().getExperimentName());
+        assertTrue(System.currentTimeMillis() - start >= 200);
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.serviceObjects.UpdateRecommendationsJobStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestUpdateRecommendationsBulkJobs {
+    private static final String INTERVAL_END_TIME = "2024-01-01T00:15:00.000Z";
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    private UpdateRecommendationsBulkJobs bulkJobs;
+
+    @AfterEach
+    public void shutdown() {
+        if (null != bulkJobs)
+            bulkJobs.shutdown();
+    }
+
+    private static List<String> getExperimentNames(int count) {
+        List<String> experimentNames = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            experimentNames.add("exp-" + i);
+        }
+        return experimentNames;
+    }
+
+    private static UpdateRecommendationsJobStatus waitForStatus(UpdateRecommendationsBulkJobs bulkJobs, String jobId,
+                                                                AnalyzerConstants.ResultsBatchStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        UpdateRecommendationsJobStatus jobStatus = bulkJobs.getStatus(jobId);
+        while (status != jobStatus.getStatus() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            jobStatus = bulkJobs.getStatus(jobId);
+        }
+        assertEquals(status, jobStatus.getStatus());
+        return jobStatus;
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        bulkJobs = new UpdateRecommendationsBulkJobs((experimentNames, intervalEndTimeStr, intervalEndTime) -> {
+            batches.add(new ArrayList<>(experimentNames));
+            return List.of();
+        });
+        int count = 2 * UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH + 10;
+        List<String> experimentNames = getExperimentNames(count);
+        // duplicated names are generated once
+        experimentNames.add("exp-0");
+        UpdateRecommendationsJobStatus jobStatus = bulkJobs.submit(experimentNames, null, null, INTERVAL_END_TIME);
+        jobStatus = waitForStatus(bulkJobs, jobStatus.getJobId(), AnalyzerConstants.ResultsBatchStatus.COMPLETED);
+        assertEquals(count, jobStatus.getTotalExperiments());
+        assertEquals(count, jobStatus.getProcessedExperiments());
+        assertEquals(3, batches.size());
+        assertEquals(UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH, batches.get(0).size());
+        assertEquals(10, batches.get(2).size());
+        assertEquals("exp-" + UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH, batches.get(1).get(0));
+    }
+
+    @Test
+    public void testPartialFailures() throws Exception {
+        bulkJobs = new UpdateRecommendationsBulkJobs((experimentNames, intervalEndTimeStr, intervalEndTime) -> {
+            if (experimentNames.contains("exp-" + UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH))
+                throw new IllegalStateException("database unavailable");
+            return List.of(new UpdateRecommendationsJobStatus.FailedExperiment(experimentNames.get(1), "no results"));
+        });
+        UpdateRecommendationsJobStatus jobStatus = bulkJobs.submit(getExperimentNames(3), null, null, INTERVAL_END_TIME);
+        jobStatus = waitForStatus(bulkJobs, jobStatus.getJobId(), AnalyzerConstants.ResultsBatchStatus.FAILED);
+        assertEquals(3, jobStatus.getProcessedExperiments());
+        assertEquals(1, jobStatus.getFailedExperiments());
+        assertEquals("exp-1", jobStatus.getData().get(0).getExperimentName());
+        assertEquals("no results", jobStatus.getData().get(0).getMessage());
+
+        // a failing batch fails the job, the failures of the batches before it are kept
+        jobStatus = bulkJobs.submit(getExperimentNames(UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH + 1), null, null, INTERVAL_END_TIME);
+        jobStatus = waitForStatus(bulkJobs, jobStatus.getJobId(), AnalyzerConstants.ResultsBatchStatus.FAILED);
+        assertEquals(UpdateRecommendationsBulkJobs.EXPERIMENTS_PER_BATCH, jobStatus.getProcessedExperiments());
+        assertEquals(1, jobStatus.getFailedExperiments());
+        assertEquals("database unavailable", jobStatus.getMessage());
+    }
+
+    @Test
+    public void testStatusLifecycle() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bulkJobs = new UpdateRecommendationsBulkJobs((experimentNames, intervalEndTimeStr, intervalEndTime) -> {
+            batchStarted.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return List.of();
+        });
+        assertNull(bulkJobs.getStatus("unknown"));
+        UpdateRecommendationsJobStatus running = bulkJobs.submit(getExperimentNames(2), null, null, INTERVAL_END_TIME);
+        assertTrue(batchStarted.await(10, TimeUnit.SECONDS));
+        assertEquals(AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS, bulkJobs.getStatus(running.getJobId()).getStatus());
+        assertEquals(0, bulkJobs.getStatus(running.getJobId()).getProcessedExperiments());
+
+        // the jobs run one at a time, the next ones stay queued until the queue is full
+        List<UpdateRecommendationsJobStatus> queued = new ArrayList<>();
+        for (int i = 0; i < UpdateRecommendationsBulkJobs.MAX_QUEUED_JOBS; i++) {
+            UpdateRecommendationsJobStatus jobStatus = bulkJobs.submit(getExperimentNames(1), null, null, INTERVAL_END_TIME);
+            assertNotNull(jobStatus);
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.QUEUED, bulkJobs.getStatus(jobStatus.getJobId()).getStatus());
+            queued.add(jobStatus);
+        }
+        assertNull(bulkJobs.submit(getExperimentNames(1), null, null, INTERVAL_END_TIME));
+
+        release.countDown();
+        UpdateRecommendationsJobStatus completed = waitForStatus(bulkJobs, running.getJobId(), AnalyzerConstants.ResultsBatchStatus.COMPLETED);
+        assertEquals(2, completed.getProcessedExperiments());
+        for (UpdateRecommendationsJobStatus jobStatus : queued) {
+            waitForStatus(bulkJobs, jobStatus.getJobId(), AnalyzerConstants.ResultsBatchStatus.COMPLETED);
+        }
+    }
+}
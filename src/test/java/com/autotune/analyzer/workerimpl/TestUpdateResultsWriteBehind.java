@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.serviceObjects.UpdateResultsAPIObject;
+import com.autotune.analyzer.serviceObjects.UpdateResultsBatchStatus;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.result.ExperimentResultData;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestUpdateResultsWriteBehind {
+    private static final Timestamp END = Timestamp.valueOf("2024-01-01 00:15:00");
+
+    @Test
+    public void batchMovesFromQueuedToCompleted() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UpdateResultsWriteBehind writeBehind = new UpdateResultsWriteBehind(5, 1, resultDataList -> {
+            writing.countDown();
+            release.await();
+            return Collections.emptyList();
+        });
+        try {
+            UpdateResultsBatchStatus queued = writeBehind.submit(results("exp-1"));
+            assertNotNull(queued);
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.QUEUED, queued.getStatus());
+
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS, writeBehind.getStatus(queued.getBatchId()).getStatus());
+
+            release.countDown();
+            UpdateResultsBatchStatus completed = awaitDone(writeBehind, queued.getBatchId());
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.COMPLETED, completed.getStatus());
+            assertEquals(1, completed.getTotalResults());
+        } finally {
+            release.countDown();
+            writeBehind.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void failedResultsAreReportedOnTheirBatch() throws Exception {
+        UpdateResultsWriteBehind writeBehind = new UpdateResultsWriteBehind(5, 1, resultDataList -> {
+            List<UpdateResultsAPIObject> failed = new ArrayList<>();
+            for (ExperimentResultData resultData : resultDataList) {
+                if (resultData.getExperiment_name().equals("exp-bad"))
+                    failed.add(failedObject(resultData.getExperiment_name()));
+            }
+            return failed;
+        });
+        try {
+            UpdateResultsBatchStatus good = writeBehind.submit(results("exp-good"));
+            UpdateResultsBatchStatus bad = writeBehind.submit(results("exp-bad"));
+
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.COMPLETED, awaitDone(writeBehind, good.getBatchId()).getStatus());
+            UpdateResultsBatchStatus badStatus = awaitDone(writeBehind, bad.getBatchId());
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.FAILED, badStatus.getStatus());
+            assertEquals(1, badStatus.getFailedResults());
+            assertEquals("exp-bad", badStatus.getData().get(0).getExperimentName());
+        } finally {
+            writeBehind.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void writerExceptionFailsTheBatch() throws Exception {
+        UpdateResultsWriteBehind writeBehind = new UpdateResultsWriteBehind(5, 1, resultDataList -> {
+            throw new Exception("DB down");
+        });
+        try {
+            UpdateResultsBatchStatus queued = writeBehind.submit(results("exp-1"));
+            UpdateResultsBatchStatus failed = awaitDone(writeBehind, queued.getBatchId());
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.FAILED, failed.getStatus());
+            assertEquals("DB down", failed.getMessage());
+        } finally {
+            writeBehind.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void fullQueueRejectsTheBatch() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UpdateResultsWriteBehind writeBehind = new UpdateResultsWriteBehind(1, 1, resultDataList -> {
+            writing.countDown();
+            release.await();
+            return Collections.emptyList();
+        });
+        try {
+            // the first batch is held by the flusher, the second one fills the queue
+            assertNotNull(writeBehind.submit(results("exp-1")));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+            assertNotNull(writeBehind.submit(results("exp-2")));
+
+            // updateResults answers 429 on a full queue or a rejected batch
+            assertTrue(writeBehind.isFull());
+            assertNull(writeBehind.submit(results("exp-3")));
+        } finally {
+            release.countDown();
+            writeBehind.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shutdownSavesTheQueuedBatches() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> saved = Collections.synchronizedList(new ArrayList<>());
+        UpdateResultsWriteBehind writeBehind = new UpdateResultsWriteBehind(10, 1, resultDataList -> {
+            release.await();
+            for (ExperimentResultData resultData : resultDataList)
+                saved.add(resultData.getExperiment_name());
+            return Collections.emptyList();
+        });
+        List<String> batchIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            batchIds.add(writeBehind.submit(results("exp-" + i)).getBatchId());
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        writeBehind.shutdown(10, TimeUnit.SECONDS);
+        releaser.join();
+
+        assertEquals(5, saved.size());
+        for (String batchId : batchIds)
+            assertEquals(AnalyzerConstants.ResultsBatchStatus.COMPLETED, writeBehind.getStatus(batchId).getStatus());
+        // no batch is accepted once stopping
+        assertNull(writeBehind.submit(results("exp-late")));
+    }
+
+    private static UpdateResultsBatchStatus awaitDone(UpdateResultsWriteBehind writeBehind, String batchId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        UpdateResultsBatchStatus batchStatus = writeBehind.getStatus(batchId);
+        while (System.currentTimeMillis() < deadline
+                && (batchStatus.getStatus() == AnalyzerConstants.ResultsBatchStatus.QUEUED
+                || batchStatus.getStatus() == AnalyzerConstants.ResultsBatchStatus.IN_PROGRESS)) {
+            Thread.sleep(10);
+            batchStatus = writeBehind.getStatus(batchId);
+        }
+        return batchStatus;
+    }
+
+    private static List<ExperimentResultData> results(String experimentName) {
+        ExperimentResultData resultData = new ExperimentResultData();
+        resultData.setExperiment_name(experimentName);
+        resultData.setIntervalEndTime(END);
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        resultDataList.add(resultData);
+        return resultDataList;
+    }
+
+    private static UpdateResultsAPIObject failedObject(String experimentName) {
+        UpdateResultsAPIObject failedObj = new UpdateResultsAPIObject();
+        failedObj.setExperimentName(experimentName);
+        failedObj.setEndTimestamp(END);
+        return failedObj;
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.data.result;
+
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.objects.TermResultsView;
+import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
+import com.autotune.common.utils.CommonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestContainerResultsSeries {
+
+    private static IntervalResults getIntervalResults(Timestamp end, double cpuUsageMax, double memoryUsageMax) {
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        MetricAggregationInfoResults cpuUsage = new MetricAggregationInfoResults();
+        cpuUsage.setAvg(cpuUsageMax / 2);
+        cpuUsage.setMax(cpuUsageMax);
+        cpuUsage.setSum(cpuUsageMax);
+        cpuUsage.setFormat("cores");
+        MetricResults cpuUsageResults = new MetricResults();
+        cpuUsageResults.setAggregationInfoResult(cpuUsage);
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuUsage, cpuUsageResults);
+        MetricAggregationInfoResults memoryUsage = new MetricAggregationInfoResults();
+        memoryUsage.setMax(memoryUsageMax);
+        memoryUsage.setFormat("MiB");
+        MetricResults memoryUsageResults = new MetricResults();
+        memoryUsageResults.setAggregationInfoResult(memoryUsage);
+        metricResultsMap.put(AnalyzerConstants.MetricName.memoryUsage, memoryUsageResults);
+        IntervalResults intervalResults = new IntervalResults(new Timestamp(end.getTime() - 15 * 60 * 1000), end);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        return intervalResults;
+    }
+
+    @Test
+    public void testTermSummaryMatchesResultsMap() {
+        HashMap<Timestamp, IntervalResults> results = new HashMap<>();
+        List<Double> cpuRequests = new ArrayList<>();
+        long start = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+        for (int i = 1; i <= 10; i++) {
+            Timestamp end = new Timestamp(start + i * 15 * 60 * 1000L);
+            IntervalResults intervalResults = getIntervalResults(end, 0.1 * ((i * 7) % 10 + 1), 100 + i);
+            results.put(end, intervalResults);
+            if (i > 2) {
+                cpuRequests.add(RecommendationUtils.getCPURequestForInterval(intervalResults));
+            }
+        }
+        ContainerResultsSeries series = ContainerResultsSeries.fromResults(results);
+        assertEquals(10, series.size());
+        int fromIndex = series.fromIndex(new Timestamp(start + 3 * 15 * 60 * 1000L));
+        int toIndex = series.toIndex(new Timestamp(start + 10 * 15 * 60 * 1000L));
+        assertEquals(2, fromIndex);
+        assertEquals(10, toIndex);
+        assertTrue(series.isMissing(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.avg, 0));
+        assertFalse(series.isMissing(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.max, 0));
+
+        TermResultsSummary termResultsSummary = RecommendationUtils.getTermResultsSummary(series, fromIndex, toIndex, new int[]{60}, new int[]{100});
+        assertNotNull(termResultsSummary);
+        assertEquals(8, termResultsSummary.getIntervalCount());
+        assertEquals(CommonUtils.percentile(60, cpuRequests), termResultsSummary.getCpuRequestPercentile(60));
+        assertEquals(110.0, termResultsSummary.getMemoryUsagePercentile(100).doubleValue());
+        assertEquals("cores", termResultsSummary.getCpuFormat());
+        assertNull(RecommendationUtils.getTermResultsSummary(series, 5, 5, new int[]{60}, new int[]{100}));
+
+        TermResultsView termResultsView = RecommendationUtils.getTermResultsView(series, fromIndex, toIndex);
+        assertNotNull(termResultsView);
+        assertEquals(8, termResultsView.size());
+        assertEquals(start + 3 * 15 * 60 * 1000L, termResultsView.getIntervalEndTime(0));
+        assertEquals(cpuRequests.get(0).doubleValue(), termResultsView.getCpuRequest(0));
+        assertEquals(103.0, termResultsView.get(AnalyzerConstants.MetricName.memoryUsage, ContainerResultsSeries.Aggregation.max, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> termResultsView.getCpuRequest(8));
+    }
+
+    @Test
+    public void testContainerDataCachesInvalidated() {
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+        HashMap<Timestamp, IntervalResults> results = new HashMap<>();
+        IntervalResults placeholder = new IntervalResults(new Timestamp(end.getTime() - 15 * 60 * 1000), end);
+        placeholder.setMetricResultsMap(new HashMap<>());
+        results.put(end, placeholder);
+        ContainerData containerData = new ContainerData("tfb-server-1", null, null, new HashMap<>());
+        containerData.setResults(results);
+        assertFalse(containerData.getResultsSeries().isMetricsAvailable(0));
+        assertSame(placeholder, containerData.getResultsIndex().get(end));
+
+        // same number of intervals, replaced in place
+        IntervalResults intervalResults = getIntervalResults(end, 0.5, 100);
+        results.put(end, intervalResults);
+        containerData.invalidateResultsCaches();
+        assertTrue(containerData.getResultsSeries().isMetricsAvailable(0));
+        assertEquals(0.5, containerData.getResultsSeries().get(AnalyzerConstants.MetricName.cpuUsage, ContainerResultsSeries.Aggregation.max, 0));
+        assertSame(intervalResults, containerData.getResultsIndex().get(end));
+
+        HashMap<Timestamp, IntervalResults> newResults = new HashMap<>();
+        containerData.setResults(newResults);
+        assertEquals(0, containerData.getResultsSeries().size());
+        assertTrue(containerData.getResultsIndex().isEmpty());
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDataSourceQueryExecutors {
+    private static final String DATASOURCE = "prometheus-test";
+
+    @AfterEach
+    public void reset() {
+        KruizeDeploymentInfo.datasource_query_parallelism = KruizeConstants.KRUIZE_CONFIG_DEFAULT_VALUE.DATASOURCE_QUERY_PARALLELISM;
+        DataSourceQueryExecutors.stop();
+    }
+
+    @Test
+    public void testConcurrentMergeMatchesSequential() throws Exception {
+        int count = 4;
+        Thread caller = Thread.currentThread();
+        // the first query completes only once the results of the others have been merged
+        CountDownLatch othersMerged = new CountDownLatch(count - 1);
+        List<Callable<Map<Integer, Integer>>> queries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            queries.add(() -> {
+                if (0 == index)
+                    assertTrue(othersMerged.await(10, TimeUnit.SECONDS));
+                return Map.of(index, index * 10);
+            });
+        }
+        List<Integer> completionOrder = new ArrayList<>();
+        Map<Integer, Integer> merged = new TreeMap<>();
+        KruizeDeploymentInfo.datasource_query_parallelism = count;
+        DataSourceQueryExecutors.invokeAll(DATASOURCE, queries, result -> {
+            // the consumer runs on the calling thread, it needs no synchronization
+            assertSame(caller, Thread.currentThread());
+            completionOrder.addAll(result.keySet());
+            merged.putAll(result);
+            if (!result.containsKey(0))
+                othersMerged.countDown();
+        });
+        assertEquals(count, completionOrder.size());
+        assertEquals(Integer.valueOf(0), completionOrder.get(count - 1));
+
+        Map<Integer, Integer> sequential = new TreeMap<>();
+        KruizeDeploymentInfo.datasource_query_parallelism = 1;
+        DataSourceQueryExecutors.invokeAll(DATASOURCE, queries, sequential::putAll);
+        assertEquals(sequential, merged);
+    }
+
+    @Test
+    public void testSequentialAtParallelismOne() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Integer> order = new ArrayList<>();
+        List<Callable<Integer>> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            queries.add(() -> {
+                assertSame(caller, Thread.currentThread());
+                return index;
+            });
+        }
+        KruizeDeploymentInfo.datasource_query_parallelism = 1;
+        DataSourceQueryExecutors.invokeAll(DATASOURCE, queries, order::add);
+        assertEquals(List.of(0, 1, 2), order);
+    }
+
+    @Test
+    public void testFirstFailureCancelsTheOtherQueries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<Callable<Integer>> queries = List.of(
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    } finally {
+                        cancelled.countDown();
+                    }
+                    return 0;
+                },
+                () -> {
+                    assertTrue(started.await(10, TimeUnit.SECONDS));
+                    throw new IllegalStateException("query failed");
+                });
+        KruizeDeploymentInfo.datasource_query_parallelism = 2;
+        List<Integer> results = new ArrayList<>();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> DataSourceQueryExecutors.invokeAll(DATASOURCE, queries, results::add));
+        assertEquals("query failed", e.getMessage());
+        assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+        assertTrue(results.isEmpty());
+    }
+}
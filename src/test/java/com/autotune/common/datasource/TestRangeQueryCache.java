@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource;
+
+import com.autotune.common.datasource.prometheus.PrometheusRangeResponseParser.Series;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRangeQueryCache {
+    private static final long STEP = 900;
+
+    private final List<long[]> fetchedWindows = new ArrayList<>();
+
+    // one sample per step of the window, valued with its time
+    private Map<String, Series> fetch(long start, long end) {
+        fetchedWindows.add(new long[]{start, end});
+        Series series = new Series();
+        for (long time = start; time <= end; time += STEP) {
+            series.add(time, time);
+        }
+        Map<String, Series> seriesMap = new HashMap<>();
+        seriesMap.put("app", series);
+        return seriesMap;
+    }
+
+    @BeforeEach
+    public void enable() {
+        KruizeDeploymentInfo.range_query_cache_size_in_mb = 1;
+        RangeQueryCache.getInstance().clear();
+    }
+
+    @AfterEach
+    public void disable() {
+        KruizeDeploymentInfo.range_query_cache_size_in_mb = 0;
+        RangeQueryCache.getInstance().clear();
+    }
+
+    @Test
+    public void testOnlyMissingStepsFetched() throws Exception {
+        RangeQueryCache cache = RangeQueryCache.getInstance();
+        Map<String, Series> seriesMap = cache.fetch("prometheus-1", "sum by(container) (x)", 100, 9000, STEP, this::fetch);
+        assertArrayEquals(new long[]{900, 9000}, fetchedWindows.get(0));
+        assertEquals(10, seriesMap.get("app").size());
+
+        // same query with its whitespace changed over a later window
+        seriesMap = cache.fetch("prometheus-1", "sum  by(container)\n(x)", 1800, 10800, STEP, this::fetch);
+        assertEquals(2, fetchedWindows.size());
+        assertArrayEquals(new long[]{9900, 10800}, fetchedWindows.get(1));
+        Series series = seriesMap.get("app");
+        assertEquals(11, series.size());
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(1800 + i * STEP, series.getTimeInSeconds(i));
+        }
+
+        seriesMap = cache.fetch("prometheus-1", "sum by(container) (x)", 2700, 9900, STEP, this::fetch);
+        assertEquals(2, fetchedWindows.size());
+        assertEquals(9, seriesMap.get("app").size());
+
+        // an earlier window is fetched again in full
+        cache.fetch("prometheus-1", "sum by(container) (x)", 0, 9000, STEP, this::fetch);
+        assertArrayEquals(new long[]{0, 9000}, fetchedWindows.get(2));
+    }
+}
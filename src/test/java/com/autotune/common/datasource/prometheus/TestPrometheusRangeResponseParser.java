@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource.prometheus;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPrometheusRangeResponseParser {
+
+    @Test
+    public void testSeriesByLabel() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{\"container\":\"app\",\"namespace\":\"default\"},\"values\":[[1700000000,\"0.5\"],[1700000900.000,\"1.25\"]]},"
+                + "{\"metric\":{\"namespace\":\"default\"},\"values\":[[1700000000,\"3\"]]},"
+                + "{\"metric\":{\"container\":\"db\",\"namespace\":\"default\"},\"values\":[[1700000000,\"NaN\"]]}"
+                + "]},\"warnings\":[\"partial\"]}";
+        Map<String, PrometheusRangeResponseParser.Series> seriesMap = new PrometheusRangeResponseParser("container")
+                .read(new StringReader(response));
+        assertEquals(2, seriesMap.size());
+        PrometheusRangeResponseParser.Series app = seriesMap.get("app");
+        assertEquals(2, app.size());
+        assertEquals(1700000900L, app.getTimeInSeconds(1));
+        assertEquals(1.25, app.getValue(1));
+        assertTrue(Double.isNaN(seriesMap.get("db").getValue(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> app.getValue(2));
+    }
+
+    @Test
+    public void testErrorResponse() {
+        String response = "{\"status\":\"error\",\"errorType\":\"bad_data\",\"error\":\"parse error\"}";
+        IOException e = assertThrows(IOException.class,
+                () -> new PrometheusRangeResponseParser("container").read(new StringReader(response)));
+        assertTrue(e.getMessage().contains("parse error"));
+    }
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPercentiles {
+
+    @Test
+    public void testSameRankAsSortedValues() {
+        Random random = new Random(42);
+        for (int size : new int[]{1, 2, 3, 10, 97, 1000}) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                // few distinct values so that the selections see duplicates
+                values[i] = random.nextInt(size / 2 + 1) * 0.25;
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (int percentile : new int[]{0, 25, 50, 60, 75, 90, 98, 100}) {
+                double expected = sorted[Percentiles.getRank(percentile, size)];
+                assertEquals(expected, Percentiles.percentile(values.clone(), percentile));
+                assertEquals(expected, Percentiles.percentiles(values.clone(), percentile, 0)[0]);
+            }
+            Percentiles.FiveNumberSummary summary = Percentiles.getFiveNumberSummary(values.clone(), 0, size);
+            assertEquals(sorted[0], summary.getMin());
+            assertEquals(sorted[Percentiles.getRank(25, size)], summary.getQ1());
+            assertEquals(sorted[Percentiles.getRank(50, size)], summary.getMedian());
+            assertEquals(sorted[Percentiles.getRank(75, size)], summary.getQ3());
+            assertEquals(sorted[size - 1], summary.getMax());
+            assertEquals(sorted[size - 1], Percentiles.max(values, 0, size));
+        }
+    }
+
+    @Test
+    public void testRangesAndModes() {
+        double[] values = {9, 1, 5, 3, 7, 100, -1};
+        // only [1, 6) is looked at
+        assertEquals(5.0, Percentiles.percentile(values.clone(), 1, 6, 50));
+        assertEquals(100.0, Percentiles.max(values, 1, 6));
+        double[] sketched = Percentiles.percentiles(values.clone(), 1, 6, Percentiles.Mode.SKETCH, 50, 100);
+        assertEquals(5.0, sketched[0], 5.0 * QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+        assertEquals(100.0, sketched[1]);
+        assertThrows(NoSuchElementException.class, () -> Percentiles.percentile(new double[0], 50));
+
+        // CommonUtils.percentile no longer sorts the list it is given
+        List<Double> items = new ArrayList<>(List.of(3.0, 1.0, 2.0));
+        assertEquals(2.0, CommonUtils.percentile(50, items).doubleValue());
+        assertEquals(List.of(3.0, 1.0, 2.0), items);
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestQuantileSketch {
+
+    @Test
+    public void testMergedPercentilesWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        List<Double> values = new ArrayList<>();
+        QuantileSketch merged = new QuantileSketch();
+        for (int hour = 0; hour < 24; hour++) {
+            QuantileSketch hourly = new QuantileSketch();
+            for (int interval = 0; interval < 4; interval++) {
+                double value = random.nextDouble() * 4;
+                values.add(value);
+                hourly.add(value);
+            }
+            // rollups are persisted, the merged sketches are read back from bytes
+            merged.merge(QuantileSketch.fromBytes(hourly.toBytes()));
+        }
+        assertEquals(values.size(), merged.getCount());
+        for (int percentile : new int[]{0, 60, 98, 100}) {
+            double expected = CommonUtils.percentile(percentile, new ArrayList<>(values));
+            assertEquals(expected, merged.percentile(percentile), expected * QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+        }
+        assertEquals(CommonUtils.percentile(100, new ArrayList<>(values)), merged.getMax());
+    }
+
+    @Test
+    public void testZeroesAndEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertNull(sketch.percentile(50));
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(1024);
+        assertEquals(0.0, sketch.percentile(50).doubleValue());
+        assertEquals(1024.0, sketch.percentile(100).doubleValue());
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestExperimentCache {
+    private static final String EXPERIMENT = "exp-1";
+
+    private final ExperimentCache cache = ExperimentCache.getInstance();
+    private Integer cacheSize;
+    private Integer ttlInMinutes;
+
+    @BeforeEach
+    public void setUp() {
+        cacheSize = KruizeDeploymentInfo.experiment_cache_size;
+        ttlInMinutes = KruizeDeploymentInfo.experiment_cache_ttl_in_minutes;
+        KruizeDeploymentInfo.experiment_cache_size = 10;
+        KruizeDeploymentInfo.experiment_cache_ttl_in_minutes = 15;
+        cache.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.clear();
+        KruizeDeploymentInfo.experiment_cache_size = cacheSize;
+        KruizeDeploymentInfo.experiment_cache_ttl_in_minutes = ttlInMinutes;
+    }
+
+    @Test
+    public void getReturnsIndependentCopies() {
+        CreateExperimentAPIObject experiment = experiment();
+        cache.put(EXPERIMENT, experiment, cache.getVersion());
+
+        // changes to the object which was put must not reach the cache
+        experiment.setMode("auto");
+        CreateExperimentAPIObject first = cache.get(EXPERIMENT);
+        assertNotNull(first);
+        assertNotSame(experiment, first);
+        assertEquals("monitor", first.getMode());
+        assertEquals("exp-id", first.getExperiment_id());
+        assertEquals(AnalyzerConstants.ExperimentStatus.IN_PROGRESS, first.getStatus());
+
+        // nor changes to an object returned by get
+        first.setMode("auto");
+        CreateExperimentAPIObject second = cache.get(EXPERIMENT);
+        assertNotSame(first, second);
+        assertEquals("monitor", second.getMode());
+    }
+
+    @Test
+    public void invalidateRemovesEntryAndSkipsStaleLoads() {
+        long loadVersion = cache.getVersion();
+        cache.put(EXPERIMENT, experiment(), loadVersion);
+        assertNotNull(cache.get(EXPERIMENT));
+
+        cache.invalidate(EXPERIMENT);
+        assertNull(cache.get(EXPERIMENT));
+        assertTrue(cache.getVersion() > loadVersion);
+
+        // a load which started before the invalidation is not cached
+        cache.put(EXPERIMENT, experiment(), loadVersion);
+        assertNull(cache.get(EXPERIMENT));
+    }
+
+    @Test
+    public void disabledCacheKeepsNothing() {
+        KruizeDeploymentInfo.experiment_cache_size = 0;
+        assertFalse(cache.isEnabled());
+        cache.put(EXPERIMENT, experiment(), cache.getVersion());
+        KruizeDeploymentInfo.experiment_cache_size = 10;
+        assertNull(cache.get(EXPERIMENT));
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        KruizeDeploymentInfo.experiment_cache_size = 2;
+        cache.put("exp-a", experiment(), cache.getVersion());
+        cache.put("exp-b", experiment(), cache.getVersion());
+        assertNotNull(cache.get("exp-a"));
+        cache.put("exp-c", experiment(), cache.getVersion());
+
+        assertNotNull(cache.get("exp-a"));
+        assertNull(cache.get("exp-b"));
+        assertNotNull(cache.get("exp-c"));
+    }
+
+    private static CreateExperimentAPIObject experiment() {
+        CreateExperimentAPIObject experiment = new CreateExperimentAPIObject();
+        experiment.setExperimentName(EXPERIMENT);
+        experiment.setMode("monitor");
+        experiment.setExperiment_id("exp-id");
+        experiment.setStatus(AnalyzerConstants.ExperimentStatus.IN_PROGRESS);
+        return experiment;
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestJsonNodeTreeWriter {
+
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().enableComplexMapKeySerialization().create();
+
+    @Test
+    public void testMatchesStringRoundTrip() throws Exception {
+        Map<String, Object> container = new LinkedHashMap<>();
+        container.put("container_name", "tfb-server-1");
+        container.put("avg", 12.5);
+        container.put("count", 3);
+        container.put("flags", Arrays.asList(true, false));
+        container.put("html", "<a & b>");
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("kubernetes_objects", List.of(container, Collections.emptyMap()));
+
+        JsonNode expected = new ObjectMapper().readTree(gson.toJson(root));
+        JsonNode actual = JsonNodeTreeWriter.toJsonNode(gson, root);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testNullsAreSkipped() {
+        JsonNode actual = JsonNodeTreeWriter.toJsonNode(gson, new Holder("a", null));
+        assertFalse(actual.has("value"));
+        assertEquals("a", actual.get("name").asText());
+    }
+
+    @Test
+    public void testJsonValue() throws Exception {
+        JsonNodeTreeWriter writer = new JsonNodeTreeWriter();
+        writer.beginObject();
+        writer.name("raw").jsonValue("{\"values\": [1, 2.5, \"a\"], \"empty\": null}");
+        writer.name("number").jsonValue("42");
+        writer.endObject();
+
+        JsonNode expected = new ObjectMapper().readTree("{\"raw\": {\"values\": [1, 2.5, \"a\"], \"empty\": null}, \"number\": 42}");
+        assertEquals(expected, writer.get());
+    }
+
+    @Test
+    public void testMalformedJsonValue() throws Exception {
+        JsonNodeTreeWriter writer = new JsonNodeTreeWriter();
+        writer.beginArray();
+        assertThrows(IOException.class, () -> writer.jsonValue("{\"values\": ["));
+    }
+
+    private static class Holder {
+        private final String name;
+        private final Double value;
+
+        Holder(String name, Double value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPartitionRegistry {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+    private static final String PARTITION = PartitionRegistry.getPartitionName(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY);
+
+    @Test
+    public void testFailedLoadBacksOff() {
+        AtomicLong now = new AtomicLong(1000);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger(0);
+        PartitionRegistry registry = new PartitionRegistry(() -> {
+            loads.incrementAndGet();
+            if (failures.get() > 0) {
+                failures.decrementAndGet();
+                throw new IllegalStateException("connection refused");
+            }
+            return List.of(PARTITION);
+        }, now::get);
+
+        assertTrue(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        assertEquals(1, loads.get());
+
+        // the reload fails, the previous partitions are kept and the DB is not queried again before the retry delay
+        failures.set(1);
+        registry.invalidate();
+        assertTrue(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        assertEquals(2, loads.get());
+        for (int i = 0; i < 100; i++) {
+            registry.invalidate();
+            assertTrue(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        }
+        assertEquals(2, loads.get());
+
+        now.addAndGet(PartitionRegistry.RETRY_DELAY_MILLIS);
+        assertTrue(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        assertEquals(3, loads.get());
+        assertFalse(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY.plusDays(1)));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testFirstLoadFailure() {
+        AtomicLong now = new AtomicLong(1000);
+        AtomicInteger loads = new AtomicInteger();
+        PartitionRegistry registry = new PartitionRegistry(() -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("connection refused");
+        }, now::get);
+
+        assertFalse(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        assertFalse(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+        assertEquals(1, loads.get());
+        registry.markCreated(PARTITION);
+        assertTrue(registry.exists(DBConstants.TABLE_NAMES.KRUIZE_RESULTS, DAY));
+    }
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.objects.MappedRecommendationForTimestamp;
+import com.autotune.common.data.ValidationOutputData;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.k8sObjects.K8sObject;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRecommendationCache {
+    private static final String EXPERIMENT = "exp-1";
+    private static final Timestamp END = Timestamp.valueOf("2024-01-01 00:15:00");
+
+    private final RecommendationCache cache = RecommendationCache.getInstance();
+
+    @BeforeEach
+    public void enable() {
+        KruizeDeploymentInfo.recommendation_cache_size = 10;
+        cache.clear();
+    }
+
+    @AfterEach
+    public void disable() {
+        KruizeDeploymentInfo.recommendation_cache_size = 0;
+        cache.clear();
+    }
+
+    private static KruizeObject getKruizeObject() {
+        ContainerData containerData = new ContainerData("app", "app:1", null, new HashMap<>());
+        MappedRecommendationForTimestamp recommendation = new MappedRecommendationForTimestamp();
+        recommendation.setMonitoringEndTime(END);
+        containerData.getContainerRecommendations().getData().put(END, recommendation);
+        HashMap<Timestamp, IntervalResults> results = new HashMap<>();
+        results.put(END, new IntervalResults(new Timestamp(END.getTime() - 15 * 60 * 1000), END));
+        containerData.setResults(results);
+        K8sObject k8sObject = new K8sObject("deployment-1", "deployment", "default");
+        HashMap<String, ContainerData> containerDataMap = new HashMap<>();
+        containerDataMap.put("app", containerData);
+        k8sObject.setContainerDataMap(containerDataMap);
+        KruizeObject kruizeObject = new KruizeObject();
+        kruizeObject.setExperimentName(EXPERIMENT);
+        kruizeObject.setClusterName("cluster-1");
+        kruizeObject.setKubernetes_objects(List.of(k8sObject));
+        kruizeObject.setValidation_data(new ValidationOutputData(true, null, null));
+        return kruizeObject;
+    }
+
+    private static ContainerData getContainerData(KruizeObject kruizeObject) {
+        return kruizeObject.getKubernetes_objects().get(0).getContainerDataMap().get("app");
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        assertNull(cache.get(EXPERIMENT, END, 4));
+        KruizeObject kruizeObject = getKruizeObject();
+        cache.put(EXPERIMENT, END, 4, kruizeObject, cache.getVersion());
+        // the experiment being generated keeps its results
+        assertEquals(1, getContainerData(kruizeObject).getResults().size());
+
+        KruizeObject cached = cache.get(EXPERIMENT, END, 4);
+        assertNotNull(cached);
+        assertNotSame(kruizeObject, cached);
+        assertEquals("cluster-1", cached.getClusterName());
+        assertTrue(cached.getValidation_data().isSuccess());
+        ContainerData containerData = getContainerData(cached);
+        assertTrue(containerData.getResults().isEmpty());
+        assertEquals(END, containerData.getContainerRecommendations().getData().get(END).getMonitoringEndTime());
+
+        assertNull(cache.get(EXPERIMENT, new Timestamp(END.getTime() + 15 * 60 * 1000), 4));
+        assertNull(cache.get("exp-2", END, 4));
+    }
+
+    @Test
+    public void testCopiesAreNotShared() {
+        KruizeObject kruizeObject = getKruizeObject();
+        cache.put(EXPERIMENT, END, 4, kruizeObject, cache.getVersion());
+        getContainerData(kruizeObject).getContainerRecommendations().getData().clear();
+
+        KruizeObject cached = cache.get(EXPERIMENT, END, 4);
+        assertEquals(1, getContainerData(cached).getContainerRecommendations().getData().size());
+        getContainerData(cached).getContainerRecommendations().getData().clear();
+        cached.getValidation_data().setSuccess(false);
+
+        KruizeObject cachedAgain = cache.get(EXPERIMENT, END, 4);
+        assertNotSame(cached, cachedAgain);
+        assertEquals(1, getContainerData(cachedAgain).getContainerRecommendations().getData().size());
+        assertTrue(cachedAgain.getValidation_data().isSuccess());
+    }
+
+    @Test
+    public void testDataVersionChange() {
+        cache.put(EXPERIMENT, END, 4, getKruizeObject(), cache.getVersion());
+        // more results in the window, the entry is dropped
+        assertNull(cache.get(EXPERIMENT, END, 5));
+        assertNull(cache.get(EXPERIMENT, END, 4));
+    }
+
+    @Test
+    public void testInvalidate() {
+        long version = cache.getVersion();
+        cache.put(EXPERIMENT, END, 4, getKruizeObject(), version);
+        cache.put("exp-2", END, 4, getKruizeObject(), version);
+        cache.invalidate(EXPERIMENT);
+        assertNull(cache.get(EXPERIMENT, END, 4));
+        assertNotNull(cache.get("exp-2", END, 4));
+
+        // generated across the invalidation, not cached
+        cache.put(EXPERIMENT, END, 4, getKruizeObject(), version);
+        assertNull(cache.get(EXPERIMENT, END, 4));
+        cache.put(EXPERIMENT, END, 4, getKruizeObject(), cache.getVersion());
+        assertNotNull(cache.get(EXPERIMENT, END, 4));
+    }
+
+    @Test
+    public void testDisabled() {
+        KruizeDeploymentInfo.recommendation_cache_size = 0;
+        cache.put(EXPERIMENT, END, 4, getKruizeObject(), cache.getVersion());
+        assertNull(cache.get(EXPERIMENT, END, 4));
+    }
+}
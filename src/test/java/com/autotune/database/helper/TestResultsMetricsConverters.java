@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.k8sObjects.K8sObject;
+import com.autotune.database.table.KruizeResultsMetricsEntry;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResultsMetricsConverters {
+
+    @Test
+    public void testRoundTrip() {
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+
+        MetricAggregationInfoResults aggregationInfoResults = new MetricAggregationInfoResults();
+        aggregationInfoResults.setAvg(0.5);
+        aggregationInfoResults.setMax(0.9);
+        aggregationInfoResults.setSum(4.5);
+        aggregationInfoResults.setFormat("cores");
+        MetricResults metricResults = new MetricResults();
+        metricResults.setName(AnalyzerConstants.MetricName.cpuUsage.name());
+        metricResults.setAggregationInfoResult(aggregationInfoResults);
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuUsage, metricResults);
+        IntervalResults intervalResults = new IntervalResults(start, end);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        resultsMap.put(end, intervalResults);
+        ContainerData containerData = new ContainerData("tfb-server-1", "kruize/tfb-qrh:1.13.2.F_et17", null, new HashMap<>());
+        containerData.setResults(resultsMap);
+        K8sObject k8sObject = new K8sObject("tfb-qrh-sample", "deployment", "default");
+        HashMap<String, ContainerData> containerDataMap = new HashMap<>();
+        containerDataMap.put(containerData.getContainer_name(), containerData);
+        k8sObject.setContainerDataMap(containerDataMap);
+        ExperimentResultData experimentResultData = new ExperimentResultData();
+        experimentResultData.setExperiment_name("quarkus-resteasy-kruize-min-http-response-time-db");
+        experimentResultData.setIntervalStartTime(start);
+        experimentResultData.setIntervalEndTime(end);
+        experimentResultData.setKubernetes_objects(List.of(k8sObject));
+
+        List<KruizeResultsMetricsEntry> entries = DBHelpers.Converters.KruizeObjectConverters.convertExperimentResultToResultsMetricsEntries(experimentResultData);
+        assertNotNull(entries);
+        assertEquals(1, entries.size());
+        assertEquals(0.9, entries.get(0).getMax().doubleValue());
+
+        ExperimentResultData converted = DBHelpers.Converters.KruizeObjectConverters.convertResultsMetricsEntriesToExperimentResultData(entries, "v2.0", null);
+        assertEquals(end, converted.getIntervalEndTime());
+        K8sObject convertedK8sObject = converted.getKubernetes_objects().get(0);
+        assertEquals("default", convertedK8sObject.getNamespace());
+        ContainerData convertedContainerData = convertedK8sObject.getContainerDataMap().get("tfb-server-1");
+        MetricResults convertedMetricResults = convertedContainerData.getResults().get(end).getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
+        assertEquals(0.5, convertedMetricResults.getAggregationInfoResult().getAvg().doubleValue());
+        assertEquals("cores", convertedMetricResults.getAggregationInfoResult().getFormat());
+        assertNull(convertedMetricResults.getAggregationInfoResult().getMin());
+        assertTrue(convertedContainerData.getMetrics().containsKey(AnalyzerConstants.MetricName.cpuUsage));
+    }
+
+    @Test
+    public void testUnknownMetricNameIsSkipped() {
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+        KruizeResultsMetricsEntry known = metricsEntry(start, end, AnalyzerConstants.MetricName.memoryUsage.name(), 100.0);
+        KruizeResultsMetricsEntry unknown = metricsEntry(start, end, "metricOfANewerVersion", 5.0);
+
+        ExperimentResultData converted = DBHelpers.Converters.KruizeObjectConverters.convertResultsMetricsEntriesToExperimentResultData(
+                List.of(unknown, known), "v2.0", null);
+        ContainerData convertedContainerData = converted.getKubernetes_objects().get(0).getContainerDataMap().get("tfb-server-1");
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = convertedContainerData.getResults().get(end).getMetricResultsMap();
+        assertEquals(1, metricResultsMap.size());
+        assertEquals(100.0, metricResultsMap.get(AnalyzerConstants.MetricName.memoryUsage).getAggregationInfoResult().getAvg().doubleValue());
+    }
+
+    @Test
+    public void testUnknownMetricNameIsNotTyped() {
+        Timestamp start = Timestamp.valueOf("2024-01-01 00:00:00");
+        Timestamp end = Timestamp.valueOf("2024-01-01 00:15:00");
+        MetricResults metricResults = new MetricResults();
+        metricResults.setName("metricOfANewerVersion");
+        metricResults.setAggregationInfoResult(new MetricAggregationInfoResults());
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuUsage, metricResults);
+        IntervalResults intervalResults = new IntervalResults(start, end);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        resultsMap.put(end, intervalResults);
+        ContainerData containerData = new ContainerData("tfb-server-1", "kruize/tfb-qrh:1.13.2.F_et17", null, new HashMap<>());
+        containerData.setResults(resultsMap);
+        K8sObject k8sObject = new K8sObject("tfb-qrh-sample", "deployment", "default");
+        HashMap<String, ContainerData> containerDataMap = new HashMap<>();
+        containerDataMap.put(containerData.getContainer_name(), containerData);
+        k8sObject.setContainerDataMap(containerDataMap);
+        ExperimentResultData experimentResultData = new ExperimentResultData();
+        experimentResultData.setExperiment_name("quarkus-resteasy-kruize-min-http-response-time-db");
+        experimentResultData.setIntervalStartTime(start);
+        experimentResultData.setIntervalEndTime(end);
+        experimentResultData.setKubernetes_objects(List.of(k8sObject));
+
+        // kept in the extended_data only
+        assertNull(DBHelpers.Converters.KruizeObjectConverters.convertExperimentResultToResultsMetricsEntries(experimentResultData));
+    }
+
+    private static KruizeResultsMetricsEntry metricsEntry(Timestamp start, Timestamp end, String metricName, double avg) {
+        KruizeResultsMetricsEntry entry = new KruizeResultsMetricsEntry();
+        entry.setExperiment_name("quarkus-resteasy-kruize-min-http-response-time-db");
+        entry.setInterval_start_time(start);
+        entry.setInterval_end_time(end);
+        entry.setK8s_object_name("tfb-qrh-sample");
+        entry.setK8s_object_type("deployment");
+        entry.setNamespace("default");
+        entry.setContainer_name("tfb-server-1");
+        entry.setMetric_name(metricName);
+        entry.setAvg(avg);
+        entry.setFormat("MiB");
+        return entry;
+    }
+}
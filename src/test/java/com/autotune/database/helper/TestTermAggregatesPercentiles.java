@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+
+package com.autotune.database.helper;
+
+import com.autotune.common.utils.Percentiles;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.*;
+import static com.autotune.database.helper.DBConstants.SQLQUERY.SELECT_TERM_AGGREGATES_FROM_RESULTS_METRICS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The term aggregates pushed down to the DB must pick the same values as the percentiles computed in memory.
+ */
+public class TestTermAggregatesPercentiles {
+
+    private static final Pattern RANK = Pattern.compile(
+            "\\(ARRAY_AGG\\((\\w+) ORDER BY (\\w+)\\)\\)\\[CAST\\(ROUND\\(:(\\w+) \\* \\(COUNT\\(\\*\\) - 1\\) / 100\\.0\\) AS INTEGER\\) \\+ 1\\]");
+
+    private static final int[] PERCENTILES = {COST_CPU_PERCENTILE, COST_MEMORY_PERCENTILE, PERFORMANCE_CPU_PERCENTILE,
+            PERFORMANCE_MEMORY_PERCENTILE, 0, 1, 10, 25, 33, 50, 67, 75, 90, 95, 99};
+
+    @Test
+    public void testQueryUsesNearestRank() {
+        Matcher matcher = RANK.matcher(SELECT_TERM_AGGREGATES_FROM_RESULTS_METRICS);
+        int count = 0;
+        while (matcher.find()) {
+            assertEquals(matcher.group(1), matcher.group(2));
+            assertTrue(matcher.group(3).endsWith("Percentile"), matcher.group(3));
+            count++;
+        }
+        assertEquals(6, count);
+        assertEquals(count, SELECT_TERM_AGGREGATES_FROM_RESULTS_METRICS.split("ARRAY_AGG", -1).length - 1);
+    }
+
+    @Test
+    public void testQueryRankIsPercentilesRank() {
+        for (int percentile : PERCENTILES) {
+            for (int size = 1; size < 5000; size++) {
+                assertEquals(Percentiles.getRank(percentile, size), getQueryRank(percentile, size) - 1,
+                        "percentile " + percentile + " of " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testQueryPicksSameValuesAsPercentiles() {
+        Random random = new Random(7);
+        for (int size : new int[]{1, 2, 5, 96, 97, 672, 2880}) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(size / 3 + 1) * 0.5;
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double[] percentiles = Arrays.stream(PERCENTILES).asDoubleStream().toArray();
+            double[] inMemory = Percentiles.percentiles(values.clone(), 0, size, Percentiles.Mode.EXACT, percentiles);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                // ARRAY_AGG arrays are 1-based
+                assertEquals(sorted[getQueryRank(PERCENTILES[i], size) - 1], inMemory[i],
+                        "percentile " + PERCENTILES[i] + " of " + size);
+            }
+        }
+    }
+
+    /**
+     * Rank of the query, the integer percentile times the bigint count is exact and postgres rounds the numeric
+     * division half away from zero.
+     */
+    private static int getQueryRank(int percentile, int size) {
+        return BigDecimal.valueOf((long) percentile * (size - 1))
+                .divide(BigDecimal.valueOf(100))
+                .setScale(0, RoundingMode.HALF_UP)
+                .intValue() + 1;
+    }
+}
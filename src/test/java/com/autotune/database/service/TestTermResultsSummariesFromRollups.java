@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+
+package com.autotune.database.service;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.objects.TermResultsSummary;
+import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricResults;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.ContainerResultsSeries;
+import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.k8sObjects.K8sObject;
+import com.autotune.database.dao.ExperimentDAO;
+import com.autotune.database.helper.DBHelpers;
+import com.autotune.database.helper.ResultsRollup;
+import com.autotune.database.table.KruizeResultsDailyRollupEntry;
+import com.autotune.database.table.KruizeResultsMetricsEntry;
+import com.autotune.database.table.KruizeResultsRollupEntry;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Timestamp;
+import java.util.*;
+
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationEngine.PercentileConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The terms built from the rollups must match the terms built from every result of the term, within the accuracy
+ * of the sketches.
+ */
+public class TestTermResultsSummariesFromRollups {
+
+    private static final String EXPERIMENT_NAME = "quarkus-resteasy-kruize-min-http-response-time-db";
+    private static final String CLUSTER_NAME = "default";
+    private static final String K8S_OBJECT_NAME = "tfb-qrh-sample";
+    private static final String NAMESPACE = "default";
+    private static final String CONTAINER_NAME = "tfb-server-1";
+    private static final Timestamp END = Timestamp.valueOf("2024-01-16 10:30:00");
+    private static final int[] CPU_PERCENTILES = {COST_CPU_PERCENTILE, PERFORMANCE_CPU_PERCENTILE};
+    private static final int[] MEMORY_PERCENTILES = {COST_MEMORY_PERCENTILE, PERFORMANCE_MEMORY_PERCENTILE};
+    private static final Map<String, Integer> TERM_DAYS = Map.of("short_term", 1, "medium_term", 7, "long_term", 15);
+
+    private final NavigableMap<Timestamp, ExperimentResultData> results = new TreeMap<>();
+    private final List<KruizeResultsMetricsEntry> resultsMetrics = new ArrayList<>();
+    private final Map<Class<?>, NavigableMap<Timestamp, KruizeResultsRollupEntry>> rollups = new HashMap<>();
+    private final HashMap<Timestamp, IntervalResults> containerResults = new HashMap<>();
+    private final List<Long> resultsMetricsLoadMinutes = new ArrayList<>();
+    private Boolean typedResultsMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        typedResultsMetrics = KruizeDeploymentInfo.typed_results_metrics;
+        KruizeDeploymentInfo.typed_results_metrics = true;
+        ExperimentDBService rollupsBuilder = new ExperimentDBService(getExperimentDAO());
+        Random random = new Random(11);
+        for (Timestamp end = Timestamp.valueOf(END.toLocalDateTime().minusDays(16)); !end.after(END);
+             end = Timestamp.valueOf(end.toLocalDateTime().plusMinutes(15))) {
+            ExperimentResultData resultData = getResultData(Timestamp.valueOf(end.toLocalDateTime().minusMinutes(15)), end, random);
+            results.put(end, resultData);
+            resultsMetrics.addAll(DBHelpers.Converters.KruizeObjectConverters.convertExperimentResultToResultsMetricsEntries(resultData));
+            containerResults.put(end, resultData.getKubernetes_objects().get(0).getContainerDataMap().get(CONTAINER_NAME).getResults().get(end));
+            // merged into the rows the same way as when the results are saved
+            for (KruizeResultsRollupEntry rollupDelta : rollupsBuilder.getResultsRollupDeltas(resultData)) {
+                KruizeResultsRollupEntry rollupEntry = rollups.computeIfAbsent(rollupDelta.getClass(), k -> new TreeMap<>())
+                        .putIfAbsent(rollupDelta.getBucket_start(), rollupDelta);
+                if (null != rollupEntry) {
+                    ResultsRollup rollup = new ResultsRollup(rollupEntry);
+                    rollup.merge(new ResultsRollup(rollupDelta));
+                    rollup.writeTo(rollupEntry);
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        KruizeDeploymentInfo.typed_results_metrics = typedResultsMetrics;
+    }
+
+    @Test
+    public void testRollupTermsMatchResults() throws Exception {
+        Map<String, TermResultsSummary> termResultsSummaries = loadTermResultsSummaries();
+        assertEquals(TERM_DAYS.keySet(), termResultsSummaries.keySet());
+        for (Map.Entry<String, TermResultsSummary> termResultsSummary : termResultsSummaries.entrySet()) {
+            assertSameTerm(termResultsSummary.getKey(), termResultsSummary.getValue());
+        }
+        // only the partial hours at the ends of the terms are read from the results
+        assertFalse(resultsMetricsLoadMinutes.isEmpty());
+        resultsMetricsLoadMinutes.forEach(minutes -> assertTrue(minutes < 60, minutes + " minutes of results loaded"));
+    }
+
+    @Test
+    public void testTermMissingRollupsIsBuiltFromResults() throws Exception {
+        // e.g. results saved before the rollups were enabled
+        rollups.get(KruizeResultsDailyRollupEntry.class).remove(Timestamp.valueOf("2024-01-12 00:00:00"));
+        Map<String, TermResultsSummary> termResultsSummaries = loadTermResultsSummaries();
+        assertEquals(TERM_DAYS.keySet(), termResultsSummaries.keySet());
+        for (Map.Entry<String, TermResultsSummary> termResultsSummary : termResultsSummaries.entrySet()) {
+            assertSameTerm(termResultsSummary.getKey(), termResultsSummary.getValue());
+        }
+    }
+
+    private Map<String, TermResultsSummary> loadTermResultsSummaries() throws Exception {
+        KruizeObject kruizeObject = new KruizeObject();
+        kruizeObject.setExperimentName(EXPERIMENT_NAME);
+        kruizeObject.setClusterName(CLUSTER_NAME);
+        K8sObject k8sObject = new K8sObject(K8S_OBJECT_NAME, "deployment", NAMESPACE);
+        Map<String, Timestamp> termStartTimes = new HashMap<>();
+        Map<String, Integer> expectedIntervalCounts = new HashMap<>();
+        for (Map.Entry<String, Integer> termDays : TERM_DAYS.entrySet()) {
+            Timestamp start = getTermStartTime(termDays.getKey());
+            termStartTimes.put(termDays.getKey(), start);
+            expectedIntervalCounts.put(termDays.getKey(), results.subMap(start, true, END, true).size());
+        }
+        return new ExperimentDBService(getExperimentDAO()).loadTermResultsSummariesFromRollups(kruizeObject, k8sObject, CONTAINER_NAME,
+                END, termStartTimes, expectedIntervalCounts);
+    }
+
+    private void assertSameTerm(String term, TermResultsSummary actual) {
+        ContainerData containerData = new ContainerData(CONTAINER_NAME, null, null, new HashMap<>());
+        containerData.setResults(containerResults);
+        ContainerResultsSeries series = containerData.getResultsSeries();
+        TermResultsSummary expected = RecommendationUtils.getTermResultsSummary(series, series.fromIndex(getTermStartTime(term)),
+                series.toIndex(END), CPU_PERCENTILES, MEMORY_PERCENTILES);
+        assertEquals(expected.getIntervalCount(), actual.getIntervalCount(), term);
+        assertEquals(expected.getPodsCount(), actual.getPodsCount(), term);
+        assertEquals(expected.getCpuRequestMax(), actual.getCpuRequestMax(), term);
+        for (int percentile : CPU_PERCENTILES) {
+            assertClose(expected.getCpuRequestPercentile(percentile), actual.getCpuRequestPercentile(percentile), term);
+        }
+        for (int percentile : MEMORY_PERCENTILES) {
+            assertClose(expected.getMemoryUsagePercentile(percentile), actual.getMemoryUsagePercentile(percentile), term);
+            assertClose(expected.getMemorySpikePercentile(percentile), actual.getMemorySpikePercentile(percentile), term);
+        }
+        assertEquals(expected.getCpuFormat(), actual.getCpuFormat(), term);
+        assertEquals(expected.getMemoryFormat(), actual.getMemoryFormat(), term);
+    }
+
+    private static void assertClose(double expected, double actual, String term) {
+        // the sketches estimate the percentiles within 1% of the exact value
+        assertEquals(expected, actual, Math.abs(expected) * 0.01 + 1e-9, term);
+    }
+
+    private static Timestamp getTermStartTime(String term) {
+        return Timestamp.valueOf(END.toLocalDateTime().minusDays(TERM_DAYS.get(term)));
+    }
+
+    /**
+     * DAO serving the loads of a container from the results and rollups of the test, any other load fails the test.
+     */
+    private ExperimentDAO getExperimentDAO() {
+        return (ExperimentDAO) Proxy.newProxyInstance(ExperimentDAO.class.getClassLoader(), new Class<?>[]{ExperimentDAO.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "loadResultsVersionAndTimesByExperimentName" -> {
+                        List<Object[]> versionAndTimes = new ArrayList<>();
+                        for (ExperimentResultData resultData : results.subMap((Timestamp) args[2], true, (Timestamp) args[3], true).values()) {
+                            versionAndTimes.add(new Object[]{resultData.getVersion(), resultData.getIntervalStartTime(), resultData.getIntervalEndTime()});
+                        }
+                        yield versionAndTimes;
+                    }
+                    case "loadResultsMetricsByContainer" -> {
+                        assertEquals(List.of(EXPERIMENT_NAME, K8S_OBJECT_NAME, NAMESPACE, CONTAINER_NAME), Arrays.asList(args).subList(0, 4));
+                        resultsMetricsLoadMinutes.add((((Timestamp) args[5]).getTime() - ((Timestamp) args[4]).getTime()) / 60000);
+                        List<KruizeResultsMetricsEntry> resultsMetricsEntries = new ArrayList<>();
+                        for (KruizeResultsMetricsEntry resultsMetricsEntry : resultsMetrics) {
+                            if (!resultsMetricsEntry.getInterval_end_time().before((Timestamp) args[4])
+                                    && !resultsMetricsEntry.getInterval_end_time().after((Timestamp) args[5]))
+                                resultsMetricsEntries.add(resultsMetricsEntry);
+                        }
+                        yield resultsMetricsEntries;
+                    }
+                    case "loadResultsRollupsByContainer" -> new ArrayList<>(rollups.getOrDefault((Class<?>) args[0], new TreeMap<>())
+                            .subMap((Timestamp) args[5], true, (Timestamp) args[6], false).values());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static ExperimentResultData getResultData(Timestamp start, Timestamp end, Random random) {
+        int pods = 1 + random.nextInt(3);
+        double cpuUsage = 0.1 + random.nextDouble() * 2;
+        double cpuThrottle = random.nextDouble() * 0.1;
+        double memoryUsage = 100 + random.nextDouble() * 400;
+        double memoryRSS = memoryUsage * 0.8;
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuUsage, getMetricResults(AnalyzerConstants.MetricName.cpuUsage,
+                cpuUsage, cpuUsage * 0.5, cpuUsage * (1 + random.nextDouble()), cpuUsage * pods, "cores"));
+        metricResultsMap.put(AnalyzerConstants.MetricName.cpuThrottle, getMetricResults(AnalyzerConstants.MetricName.cpuThrottle,
+                cpuThrottle, 0.0, cpuThrottle * 2, cpuThrottle * pods, "cores"));
+        metricResultsMap.put(AnalyzerConstants.MetricName.memoryUsage, getMetricResults(AnalyzerConstants.MetricName.memoryUsage,
+                memoryUsage, memoryUsage * 0.8, memoryUsage * (1 + random.nextDouble() * 0.5), memoryUsage * pods, "MiB"));
+        metricResultsMap.put(AnalyzerConstants.MetricName.memoryRSS, getMetricResults(AnalyzerConstants.MetricName.memoryRSS,
+                memoryRSS, memoryRSS * 0.9, memoryRSS * 1.1, memoryRSS * pods, "MiB"));
+        IntervalResults intervalResults = new IntervalResults(start, end);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        resultsMap.put(end, intervalResults);
+        ContainerData containerData = new ContainerData(CONTAINER_NAME, "kruize/tfb-qrh:1.13.2.F_et17", null, new HashMap<>());
+        containerData.setResults(resultsMap);
+        K8sObject k8sObject = new K8sObject(K8S_OBJECT_NAME, "deployment", NAMESPACE);
+        HashMap<String, ContainerData> containerDataMap = new HashMap<>();
+        containerDataMap.put(CONTAINER_NAME, containerData);
+        k8sObject.setContainerDataMap(containerDataMap);
+        ExperimentResultData resultData = new ExperimentResultData();
+        resultData.setVersion("v2.0");
+        resultData.setExperiment_name(EXPERIMENT_NAME);
+        resultData.setCluster_name(CLUSTER_NAME);
+        resultData.setIntervalStartTime(start);
+        resultData.setIntervalEndTime(end);
+        resultData.setKubernetes_objects(List.of(k8sObject));
+        return resultData;
+    }
+
+    private static MetricResults getMetricResults(AnalyzerConstants.MetricName metricName, double avg, double min, double max,
+                                                  double sum, String format) {
+        MetricAggregationInfoResults aggregationInfoResults = new MetricAggregationInfoResults();
+        aggregationInfoResults.setAvg(avg);
+        aggregationInfoResults.setMin(min);
+        aggregationInfoResults.setMax(max);
+        aggregationInfoResults.setSum(sum);
+        aggregationInfoResults.setFormat(format);
+        MetricResults metricResults = new MetricResults();
+        metricResults.setName(metricName.name());
+        metricResults.setAggregationInfoResult(aggregationInfoResults);
+        return metricResults;
+    }
+}
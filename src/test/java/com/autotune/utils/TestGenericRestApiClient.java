@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.utils;
+
+import com.autotune.common.datasource.prometheus.PrometheusRangeResponseParser;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGenericRestApiClient {
+
+    private static BasicHttpResponse getResponse(int status, String body, ContentType contentType) {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status, null);
+        response.setEntity(new StringEntity(body, contentType));
+        return response;
+    }
+
+    @Test
+    public void testJsonErrorResponseIsRead() {
+        GenericRestApiClient.StreamResponseHandler<Map<String, PrometheusRangeResponseParser.Series>> handler =
+                new GenericRestApiClient.StreamResponseHandler<>(new PrometheusRangeResponseParser("container"));
+        String body = "{\"status\":\"error\",\"errorType\":\"bad_data\",\"error\":\"invalid parameter \\\"query\\\": parse error\"}";
+        IOException e = assertThrows(IOException.class, () -> handler.handleResponse(getResponse(400, body, ContentType.APPLICATION_JSON)));
+        assertTrue(e.getMessage().contains("parse error"));
+    }
+
+    @Test
+    public void testNonJsonErrorResponse() {
+        GenericRestApiClient.StreamResponseHandler<Map<String, PrometheusRangeResponseParser.Series>> handler =
+                new GenericRestApiClient.StreamResponseHandler<>(new PrometheusRangeResponseParser("container"));
+        ClientProtocolException e = assertThrows(ClientProtocolException.class,
+                () -> handler.handleResponse(getResponse(502, "Bad Gateway", ContentType.TEXT_PLAIN)));
+        assertTrue(e.getMessage().contains("502"));
+        // a JSON body the reader accepts does not hide the error status
+        assertThrows(ClientProtocolException.class,
+                () -> handler.handleResponse(getResponse(503, "{\"status\":\"success\",\"data\":{\"result\":[]}}", ContentType.APPLICATION_JSON)));
+    }
+}